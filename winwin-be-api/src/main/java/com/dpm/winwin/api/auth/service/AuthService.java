@@ -4,8 +4,10 @@ import static com.dpm.winwin.api.common.utils.CookieUtil.ACCESS_TOKEN;
 import static com.dpm.winwin.api.common.utils.CookieUtil.REFRESH_TOKEN;
 
 import com.dpm.winwin.api.common.utils.CookieUtil;
-import com.dpm.winwin.domain.entity.token.ExpiredToken;
+import com.dpm.winwin.api.jwt.TokenProvider;
 import com.dpm.winwin.domain.repository.token.ExpiredTokenRepository;
+import com.dpm.winwin.domain.repository.token.TokenDigest;
+import java.time.Duration;
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -20,6 +22,9 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final ExpiredTokenRepository expiredTokenRepository;
+    private final LogoutTokenFilter logoutTokenFilter;
+    private final TokenProvider tokenProvider;
+
     @Transactional
     public void logout(HttpServletRequest request, HttpServletResponse response) {
 
@@ -32,8 +37,19 @@ public class AuthService {
     private void saveExpiredToken(HttpServletRequest request) {
         Cookie cookie = CookieUtil.getCookie(request, ACCESS_TOKEN).orElseThrow();
         String jwt = cookie.getValue();
-        ExpiredToken expiredToken = new ExpiredToken(jwt);
-        expiredTokenRepository.save(expiredToken);
+        if (!tokenProvider.validateToken(jwt)) {
+            return;
+        }
+
+        // 토큰이 자연 만료되는 시점까지만 로그아웃 토큰으로 보관한다
+        Duration remainingLifetime = tokenProvider.getRemainingLifetime(jwt);
+        if (remainingLifetime.isNegative() || remainingLifetime.isZero()) {
+            return;
+        }
+
+        byte[] digest = TokenDigest.digest(jwt);
+        expiredTokenRepository.save(TokenDigest.encode(digest), remainingLifetime);
+        logoutTokenFilter.logout(digest);
     }
 
 }
@@ -0,0 +1,98 @@
+package com.dpm.winwin.api.auth.service;
+
+import com.dpm.winwin.api.common.utils.BloomFilter;
+import com.dpm.winwin.domain.repository.token.ExpiredTokenRepository;
+import com.dpm.winwin.domain.repository.token.TokenDigest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그아웃된 access token digest 를 담는 노드 로컬 Bloom filter.
+ * 필터에 없는 토큰은 Redis 조회 없이 로그아웃되지 않은 토큰으로 판단하고,
+ * 필터에 있는 경우(로그아웃 토큰 또는 false positive)에만 Redis 를 조회한다.
+ * 다른 노드의 로그아웃은 Redis pub/sub 으로 전파받는다.
+ * 재구성할 때마다 예전 형식(expiredToken:{토큰 원문})으로 남아 있는 로그아웃 토큰을 digest key 로 옮겨,
+ * 배포 이전이나 이전 버전 노드에서 로그아웃한 토큰도 다시 사용할 수 없게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LogoutTokenFilter implements MessageListener {
+
+    public static final String LOGOUT_TOKEN_CHANNEL = "logout-token";
+    private static final long EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    private final ExpiredTokenRepository expiredTokenRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile BloomFilter current = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+    private volatile BloomFilter rebuilding;
+    private volatile boolean ready;
+
+    public boolean mightBeLoggedOut(byte[] digest) {
+        // Redis 로부터 필터를 한 번도 구성하지 못했다면 항상 Redis 를 조회하도록 한다
+        return !ready || current.mightContain(digest);
+    }
+
+    public void logout(byte[] digest) {
+        put(digest);
+        stringRedisTemplate.convertAndSend(LOGOUT_TOKEN_CHANNEL, TokenDigest.encode(digest));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String encodedDigest = new String(message.getBody(), StandardCharsets.US_ASCII);
+        put(TokenDigest.decode(encodedDigest));
+    }
+
+    // 만료된 토큰을 필터에서 비우기 위해 주기적으로 재구성한다
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "PT1H", initialDelayString = "PT1H")
+    public synchronized void rebuild() {
+        BloomFilter bloomFilter = new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        rebuilding = bloomFilter;
+        try {
+            migrateLegacyTokens();
+            expiredTokenRepository.findAllDigests()
+                .forEach(digest -> bloomFilter.put(TokenDigest.decode(digest)));
+            current = bloomFilter;
+            ready = true;
+            log.info("로그아웃 토큰 Bloom filter 를 재구성했습니다.");
+        } catch (RuntimeException e) {
+            log.warn("로그아웃 토큰 Bloom filter 재구성에 실패했습니다. 기존 필터를 유지합니다.", e);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void migrateLegacyTokens() {
+        Map<String, Duration> legacyTokens = expiredTokenRepository.findAllLegacyTokens();
+        legacyTokens.forEach((accessToken, remainingLifetime) -> {
+            expiredTokenRepository.save(TokenDigest.encode(TokenDigest.digest(accessToken)), remainingLifetime);
+            expiredTokenRepository.deleteLegacyToken(accessToken);
+        });
+        if (!legacyTokens.isEmpty()) {
+            log.info("예전 형식의 로그아웃 토큰을 옮겼습니다. size : {}", legacyTokens.size());
+        }
+    }
+
+    // 재구성 중인 필터를 먼저 확인해야 교체 시점에 들어온 digest 가 유실되지 않는다
+    private void put(byte[] digest) {
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(digest);
+        }
+        current.put(digest);
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,20 +22,30 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
+    // etag 를 먼저 확인하므로 그 사이 snapshot 이 바뀌어도 클라이언트는 다음 요청에서 새 응답을 받는다
     @GetMapping("/main")
-    public BaseResponseDto<List<MainCategoryResponse>> getAllMainCategories() {
+    public BaseResponseDto<List<MainCategoryResponse>> getAllMainCategories(WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getEtag())) {
+            return null;
+        }
         return BaseResponseDto.ok(categoryService.getAllMainCategories());
     }
 
     @GetMapping("/mid")
     public BaseResponseDto<List<MidCategoryResponse>> getAllMidCategories(
-        @RequestParam(required = false) Long mainCategoryId) {
+        @RequestParam(required = false) Long mainCategoryId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getEtag())) {
+            return null;
+        }
         return BaseResponseDto.ok(categoryService.getAllMidCategories(mainCategoryId));
     }
 
     @GetMapping("/sub")
     public BaseResponseDto<List<SubCategoryResponse>> getAllSubCategories(
-        @RequestParam(required = false) Long midCategoryId) {
+        @RequestParam(required = false) Long midCategoryId, WebRequest webRequest) {
+        if (webRequest.checkNotModified(categoryService.getEtag())) {
+            return null;
+        }
         return BaseResponseDto.ok(categoryService.getAllSubCategories(midCategoryId));
     }
 
@@ -2,6 +2,7 @@ package com.dpm.winwin.api.category.dto;
 
 import java.util.List;
 
-public record MidCategoryResponse(Long id, String name, List<SubCategoryResponse> subCategories) {
+public record MidCategoryResponse(Long id, String name, long postCount, long sharePostCount,
+                                  List<SubCategoryResponse> subCategories) {
 
 }
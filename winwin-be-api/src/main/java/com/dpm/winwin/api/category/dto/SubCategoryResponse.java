@@ -1,5 +1,5 @@
 package com.dpm.winwin.api.category.dto;
 
-public record SubCategoryResponse(Long id, String name) {
+public record SubCategoryResponse(Long id, String name, long postCount, long sharePostCount) {
 
 }
@@ -0,0 +1,64 @@
+package com.dpm.winwin.api.category.registry;
+
+import com.dpm.winwin.domain.repository.category.MainCategoryRepository;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 카테고리 트리의 노드 로컬 snapshot.
+ * 트리 전체를 한 번의 쿼리로 읽어 불변 snapshot 으로 만들고, 내용(etag)이 바뀐 경우에만 참조를 교체한다.
+ * 요청은 교체 전/후 중 하나의 완전한 snapshot 만 보게 된다.
+ * 카테고리는 DB 에서 직접 관리하므로 변경은 주기적인 재조회로 반영한다.
+ * 카테고리별 게시물 수도 같은 쿼리로 읽으므로 재조회 주기만큼 늦게 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    private final MainCategoryRepository mainCategoryRepository;
+
+    private volatile CategorySnapshot snapshot;
+
+    public CategorySnapshot getSnapshot() {
+        CategorySnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                snapshot = load();
+            }
+            return snapshot;
+        }
+    }
+
+    public Optional<SubCategoryNode> findSubCategory(Long subCategoryId) {
+        return getSnapshot().findSubCategory(subCategoryId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${category.registry.refresh-interval:PT30S}",
+        initialDelayString = "${category.registry.refresh-interval:PT30S}")
+    public synchronized void refresh() {
+        try {
+            CategorySnapshot next = load();
+            CategorySnapshot current = snapshot;
+            if (current == null || !current.getEtag().equals(next.getEtag())) {
+                snapshot = next;
+                log.info("카테고리 snapshot 을 교체했습니다. etag : {}", next.getEtag());
+            }
+        } catch (RuntimeException e) {
+            log.warn("카테고리 snapshot 재구성에 실패했습니다. 기존 snapshot 을 유지합니다.", e);
+        }
+    }
+
+    private CategorySnapshot load() {
+        return CategorySnapshot.from(mainCategoryRepository.getCategoryTree());
+    }
+}
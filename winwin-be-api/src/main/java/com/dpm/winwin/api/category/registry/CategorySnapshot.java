@@ -0,0 +1,164 @@
+package com.dpm.winwin.api.category.registry;
+
+import com.dpm.winwin.api.category.dto.MainCategoryResponse;
+import com.dpm.winwin.api.category.dto.MidCategoryOfMainResponse;
+import com.dpm.winwin.api.category.dto.MidCategoryResponse;
+import com.dpm.winwin.api.category.dto.SubCategoryResponse;
+import com.dpm.winwin.domain.repository.category.dto.response.CategoryTreeRowResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Getter;
+
+/**
+ * 한 시점의 대분류 - 중분류 - 소분류 트리.
+ * 응답 목록과 id 색인을 생성 시점에 모두 만들어 두고 이후에는 변경하지 않으므로 잠금 없이 여러 요청이 공유한다.
+ * etag 는 트리 내용의 SHA-256 으로, 내용이 같으면 어느 노드에서 만들어도 같은 값이 된다.
+ * 트리 구조뿐 아니라 게시물 수도 포함하므로, 게시물이 작성되거나 삭제되면 다음 재조회에서 etag 가 바뀐다.
+ * (304 응답은 재조회 주기 사이의 반복 요청을 줄이는 용도이다)
+ */
+public class CategorySnapshot {
+
+    private static final int ETAG_BYTES = 16;
+
+    @Getter
+    private final String etag;
+    @Getter
+    private final List<MainCategoryResponse> mainCategories;
+    private final List<MidCategoryResponse> midCategories;
+    private final List<SubCategoryResponse> subCategories;
+    private final Map<Long, List<MidCategoryResponse>> midCategoriesByMainCategoryId;
+    private final Map<Long, List<SubCategoryResponse>> subCategoriesByMidCategoryId;
+    private final Map<Long, SubCategoryNode> subCategoryNodes;
+
+    private CategorySnapshot(String etag,
+                             List<MainCategoryResponse> mainCategories,
+                             List<MidCategoryResponse> midCategories,
+                             List<SubCategoryResponse> subCategories,
+                             Map<Long, List<MidCategoryResponse>> midCategoriesByMainCategoryId,
+                             Map<Long, List<SubCategoryResponse>> subCategoriesByMidCategoryId,
+                             Map<Long, SubCategoryNode> subCategoryNodes) {
+        this.etag = etag;
+        this.mainCategories = mainCategories;
+        this.midCategories = midCategories;
+        this.subCategories = subCategories;
+        this.midCategoriesByMainCategoryId = midCategoriesByMainCategoryId;
+        this.subCategoriesByMidCategoryId = subCategoriesByMidCategoryId;
+        this.subCategoryNodes = subCategoryNodes;
+    }
+
+    /**
+     * (대분류 id, 중분류 id, 소분류 id) 순서로 정렬된 행으로부터 트리를 만든다.
+     * 게시물 수는 소분류에만 저장되어 있으므로 중분류, 대분류는 하위 카테고리의 합계로 계산한다.
+     */
+    public static CategorySnapshot from(List<CategoryTreeRowResponse> rows) {
+        Map<Long, CategoryTreeRowResponse> mains = new LinkedHashMap<>();
+        Map<Long, List<CategoryTreeRowResponse>> midsByMain = new LinkedHashMap<>();
+        Map<Long, List<SubCategoryResponse>> subsByMid = new LinkedHashMap<>();
+        Map<Long, SubCategoryNode> nodes = new LinkedHashMap<>();
+        List<SubCategoryResponse> subCategories = new ArrayList<>();
+
+        for (CategoryTreeRowResponse row : rows) {
+            mains.putIfAbsent(row.mainCategoryId(), row);
+            List<CategoryTreeRowResponse> mids = midsByMain.computeIfAbsent(row.mainCategoryId(), id -> new ArrayList<>());
+            if (row.midCategoryId() == null) {
+                continue;
+            }
+            List<SubCategoryResponse> subs = subsByMid.get(row.midCategoryId());
+            if (subs == null) {
+                mids.add(row);
+                subs = new ArrayList<>();
+                subsByMid.put(row.midCategoryId(), subs);
+            }
+            if (row.subCategoryId() == null) {
+                continue;
+            }
+            SubCategoryResponse sub = new SubCategoryResponse(row.subCategoryId(), row.subCategoryName(),
+                count(row.subCategoryPostCount()), count(row.subCategorySharePostCount()));
+            subs.add(sub);
+            subCategories.add(sub);
+            nodes.put(row.subCategoryId(), new SubCategoryNode(row.mainCategoryId(), row.mainCategoryName(),
+                row.midCategoryId(), row.midCategoryName(), row.subCategoryId(), row.subCategoryName()));
+        }
+
+        List<MainCategoryResponse> mainCategories = new ArrayList<>();
+        List<MidCategoryResponse> midCategories = new ArrayList<>();
+        Map<Long, List<MidCategoryResponse>> midCategoriesByMain = new LinkedHashMap<>();
+        for (CategoryTreeRowResponse main : mains.values()) {
+            List<MidCategoryResponse> midResponses = midsByMain.get(main.mainCategoryId()).stream()
+                .map(mid -> toMidResponse(mid, subsByMid.get(mid.midCategoryId())))
+                .toList();
+            mainCategories.add(MainCategoryResponse.of(main.mainCategoryId(), main.mainCategoryName(),
+                main.mainCategoryImage(),
+                midResponses.stream().mapToLong(MidCategoryResponse::postCount).sum(),
+                midResponses.stream().mapToLong(MidCategoryResponse::sharePostCount).sum(),
+                midResponses.stream()
+                    .map(mid -> new MidCategoryOfMainResponse(mid.id(), mid.name(), mid.postCount(), mid.sharePostCount()))
+                    .toList()));
+            midCategories.addAll(midResponses);
+            midCategoriesByMain.put(main.mainCategoryId(), midResponses);
+        }
+
+        Map<Long, List<SubCategoryResponse>> subCategoriesByMid = new LinkedHashMap<>();
+        subsByMid.forEach((midCategoryId, subs) -> subCategoriesByMid.put(midCategoryId, List.copyOf(subs)));
+
+        return new CategorySnapshot(etag(rows), List.copyOf(mainCategories), List.copyOf(midCategories),
+            List.copyOf(subCategories), Map.copyOf(midCategoriesByMain), Map.copyOf(subCategoriesByMid),
+            Map.copyOf(nodes));
+    }
+
+    // mainCategoryId 가 없으면 전체 중분류를 돌려준다
+    public List<MidCategoryResponse> getMidCategories(Long mainCategoryId) {
+        if (mainCategoryId == null) {
+            return midCategories;
+        }
+        return midCategoriesByMainCategoryId.getOrDefault(mainCategoryId, List.of());
+    }
+
+    // midCategoryId 가 없으면 전체 소분류를 돌려준다
+    public List<SubCategoryResponse> getSubCategories(Long midCategoryId) {
+        if (midCategoryId == null) {
+            return subCategories;
+        }
+        return subCategoriesByMidCategoryId.getOrDefault(midCategoryId, List.of());
+    }
+
+    public Optional<SubCategoryNode> findSubCategory(Long subCategoryId) {
+        return Optional.ofNullable(subCategoryId).map(subCategoryNodes::get);
+    }
+
+    private static MidCategoryResponse toMidResponse(CategoryTreeRowResponse mid, List<SubCategoryResponse> subs) {
+        return new MidCategoryResponse(mid.midCategoryId(), mid.midCategoryName(),
+            subs.stream().mapToLong(SubCategoryResponse::postCount).sum(),
+            subs.stream().mapToLong(SubCategoryResponse::sharePostCount).sum(),
+            List.copyOf(subs));
+    }
+
+    private static long count(Long count) {
+        return count == null ? 0 : count;
+    }
+
+    private static String etag(List<CategoryTreeRowResponse> rows) {
+        MessageDigest digest = sha256();
+        for (CategoryTreeRowResponse row : rows) {
+            digest.update(Objects.toString(row).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] hash = digest.digest();
+        return "\"" + HexFormat.of().formatHex(hash, 0, ETAG_BYTES) + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
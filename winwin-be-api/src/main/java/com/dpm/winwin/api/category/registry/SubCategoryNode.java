@@ -0,0 +1,11 @@
+package com.dpm.winwin.api.category.registry;
+
+public record SubCategoryNode(Long mainCategoryId,
+                              String mainCategoryName,
+                              Long midCategoryId,
+                              String midCategoryName,
+                              Long subCategoryId,
+                              String subCategoryName
+) {
+
+}
@@ -0,0 +1,38 @@
+package com.dpm.winwin.api.category.service;
+
+import com.dpm.winwin.api.category.registry.CategoryRegistry;
+import com.dpm.winwin.domain.repository.category.SubCategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 증감으로 관리하는 카테고리별 게시물 수를 post 테이블 기준으로 주기적으로 다시 계산한다.
+ * 한 번의 UPDATE 로 계산하므로 여러 노드에서 동시에 실행되어도 결과는 같다.
+ * 컬럼을 추가하기 전의 게시물도 세도록 애플리케이션이 시작될 때 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryPostCountReconciler {
+
+    private final SubCategoryRepository subCategoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${category.post-count.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        try {
+            Integer updated = transactionTemplate.execute(status -> subCategoryRepository.reconcilePostCounts());
+            log.info("소분류 {} 개의 게시물 수를 다시 계산했습니다.", updated);
+            categoryRegistry.refresh();
+        } catch (RuntimeException e) {
+            log.error("카테고리별 게시물 수 재계산에 실패했습니다.", e);
+        }
+    }
+}
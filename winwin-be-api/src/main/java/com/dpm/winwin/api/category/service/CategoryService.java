@@ -4,8 +4,7 @@ import com.dpm.winwin.api.category.dto.MainCategoryResponse;
 import com.dpm.winwin.api.category.dto.MidCategoryResponse;
 import com.dpm.winwin.api.category.dto.SubCategoryResponse;
 import com.dpm.winwin.api.category.mapper.CategoryMapper;
-import com.dpm.winwin.domain.repository.category.MainCategoryRepository;
-import com.dpm.winwin.domain.repository.category.MidCategoryRepository;
+import com.dpm.winwin.api.category.registry.CategoryRegistry;
 import com.dpm.winwin.domain.repository.category.SubCategoryRepository;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -17,26 +16,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class CategoryService {
 
-    private final MainCategoryRepository mainCategoryRepository;
-    private final MidCategoryRepository midCategoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final SubCategoryRepository subCategoryRepository;
 
+    // 카테고리 조회 응답은 모두 같은 snapshot 에서 만들어지므로 snapshot 의 etag 를 그대로 사용한다
+    public String getEtag() {
+        return categoryRegistry.getSnapshot().getEtag();
+    }
+
     public List<MainCategoryResponse> getAllMainCategories() {
-        return mainCategoryRepository.findAll().stream()
-            .map(CategoryMapper::toMainResponse)
-            .toList();
+        return categoryRegistry.getSnapshot().getMainCategories();
     }
 
     public List<MidCategoryResponse> getAllMidCategories(Long mainCategoryId) {
-        return midCategoryRepository.getAll(mainCategoryId).stream()
-            .map(CategoryMapper::toMidResponse)
-            .toList();
+        return categoryRegistry.getSnapshot().getMidCategories(mainCategoryId);
     }
 
     public List<SubCategoryResponse> getAllSubCategories(Long midCategoryId) {
-        return subCategoryRepository.getAll(midCategoryId).stream()
-            .map(CategoryMapper::toSubResponse)
-            .toList();
+        return categoryRegistry.getSnapshot().getSubCategories(midCategoryId);
     }
 
     public List<SubCategoryResponse> getTakenTalentsByMemberId(Long memberId) {
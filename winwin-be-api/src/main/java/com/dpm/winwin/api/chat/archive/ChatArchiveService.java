@@ -0,0 +1,82 @@
+package com.dpm.winwin.api.chat.archive;
+
+import com.dpm.winwin.domain.repository.chat.ChatMessageRepository;
+import com.dpm.winwin.domain.repository.chat.ChatSearchTokenRepository;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageArchiveResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 채팅 메시지를 segment 파일로 옮기고 chat_message 에서 삭제한다.
+ * segment 에 기록한 뒤에 삭제하므로 중간에 실패해도 메시지가 유실되지 않는다.
+ * 같은 segment 에 여러 노드가 쓰지 않도록 chat.archive.enabled 를 켠 한 노드에서만 실행한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "chat.archive.enabled", havingValue = "true")
+public class ChatArchiveService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatSearchTokenRepository chatSearchTokenRepository;
+    private final ChatSegmentStore chatSegmentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public ChatArchiveService(ChatMessageRepository chatMessageRepository,
+                              ChatSearchTokenRepository chatSearchTokenRepository,
+                              ChatSegmentStore chatSegmentStore,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${chat.archive.retention-days:90}") int retentionDays,
+                              @Value("${chat.archive.batch-size:1000}") int batchSize) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatSearchTokenRepository = chatSearchTokenRepository;
+        this.chatSegmentStore = chatSegmentStore;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${chat.archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        long archived = 0;
+        try {
+            List<ChatMessageArchiveResponse> messages;
+            do {
+                messages = chatMessageRepository.getArchivable(before, batchSize);
+                archiveBatch(messages);
+                archived += messages.size();
+            } while (messages.size() == batchSize);
+            log.info("채팅 메시지 {} 건을 보관했습니다.", archived);
+        } catch (IOException | RuntimeException e) {
+            log.error("채팅 메시지 보관에 실패했습니다. 보관된 메시지 : {} 건", archived, e);
+        }
+    }
+
+    private void archiveBatch(List<ChatMessageArchiveResponse> messages) throws IOException {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Map<Long, List<ChatMessageArchiveResponse>> messagesByRoom = messages.stream()
+            .collect(Collectors.groupingBy(ChatMessageArchiveResponse::roomId, LinkedHashMap::new, Collectors.toList()));
+        for (Map.Entry<Long, List<ChatMessageArchiveResponse>> room : messagesByRoom.entrySet()) {
+            chatSegmentStore.append(room.getKey(), room.getValue());
+        }
+        List<Long> messageIds = messages.stream().map(ChatMessageArchiveResponse::messageId).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            chatSearchTokenRepository.deleteAllByMessageIds(messageIds);
+            chatMessageRepository.deleteAllByIdInBatch(messageIds);
+        });
+    }
+}
@@ -0,0 +1,297 @@
+package com.dpm.winwin.api.chat.archive;
+
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageArchiveResponse;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageReadResponse;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 채팅 메시지를 보관하는 채팅방별 append-only segment 파일 저장소.
+ *
+ * {root}/{roomId}/{첫 메시지 id}.seg : BLOCK_SIZE 개씩 묶어 deflate 압축한 block 의 나열
+ * {root}/{roomId}/{첫 메시지 id}.idx : block 마다 (첫 id, 마지막 id, offset, 압축 길이, 원본 길이) 를 가지는 sparse index
+ *
+ * block 을 segment 에 쓰고 fsync 한 뒤에 index 를 기록하므로, index 는 항상 온전히 기록된 block 만 가리킨다.
+ * 조회는 index 를 이분 탐색해 cursor 이전 block 을 찾고, segment 를 memory-mapped 로 읽어 필요한 block 만 푼다.
+ *
+ * 보관은 한 노드에서 하지만 조회는 모든 API 서버에서 하므로 {root} 는 모든 노드가 공유하는 mount 여야 한다.
+ * chat.archive.path 를 지정하지 않으면 보관된 메시지가 없는 것으로 보고, 보관을 켰는데 경로가 없으면 시작하지 않는다.
+ */
+@Component
+public class ChatSegmentStore {
+
+    private static final int BLOCK_SIZE = 128;
+    private static final long MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final int INDEX_ENTRY_BYTES = 8 + 8 + 8 + 4 + 4;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+
+    private final Path rootPath;
+
+    public ChatSegmentStore(@Value("${chat.archive.enabled:false}") boolean enabled,
+                            @Value("${chat.archive.path:}") String rootPath) {
+        if (rootPath.isBlank()) {
+            if (enabled) {
+                throw new IllegalStateException(
+                    "chat.archive.enabled 를 켜려면 공유 mount 경로를 chat.archive.path 로 지정해야 합니다.");
+            }
+            this.rootPath = null;
+            return;
+        }
+        this.rootPath = Paths.get(rootPath).toAbsolutePath().normalize();
+        if (enabled && !Files.isDirectory(this.rootPath)) {
+            throw new IllegalStateException("chat.archive.path 가 mount 되어 있지 않습니다. : " + this.rootPath);
+        }
+    }
+
+    /**
+     * 한 채팅방의 메시지를 id 오름차순으로 받아 이어 붙인다.
+     * 이미 보관된 id 이하의 메시지는 건너뛰므로, DB 삭제 전에 실패해 같은 메시지를 다시 보관해도 중복되지 않는다.
+     */
+    public synchronized void append(Long roomId, List<ChatMessageArchiveResponse> messages) throws IOException {
+        if (rootPath == null) {
+            throw new IllegalStateException("chat.archive.path 가 지정되지 않았습니다.");
+        }
+        Path roomPath = rootPath.resolve(roomId.toString());
+        Files.createDirectories(roomPath);
+        List<Long> segments = getSegments(roomPath);
+        long lastArchivedId = segments.isEmpty() ? 0 : getLastArchivedId(roomPath, segments.get(segments.size() - 1));
+        List<ChatMessageArchiveResponse> pending = messages.stream()
+            .filter(message -> message.messageId() > lastArchivedId)
+            .toList();
+
+        for (int from = 0; from < pending.size(); from += BLOCK_SIZE) {
+            List<ChatMessageArchiveResponse> block = pending.subList(from, Math.min(from + BLOCK_SIZE, pending.size()));
+            Long segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (segment == null || Files.size(segmentPath(roomPath, segment)) >= MAX_SEGMENT_BYTES) {
+                segment = block.get(0).messageId();
+                segments.add(segment);
+            }
+            appendBlock(roomPath, segment, block);
+        }
+    }
+
+    /**
+     * cursorId 보다 이전 메시지를 최신순으로 최대 size 개 조회한다.
+     */
+    public List<ChatMessageReadResponse> read(Long roomId, Long cursorId, int size) throws IOException {
+        List<ChatMessageReadResponse> result = new ArrayList<>(size);
+        if (rootPath == null) {
+            return result;
+        }
+        Path roomPath = rootPath.resolve(roomId.toString());
+        if (!Files.isDirectory(roomPath)) {
+            return result;
+        }
+        long cursor = cursorId == null ? Long.MAX_VALUE : cursorId;
+        List<Long> segments = getSegments(roomPath);
+        for (int i = segments.size() - 1; i >= 0 && result.size() < size; i--) {
+            if (segments.get(i) >= cursor) {
+                continue;
+            }
+            readSegment(roomPath, segments.get(i), cursor, size, result);
+        }
+        return result;
+    }
+
+    private void readSegment(Path roomPath, Long segment, long cursor, int size,
+                             List<ChatMessageReadResponse> result) throws IOException {
+        ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(indexPath(roomPath, segment)));
+        int entries = index.capacity() / INDEX_ENTRY_BYTES;
+        int entry = findLastBlockBefore(index, entries, cursor);
+        if (entry < 0) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(segmentPath(roomPath, segment), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (; entry >= 0 && result.size() < size; entry--) {
+                int position = entry * INDEX_ENTRY_BYTES;
+                long offset = index.getLong(position + 16);
+                int compressedLength = index.getInt(position + 24);
+                int rawLength = index.getInt(position + 28);
+                List<ChatMessageReadResponse> block = decodeBlock(
+                    mapped.slice((int) offset, compressedLength), rawLength);
+                for (int i = block.size() - 1; i >= 0 && result.size() < size; i--) {
+                    if (block.get(i).messageId() < cursor) {
+                        result.add(block.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    // 첫 id 가 cursor 보다 작은 마지막 block
+    private int findLastBlockBefore(ByteBuffer index, int entries, long cursor) {
+        int low = 0;
+        int high = entries - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (index.getLong(mid * INDEX_ENTRY_BYTES) < cursor) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private void appendBlock(Path roomPath, Long segment, List<ChatMessageArchiveResponse> block) throws IOException {
+        byte[] raw = encodeBlock(block);
+        byte[] compressed = compress(raw);
+        long offset;
+        try (FileChannel channel = FileChannel.open(segmentPath(roomPath, segment),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            offset = channel.size();
+            ByteBuffer buffer = ByteBuffer.wrap(compressed);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+            channel.force(true);
+        }
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_BYTES)
+            .putLong(block.get(0).messageId())
+            .putLong(block.get(block.size() - 1).messageId())
+            .putLong(offset)
+            .putInt(compressed.length)
+            .putInt(raw.length)
+            .flip();
+        try (FileChannel channel = FileChannel.open(indexPath(roomPath, segment),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (entry.hasRemaining()) {
+                channel.write(entry);
+            }
+            channel.force(true);
+        }
+    }
+
+    private long getLastArchivedId(Path roomPath, Long segment) throws IOException {
+        Path indexPath = indexPath(roomPath, segment);
+        if (!Files.exists(indexPath)) {
+            return 0;
+        }
+        byte[] index = Files.readAllBytes(indexPath);
+        int entries = index.length / INDEX_ENTRY_BYTES;
+        return entries == 0 ? 0 : ByteBuffer.wrap(index).getLong((entries - 1) * INDEX_ENTRY_BYTES + 8);
+    }
+
+    private List<Long> getSegments(Path roomPath) throws IOException {
+        try (Stream<Path> files = Files.list(roomPath)) {
+            return new ArrayList<>(files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                .map(name -> Long.valueOf(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                .sorted(Comparator.naturalOrder())
+                .toList());
+        }
+    }
+
+    // 메시지 : id(8) senderId(8) isRead(1) createdDate epoch millis(8) content 길이(4) content
+    private byte[] encodeBlock(List<ChatMessageArchiveResponse> block) {
+        List<byte[]> contents = new ArrayList<>(block.size());
+        int length = 0;
+        for (ChatMessageArchiveResponse message : block) {
+            byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+            contents.add(content);
+            length += 8 + 8 + 1 + 8 + 4 + content.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (int i = 0; i < block.size(); i++) {
+            ChatMessageArchiveResponse message = block.get(i);
+            buffer.putLong(message.messageId())
+                .putLong(message.senderId())
+                .put((byte) (message.isRead() ? 1 : 0))
+                .putLong(message.createdDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .putInt(contents.get(i).length)
+                .put(contents.get(i));
+        }
+        return buffer.array();
+    }
+
+    private List<ChatMessageReadResponse> decodeBlock(ByteBuffer compressed, int rawLength) throws IOException {
+        ByteBuffer raw = ByteBuffer.wrap(decompress(compressed, rawLength));
+        List<ChatMessageReadResponse> messages = new ArrayList<>(BLOCK_SIZE);
+        while (raw.hasRemaining()) {
+            long messageId = raw.getLong();
+            long senderId = raw.getLong();
+            boolean isRead = raw.get() == 1;
+            LocalDateTime createdDate = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(raw.getLong()), ZoneId.systemDefault());
+            int contentLength = raw.getInt();
+            String content = new String(raw.array(), raw.position(), contentLength, StandardCharsets.UTF_8);
+            raw.position(raw.position() + contentLength);
+            messages.add(new ChatMessageReadResponse(messageId, senderId, content, isRead, createdDate));
+        }
+        return messages;
+    }
+
+    private byte[] compress(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] buffer = new byte[raw.length + 64];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // mmap 된 block 을 복사하지 않고 바로 푼다
+    private byte[] decompress(ByteBuffer compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("손상된 채팅 보관 block 입니다.");
+                }
+                length += inflated;
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("손상된 채팅 보관 block 입니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private Path segmentPath(Path roomPath, Long segment) {
+        return roomPath.resolve(segment + SEGMENT_SUFFIX);
+    }
+
+    private Path indexPath(Path roomPath, Long segment) {
+        return roomPath.resolve(segment + INDEX_SUFFIX);
+    }
+}
@@ -0,0 +1,61 @@
+package com.dpm.winwin.api.chat.controller;
+
+import com.dpm.winwin.api.chat.dto.request.ChatReadRequest;
+import com.dpm.winwin.api.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.api.chat.dto.response.ChatReadResponse;
+import com.dpm.winwin.api.chat.dto.response.ChatRoomResponse;
+import com.dpm.winwin.api.chat.service.ChatCommandService;
+import com.dpm.winwin.api.chat.service.ChatQueryService;
+import com.dpm.winwin.api.common.response.dto.BaseResponseDto;
+import com.dpm.winwin.api.common.response.dto.GlobalCursorResponseDto;
+import com.dpm.winwin.api.member.dto.PingPongMember;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/chat/rooms")
+public class ChatController {
+
+    private final ChatQueryService chatQueryService;
+    private final ChatCommandService chatCommandService;
+
+    @GetMapping
+    public BaseResponseDto<GlobalCursorResponseDto<ChatRoomResponse>> getRooms(@RequestParam(required = false) Long cursorId,
+                                                                               @RequestParam(defaultValue = "20") int size,
+                                                                               @AuthenticationPrincipal PingPongMember member) {
+        return BaseResponseDto.ok(chatQueryService.getRooms(member.getMemberId(), cursorId, size));
+    }
+
+    @GetMapping("/{roomId}/messages")
+    public BaseResponseDto<GlobalCursorResponseDto<ChatMessageResponse>> getMessages(@PathVariable Long roomId,
+                                                                                     @RequestParam(required = false) Long cursorId,
+                                                                                     @RequestParam(defaultValue = "30") int size,
+                                                                                     @AuthenticationPrincipal PingPongMember member) {
+        return BaseResponseDto.ok(chatQueryService.getMessages(member.getMemberId(), roomId, cursorId, size));
+    }
+
+    @GetMapping("/{roomId}/messages/search")
+    public BaseResponseDto<GlobalCursorResponseDto<ChatMessageResponse>> searchMessages(@PathVariable Long roomId,
+                                                                                        @RequestParam String keyword,
+                                                                                        @RequestParam(required = false) Long cursorId,
+                                                                                        @RequestParam(defaultValue = "30") int size,
+                                                                                        @AuthenticationPrincipal PingPongMember member) {
+        return BaseResponseDto.ok(chatQueryService.searchMessages(member.getMemberId(), roomId, keyword, cursorId, size));
+    }
+
+    @PatchMapping("/{roomId}/read")
+    public BaseResponseDto<ChatReadResponse> readMessages(@PathVariable Long roomId,
+                                                          @RequestBody @Valid ChatReadRequest request,
+                                                          @AuthenticationPrincipal PingPongMember member) {
+        return BaseResponseDto.ok(chatCommandService.readMessages(member.getMemberId(), roomId, request));
+    }
+}
@@ -0,0 +1,11 @@
+package com.dpm.winwin.api.chat.dto.request;
+
+import javax.validation.constraints.NotNull;
+
+public record ChatReadRequest(
+
+    @NotNull(message = "마지막으로 읽은 메시지 id 를 입력해 주세요.")
+    Long messageId
+) {
+
+}
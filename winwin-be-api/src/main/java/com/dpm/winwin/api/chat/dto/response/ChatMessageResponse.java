@@ -0,0 +1,23 @@
+package com.dpm.winwin.api.chat.dto.response;
+
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageReadResponse;
+import java.time.LocalDateTime;
+
+public record ChatMessageResponse(
+    Long messageId,
+    Long senderId,
+    String content,
+    boolean isRead,
+    LocalDateTime createdDate
+) {
+
+    public static ChatMessageResponse from(ChatMessageReadResponse message) {
+        return new ChatMessageResponse(
+            message.messageId(),
+            message.senderId(),
+            message.content(),
+            message.isRead(),
+            message.createdDate()
+        );
+    }
+}
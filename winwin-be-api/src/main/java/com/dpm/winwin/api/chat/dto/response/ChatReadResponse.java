@@ -0,0 +1,9 @@
+package com.dpm.winwin.api.chat.dto.response;
+
+public record ChatReadResponse(
+    Long roomId,
+    Long lastReadMessageId,
+    long unreadCount
+) {
+
+}
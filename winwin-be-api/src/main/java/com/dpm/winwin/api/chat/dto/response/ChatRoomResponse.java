@@ -0,0 +1,31 @@
+package com.dpm.winwin.api.chat.dto.response;
+
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomSummaryResponse;
+import java.time.LocalDateTime;
+
+public record ChatRoomResponse(
+    Long roomId,
+    Long partnerId,
+    String partnerNickname,
+    String partnerImage,
+    Long lastMessageId,
+    String lastMessagePreview,
+    LocalDateTime lastMessageAt,
+    long unreadCount,
+    boolean partnerOnline
+) {
+
+    public static ChatRoomResponse of(ChatRoomSummaryResponse room, long unreadCount, boolean partnerOnline) {
+        return new ChatRoomResponse(
+            room.roomId(),
+            room.partnerId(),
+            room.partnerNickname(),
+            room.partnerImage(),
+            room.lastMessageId(),
+            room.lastMessagePreview(),
+            room.lastMessageAt(),
+            unreadCount,
+            partnerOnline
+        );
+    }
+}
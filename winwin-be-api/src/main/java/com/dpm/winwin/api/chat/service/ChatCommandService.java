@@ -0,0 +1,45 @@
+package com.dpm.winwin.api.chat.service;
+
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.CHAT_ROOM_NOT_FOUND;
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.NOT_CHAT_ROOM_PARTICIPANT;
+
+import com.dpm.winwin.api.chat.dto.request.ChatReadRequest;
+import com.dpm.winwin.api.chat.dto.response.ChatReadResponse;
+import com.dpm.winwin.api.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.domain.repository.chat.ChatMessageRepository;
+import com.dpm.winwin.domain.repository.chat.ChatRoomRepository;
+import com.dpm.winwin.domain.repository.chat.UnreadCountRepository;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomParticipantResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ChatCommandService {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final UnreadCountRepository unreadCountRepository;
+
+    /**
+     * messageId 까지의 메시지를 한 번에 읽음 처리하고 안 읽은 메시지 수를 초기화한다.
+     * 수를 덮어쓰면 그 사이에 채팅 서버가 늘린 값이 사라지므로 DB 에서 다시 세지 않고 field 를 지운다.
+     */
+    public ChatReadResponse readMessages(Long memberId, Long roomId, ChatReadRequest request) {
+        validateParticipant(memberId, roomId);
+        chatMessageRepository.updateReadUpTo(roomId, memberId, request.messageId());
+        unreadCountRepository.delete(memberId, roomId);
+        return new ChatReadResponse(roomId, request.messageId(),
+            unreadCountRepository.findByMemberIdAndRoomId(memberId, roomId));
+    }
+
+    private void validateParticipant(Long memberId, Long roomId) {
+        ChatRoomParticipantResponse room = chatRoomRepository.findParticipantsById(roomId)
+            .orElseThrow(() -> new BusinessException(CHAT_ROOM_NOT_FOUND));
+        if (!memberId.equals(room.hostId()) && !memberId.equals(room.guestId())) {
+            throw new BusinessException(NOT_CHAT_ROOM_PARTICIPANT);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.dpm.winwin.api.chat.service;
+
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.CHAT_ARCHIVE_READ_FAIL;
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.CHAT_ROOM_NOT_FOUND;
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.INVALID_CHAT_SEARCH_KEYWORD;
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.NOT_CHAT_ROOM_PARTICIPANT;
+
+import com.dpm.winwin.api.chat.archive.ChatSegmentStore;
+import com.dpm.winwin.api.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.api.chat.dto.response.ChatRoomResponse;
+import com.dpm.winwin.api.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.api.common.response.dto.GlobalCursorResponseDto;
+import com.dpm.winwin.domain.repository.chat.ChatMessageRepository;
+import com.dpm.winwin.domain.repository.chat.ChatRoomRepository;
+import com.dpm.winwin.domain.repository.chat.ChatSearchTokenizer;
+import com.dpm.winwin.domain.repository.chat.PresenceRepository;
+import com.dpm.winwin.domain.repository.chat.UnreadCountRepository;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageReadResponse;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomParticipantResponse;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomSummaryResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatQueryService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final UnreadCountRepository unreadCountRepository;
+    private final PresenceRepository presenceRepository;
+    private final ChatSegmentStore chatSegmentStore;
+
+    /**
+     * 마지막 메시지 정보는 chat_room 에 함께 저장되어 있으므로 채팅방 목록은 한 번의 쿼리로 조회하고,
+     * 안 읽은 메시지 수와 상대방 접속 여부는 Redis 에서 한 번에 가져온다.
+     */
+    public GlobalCursorResponseDto<ChatRoomResponse> getRooms(Long memberId, Long cursorId, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Map<Long, Long> unreadCounts = unreadCountRepository.findAllByMemberId(memberId);
+        List<ChatRoomSummaryResponse> summaries = chatRoomRepository.getRoomSummaries(memberId, cursorId, pageSize + 1);
+        Set<Long> onlinePartnerIds = presenceRepository.findOnlineMemberIds(
+            summaries.stream().map(ChatRoomSummaryResponse::partnerId).toList());
+        List<ChatRoomResponse> rooms = summaries.stream()
+            .map(room -> ChatRoomResponse.of(room, unreadCounts.getOrDefault(room.roomId(), 0L),
+                onlinePartnerIds.contains(room.partnerId())))
+            .toList();
+        return GlobalCursorResponseDto.of(rooms, pageSize, ChatQueryService::getRoomCursor);
+    }
+
+    // 메시지가 없는 채팅방은 음수로 바꾼 채팅방 id 를 cursor 로 사용한다
+    private static Long getRoomCursor(ChatRoomResponse room) {
+        return room.lastMessageId() != null ? room.lastMessageId() : -room.roomId();
+    }
+
+    public GlobalCursorResponseDto<ChatMessageResponse> getMessages(Long memberId, Long roomId,
+                                                                    Long cursorId, int size) {
+        validateParticipant(memberId, roomId);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ChatMessageResponse> messages = getHistory(roomId, cursorId, pageSize + 1).stream()
+            .map(ChatMessageResponse::from)
+            .toList();
+        return GlobalCursorResponseDto.of(messages, pageSize, ChatMessageResponse::messageId);
+    }
+
+    /**
+     * bigram 역색인으로 모든 token 을 포함하는 후보 메시지 id 를 찾은 뒤 본문에 검색어가 그대로 들어 있는 메시지만 돌려준다.
+     * 다음 cursor 는 후보 id 기준이므로 한 페이지가 size 보다 적게 채워질 수 있다.
+     * 보관(archive)된 메시지는 역색인에서 제거되므로 검색 대상이 아니다.
+     */
+    public GlobalCursorResponseDto<ChatMessageResponse> searchMessages(Long memberId, Long roomId, String keyword,
+                                                                       Long cursorId, int size) {
+        validateParticipant(memberId, roomId);
+        List<String> tokens = new ArrayList<>(ChatSearchTokenizer.tokenize(keyword));
+        if (tokens.isEmpty()) {
+            throw new BusinessException(INVALID_CHAT_SEARCH_KEYWORD);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> candidateIds = chatMessageRepository.searchMessageIds(roomId, tokens, cursorId, pageSize + 1);
+        boolean hasNext = candidateIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? candidateIds.subList(0, pageSize) : candidateIds;
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+
+        String normalizedKeyword = keyword.strip().toLowerCase(Locale.ROOT);
+        List<ChatMessageReadResponse> candidates = pageIds.isEmpty()
+            ? List.of() : chatMessageRepository.getMessagesByIds(pageIds);
+        List<ChatMessageResponse> messages = candidates.stream()
+            .filter(message -> message.content().toLowerCase(Locale.ROOT).contains(normalizedKeyword))
+            .map(ChatMessageResponse::from)
+            .toList();
+        return new GlobalCursorResponseDto<>(messages, nextCursor, hasNext);
+    }
+
+    // chat_message 에서 모자란 만큼은 보관된 segment 에서 이어서 읽는다
+    private List<ChatMessageReadResponse> getHistory(Long roomId, Long cursorId, int size) {
+        List<ChatMessageReadResponse> hot = chatMessageRepository.getHistory(roomId, cursorId, size);
+        if (hot.size() == size) {
+            return hot;
+        }
+        Long archiveCursorId = hot.isEmpty() ? cursorId : hot.get(hot.size() - 1).messageId();
+        try {
+            List<ChatMessageReadResponse> history = new ArrayList<>(hot);
+            history.addAll(chatSegmentStore.read(roomId, archiveCursorId, size - hot.size()));
+            return history;
+        } catch (IOException e) {
+            throw new BusinessException(CHAT_ARCHIVE_READ_FAIL);
+        }
+    }
+
+    private void validateParticipant(Long memberId, Long roomId) {
+        ChatRoomParticipantResponse room = chatRoomRepository.findParticipantsById(roomId)
+            .orElseThrow(() -> new BusinessException(CHAT_ROOM_NOT_FOUND));
+        if (!memberId.equals(room.hostId()) && !memberId.equals(room.guestId())) {
+            throw new BusinessException(NOT_CHAT_ROOM_PARTICIPANT);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.dpm.winwin.api.common.constant;
+
+/**
+ * 페이지 목록 조회 시 전체 개수를 계산하는 방식.
+ * 무한 스크롤처럼 다음 페이지 여부만 필요하면 NONE 으로 count 쿼리를 생략한다.
+ */
+public enum PageCountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
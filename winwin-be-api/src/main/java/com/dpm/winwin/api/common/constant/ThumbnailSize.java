@@ -0,0 +1,21 @@
+package com.dpm.winwin.api.common.constant;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailSize {
+    LARGE(512),
+    MEDIUM(128),
+    SMALL(64);
+
+    public static final ThumbnailSize LIST_THUMBNAIL = MEDIUM;
+    private static final String THUMBNAIL_EXTENSION = "jpg";
+
+    private final int pixel;
+
+    public String getFileName(String originalFileName) {
+        return String.format("%s_%d.%s", originalFileName, pixel, THUMBNAIL_EXTENSION);
+    }
+}
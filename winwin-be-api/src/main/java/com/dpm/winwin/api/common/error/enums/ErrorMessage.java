@@ -1,6 +1,7 @@
 package com.dpm.winwin.api.common.error.enums;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.UNAUTHORIZED;
@@ -17,12 +18,15 @@ import org.springframework.http.HttpStatus;
 @RequiredArgsConstructor
 public enum ErrorMessage {
     INTERVAL_SERVER_ERROR(INTERNAL_SERVER_ERROR, "요청을 처리하는 과정에서 서버가 예상하지 못한 오류가 발생하였습니다."),
+    CHAT_ARCHIVE_READ_FAIL(INTERNAL_SERVER_ERROR, "보관된 채팅 메시지를 읽는 데 실패하였습니다."),
     MEMBER_NOT_FOUND(NOT_FOUND, "해당 회원을 찾을 수 없습니다."),
     SUB_CATEGORY_NOT_FOUND(NOT_FOUND, "해당 소분류 카테고리를 찾을 수 없습니다."),
     POST_NOT_FOUND(NOT_FOUND, "해당 포스트를 찾을 수 없습니다."),
     TALENT_NOT_FOUND(NOT_FOUND, "해당 받고 싶은 재능을 찾을 수 없습니다."),
     LINK_NOT_FOUND(NOT_FOUND, "해당 링크를 찾을 수 없습니다."),
     LIKE_NOT_FOUND(NOT_FOUND, "해당 좋아요를 찾을 수 없습니다."),
+    FILE_NOT_FOUND(NOT_FOUND, "업로드된 파일을 찾을 수 없습니다."),
+    CHAT_ROOM_NOT_FOUND(NOT_FOUND, "해당 채팅방을 찾을 수 없습니다."),
     INVALID_POST_REQUEST(BAD_REQUEST, "해당 재능 게시물 요청이 적절하지 않습니다."),
     DOES_NOT_MATCH_NONCE(BAD_REQUEST, "ID_TOKEN 값 중 NONCE 값이 일치하지 않습니다."),
     INVALID_ISSUER_VALUE(BAD_REQUEST, "ISSUER 값이 적절하지 않습니다."),
@@ -32,7 +36,9 @@ public enum ErrorMessage {
     LOGIN_CANCEL(UNAUTHORIZED, "사용자가 로그인을 취소하였습니다."),
     APPLE_TOKEN_REVOKE_FAIL(BAD_REQUEST, "애플 토큰 삭제에 실패하였습니다."),
     DOES_NOT_MATCH_MEMBER_ID(BAD_REQUEST, "jwt Claim 의 멤버 ID 값과 파라미터 멤버 ID 값이 다릅니다."),
-    INVALID_FILE_UPLOAD(BAD_REQUEST, "유효하지 않은 파일 업로드입니다.");
+    INVALID_FILE_UPLOAD(BAD_REQUEST, "유효하지 않은 파일 업로드입니다."),
+    INVALID_CHAT_SEARCH_KEYWORD(BAD_REQUEST, "검색어는 두 글자 이상의 단어를 포함해야 합니다."),
+    NOT_CHAT_ROOM_PARTICIPANT(FORBIDDEN, "채팅방 참여자가 아닙니다.");
 
     private final int code;
     private final String phrase;
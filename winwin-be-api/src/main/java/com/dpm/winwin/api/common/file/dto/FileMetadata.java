@@ -0,0 +1,8 @@
+package com.dpm.winwin.api.common.file.dto;
+
+public record FileMetadata(
+    long contentLength,
+    String contentType
+) {
+
+}
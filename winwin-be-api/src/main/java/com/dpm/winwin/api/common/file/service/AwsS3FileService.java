@@ -2,26 +2,42 @@ package com.dpm.winwin.api.common.file.service;
 
 import static com.dpm.winwin.api.common.constant.ImageType.PROFILE_IMAGE;
 
+import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.DeleteObjectRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
 import com.dpm.winwin.api.common.error.enums.ErrorMessage;
 import com.dpm.winwin.api.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.api.common.file.dto.FileMetadata;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "file.storage", havingValue = "s3", matchIfMissing = true)
 public class AwsS3FileService implements FileService {
 
     private final AmazonS3Client amazonS3Client;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket.name}")
     private String bucketName;
@@ -33,30 +49,111 @@ public class AwsS3FileService implements FileService {
         if (multipartFile.isEmpty()) {
             return getDefaultRandomProfileImageUrl();
         }
-        String savedFileName = getSavedFileName(multipartFile, memberId, imageType);
-        ObjectMetadata metadata = new ObjectMetadata();
+        String savedFileName = getSavedFileName(multipartFile.getOriginalFilename(), memberId, imageType);
+        ObjectMetadata metadata = getObjectMetadata(multipartFile);
 
-        try (InputStream inputStream = multipartFile.getInputStream()) {
-            amazonS3Client.putObject(bucketName, savedFileName, inputStream, metadata);
+        try {
+            if (multipartFile.getSize() >= transferManager.getConfiguration().getMultipartUploadThreshold()) {
+                uploadMultipart(multipartFile, savedFileName, metadata);
+            } else {
+                upload(multipartFile, savedFileName, metadata);
+            }
         } catch (IOException e) {
             log.error("Failed to upload image", e);
             throw new BusinessException(ErrorMessage.INVALID_FILE_UPLOAD);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while uploading image", e);
+            throw new BusinessException(ErrorMessage.INVALID_FILE_UPLOAD);
         }
         return getResourceUrl(savedFileName);
     }
 
+    public String uploadFile(String fileName, InputStream inputStream, long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        amazonS3Client.putObject(bucketName, fileName, inputStream, metadata);
+        return getResourceUrl(fileName);
+    }
+
+    /**
+     * 클라이언트가 API 서버를 거치지 않고 S3 에 직접 업로드할 수 있는 presigned PUT url 을 발급한다.
+     * content type 과 content length 가 서명에 포함되므로 다른 값으로는 업로드할 수 없다.
+     */
+    public String generateUploadUrl(String fileName, String contentType, long contentLength, Date expiration) {
+        GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucketName, fileName, HttpMethod.PUT)
+            .withExpiration(expiration)
+            .withContentType(contentType);
+        request.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(contentLength));
+        return amazonS3Client.generatePresignedUrl(request).toString();
+    }
+
+    public Optional<FileMetadata> getFileMetadata(String fileName) {
+        try {
+            ObjectMetadata metadata = amazonS3Client.getObjectMetadata(bucketName, fileName);
+            return Optional.of(new FileMetadata(metadata.getContentLength(), metadata.getContentType()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    public InputStream getFile(String fileName) {
+        return amazonS3Client.getObject(bucketName, fileName).getObjectContent();
+    }
+
     public String getDefaultRandomProfileImageUrl() {
         return String.format("%s/%s/%s.png", defaultUrl, PROFILE_IMAGE, (int)(Math.random() * 3 + 1));
     }
 
+    public String getFileUrl(String fileName) {
+        return getResourceUrl(fileName);
+    }
+
+    public String getFileName(String fileUrl) {
+        return fileUrl.replace(defaultUrl + "/", "");
+    }
+
     public void deleteFile(String fileUrl) {
-        String fileName = getFileNameFromResourceUrl(fileUrl);
+        String fileName = getFileName(fileUrl);
         amazonS3Client.deleteObject(new DeleteObjectRequest(bucketName, fileName));
     }
 
-    private String getSavedFileName(MultipartFile multipartFile, Long memberId, String imageType) {
+    // content length 를 지정해야 SDK 가 전체 파일을 heap 에 버퍼링하지 않고 스트리밍한다
+    private ObjectMetadata getObjectMetadata(MultipartFile multipartFile) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(multipartFile.getSize());
+        metadata.setContentType(multipartFile.getContentType());
+        return metadata;
+    }
+
+    private void upload(MultipartFile multipartFile, String savedFileName, ObjectMetadata metadata)
+        throws IOException {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            amazonS3Client.putObject(bucketName, savedFileName, inputStream, metadata);
+        }
+    }
+
+    // part 병렬 업로드는 파일 기반 요청에서만 동작하므로 임시 파일로 옮긴 뒤 업로드한다
+    private void uploadMultipart(MultipartFile multipartFile, String savedFileName, ObjectMetadata metadata)
+        throws IOException, InterruptedException {
+        File tempFile = Files.createTempFile("upload-", ".tmp").toFile();
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            Files.copy(inputStream, tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            PutObjectRequest request = new PutObjectRequest(bucketName, savedFileName, tempFile)
+                .withMetadata(metadata);
+            transferManager.upload(request).waitForCompletion();
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+    }
+
+    public String getSavedFileName(String originalFileName, Long memberId, String imageType) {
         return String.format("member%s/%s/%s-%s",
-                memberId, imageType, getRandomUUID(), multipartFile.getOriginalFilename());
+                memberId, imageType, getRandomUUID(), originalFileName);
     }
 
     private String getRandomUUID() {
@@ -66,8 +163,4 @@ public class AwsS3FileService implements FileService {
     private String getResourceUrl(String savedFileName) {
         return amazonS3Client.getResourceUrl(bucketName, savedFileName);
     }
-
-    private String getFileNameFromResourceUrl(String fileUrl) {
-        return fileUrl.replace(defaultUrl + "/", "");
-    }
 }
@@ -1,9 +1,21 @@
 package com.dpm.winwin.api.common.file.service;
 
+import com.dpm.winwin.api.common.file.dto.FileMetadata;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Date;
+import java.util.Optional;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
     String uploadFile(MultipartFile multipartFile, Long memberId, String directory);
+    String uploadFile(String fileName, InputStream inputStream, long contentLength, String contentType);
+    String generateUploadUrl(String fileName, String contentType, long contentLength, Date expiration);
+    Optional<FileMetadata> getFileMetadata(String fileName);
+    InputStream getFile(String fileName) throws IOException;
     String getDefaultRandomProfileImageUrl();
+    String getSavedFileName(String originalFileName, Long memberId, String directory);
+    String getFileUrl(String fileName);
+    String getFileName(String fileUrl);
     void deleteFile(String fileUrl);
 }
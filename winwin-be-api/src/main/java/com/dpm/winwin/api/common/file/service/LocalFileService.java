@@ -0,0 +1,119 @@
+package com.dpm.winwin.api.common.file.service;
+
+import static com.dpm.winwin.api.common.constant.ImageType.PROFILE_IMAGE;
+
+import com.dpm.winwin.api.common.error.enums.ErrorMessage;
+import com.dpm.winwin.api.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.api.common.file.dto.FileMetadata;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * S3 없이 로컬 파일 시스템에 저장하는 FileService (오프라인 개발, 테스트 용도)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "file.storage", havingValue = "local")
+public class LocalFileService implements FileService {
+
+    private final Path rootPath;
+    private final String defaultUrl;
+
+    public LocalFileService(@Value("${file.local.path:${java.io.tmpdir}/pingpong-files}") String rootPath,
+                            @Value("${file.local.url:http://localhost:8080/files}") String defaultUrl) {
+        this.rootPath = Paths.get(rootPath).toAbsolutePath().normalize();
+        this.defaultUrl = defaultUrl;
+    }
+
+    public String uploadFile(MultipartFile multipartFile, Long memberId, String imageType) {
+        if (multipartFile.isEmpty()) {
+            return getDefaultRandomProfileImageUrl();
+        }
+        String savedFileName = getSavedFileName(multipartFile.getOriginalFilename(), memberId, imageType);
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return uploadFile(savedFileName, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to upload image", e);
+            throw new BusinessException(ErrorMessage.INVALID_FILE_UPLOAD);
+        }
+    }
+
+    public String uploadFile(String fileName, InputStream inputStream, long contentLength, String contentType) {
+        Path path = resolve(fileName);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return getFileUrl(fileName);
+    }
+
+    // 로컬 저장소는 직접 업로드를 지원하지 않으므로 저장될 파일의 url 을 그대로 돌려준다
+    public String generateUploadUrl(String fileName, String contentType, long contentLength, Date expiration) {
+        return getFileUrl(fileName);
+    }
+
+    public Optional<FileMetadata> getFileMetadata(String fileName) {
+        Path path = resolve(fileName);
+        if (!Files.exists(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new FileMetadata(Files.size(path), Files.probeContentType(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream getFile(String fileName) throws IOException {
+        return Files.newInputStream(resolve(fileName));
+    }
+
+    public String getDefaultRandomProfileImageUrl() {
+        return String.format("%s/%s/%s.png", defaultUrl, PROFILE_IMAGE, (int)(Math.random() * 3 + 1));
+    }
+
+    public String getSavedFileName(String originalFileName, Long memberId, String imageType) {
+        return String.format("member%s/%s/%s-%s",
+            memberId, imageType, UUID.randomUUID().toString().replace("-", ""), originalFileName);
+    }
+
+    public String getFileUrl(String fileName) {
+        return defaultUrl + "/" + fileName;
+    }
+
+    public String getFileName(String fileUrl) {
+        return fileUrl.replace(defaultUrl + "/", "");
+    }
+
+    public void deleteFile(String fileUrl) {
+        try {
+            Files.deleteIfExists(resolve(getFileName(fileUrl)));
+        } catch (IOException e) {
+            log.warn("Failed to delete file : {}", fileUrl, e);
+        }
+    }
+
+    private Path resolve(String fileName) {
+        Path path = rootPath.resolve(fileName).normalize();
+        if (!path.startsWith(rootPath)) {
+            throw new BusinessException(ErrorMessage.INVALID_FILE_UPLOAD);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,172 @@
+package com.dpm.winwin.api.common.image.service;
+
+import com.dpm.winwin.api.common.constant.ThumbnailSize;
+import com.dpm.winwin.api.common.file.service.FileService;
+import com.dpm.winwin.domain.repository.member.MemberRepository;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 업로드된 프로필 이미지로부터 고정 크기 썸네일(JPEG)을 만들어 원본 옆에 저장한다.
+ * 썸네일 생성은 별도의 bounded worker pool 에서 비동기로 처리하고,
+ * 썸네일 url 은 원본 파일 이름으로부터 결정되므로 생성 전에 미리 응답할 수 있다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ThumbnailService {
+
+    private static final String THUMBNAIL_CONTENT_TYPE = "image/jpeg";
+    private static final float THUMBNAIL_QUALITY = 0.8f;
+
+    private final FileService fileService;
+    private final MemberRepository memberRepository;
+    private final Executor imageProcessingExecutor;
+
+    public Map<ThumbnailSize, String> getThumbnailUrls(String originalUrl) {
+        String originalFileName = fileService.getFileName(originalUrl);
+        Map<ThumbnailSize, String> thumbnailUrls = new LinkedHashMap<>();
+        for (ThumbnailSize size : ThumbnailSize.values()) {
+            thumbnailUrls.put(size, fileService.getFileUrl(size.getFileName(originalFileName)));
+        }
+        return thumbnailUrls;
+    }
+
+    /**
+     * 요청이 끝나면 원본을 읽을 수 없으므로 임시 파일로 복사해 두고,
+     * 회원 이미지 변경이 커밋된 뒤에 썸네일 생성을 시작한다.
+     */
+    public void createThumbnails(Long memberId, String originalUrl, InputStream original) throws IOException {
+        Path source = Files.createTempFile("thumbnail-", ".tmp");
+        Files.copy(original, source, StandardCopyOption.REPLACE_EXISTING);
+        executeAfterCommit(() -> process(memberId, originalUrl, source), () -> deleteQuietly(source));
+    }
+
+    /**
+     * 클라이언트가 저장소에 직접 업로드한 원본은 요청 스레드가 아닌 worker 에서 내려받아 처리한다.
+     */
+    public void createThumbnailsFromStorage(Long memberId, String originalUrl) {
+        executeAfterCommit(() -> {
+            Path source;
+            try (InputStream original = fileService.getFile(fileService.getFileName(originalUrl))) {
+                source = Files.createTempFile("thumbnail-", ".tmp");
+                Files.copy(original, source, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException | RuntimeException e) {
+                log.error("썸네일 생성을 위한 원본 다운로드에 실패했습니다. url : {}", originalUrl, e);
+                return;
+            }
+            process(memberId, originalUrl, source);
+        }, () -> { });
+    }
+
+    private void executeAfterCommit(Runnable task, Runnable onRollback) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        imageProcessingExecutor.execute(task);
+                        return;
+                    }
+                    onRollback.run();
+                }
+            });
+            return;
+        }
+        imageProcessingExecutor.execute(task);
+    }
+
+    private void process(Long memberId, String originalUrl, Path source) {
+        try {
+            BufferedImage image = ImageIO.read(source.toFile());
+            if (image == null) {
+                log.warn("썸네일을 만들 수 없는 이미지 형식입니다. url : {}", originalUrl);
+                return;
+            }
+
+            String originalFileName = fileService.getFileName(originalUrl);
+            String listThumbnailUrl = null;
+            // 큰 크기부터 차례로 줄여 나가며 이전 결과를 다음 크기의 입력으로 사용한다
+            for (ThumbnailSize size : ThumbnailSize.values()) {
+                image = resize(image, size.getPixel());
+                byte[] bytes = encode(image);
+                String url = fileService.uploadFile(size.getFileName(originalFileName),
+                    new ByteArrayInputStream(bytes), bytes.length, THUMBNAIL_CONTENT_TYPE);
+                if (size == ThumbnailSize.LIST_THUMBNAIL) {
+                    listThumbnailUrl = url;
+                }
+            }
+            memberRepository.updateThumbnailImage(memberId, originalUrl, listThumbnailUrl);
+        } catch (IOException | RuntimeException e) {
+            log.error("썸네일 생성에 실패했습니다. url : {}", originalUrl, e);
+        } finally {
+            deleteQuietly(source);
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int pixel) {
+        double scale = Math.min(1.0, (double) pixel / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            // JPEG 는 투명도를 지원하지 않으므로 흰 배경 위에 그린다
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(THUMBNAIL_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제에 실패했습니다. path : {}", path, e);
+        }
+    }
+}
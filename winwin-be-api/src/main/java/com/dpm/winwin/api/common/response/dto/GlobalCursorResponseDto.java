@@ -0,0 +1,21 @@
+package com.dpm.winwin.api.common.response.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record GlobalCursorResponseDto<T>(
+    List<T> content,
+    Long nextCursor,
+    boolean hasNext
+) {
+
+    /**
+     * size + 1 개를 조회한 결과로부터 다음 페이지 여부와 다음 cursor 를 계산한다.
+     */
+    public static <T> GlobalCursorResponseDto<T> of(List<T> fetched, int size, Function<T, Long> cursorExtractor) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new GlobalCursorResponseDto<>(content, nextCursor, hasNext);
+    }
+}
@@ -2,11 +2,12 @@ package com.dpm.winwin.api.common.response.dto;
 
 import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public record GlobalPageResponseDto<T>(
     List<T> content,
-    long totalElements,
-    int totalPages,
+    Long totalElements,
+    Integer totalPages,
     int pageNumber,
     int numberOfElements,
     boolean hasNextPages
@@ -22,4 +23,20 @@ public record GlobalPageResponseDto<T>(
             page.hasNext()
         );
     }
+
+    /**
+     * count 쿼리 없이 조회한 Slice 로부터 만든다. 전체 개수를 모르면 totalElements, totalPages 는 null 이다.
+     */
+    public static <T> GlobalPageResponseDto<T> of(Slice<T> slice, Long totalElements) {
+        Integer totalPages = totalElements == null
+            ? null : (int) Math.ceil((double) totalElements / Math.max(1, slice.getSize()));
+        return new GlobalPageResponseDto<>(
+            slice.getContent(),
+            totalElements,
+            totalPages,
+            slice.getNumber(),
+            slice.getNumberOfElements(),
+            slice.hasNext()
+        );
+    }
 }
@@ -4,6 +4,9 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.util.concurrent.Executors;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +23,15 @@ public class AwsS3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.multipart.threshold:16777216}")
+    private long multipartThreshold;
+
+    @Value("${cloud.aws.s3.multipart.part-size:5242880}")
+    private long multipartPartSize;
+
+    @Value("${cloud.aws.s3.multipart.threads:4}")
+    private int multipartThreads;
+
     @Bean
     public AmazonS3Client amazonS3Client() {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
@@ -28,4 +40,18 @@ public class AwsS3Config {
             .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
             .build();
     }
+
+    /**
+     * 큰 파일은 part 단위로 나누어 병렬 업로드한다. (S3 part 최소 크기는 5MB)
+     * AwsS3FileService 도 이 설정의 multipart threshold 로 업로드 방식을 고른다.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3Client amazonS3Client) {
+        return TransferManagerBuilder.standard()
+            .withS3Client(amazonS3Client)
+            .withMultipartUploadThreshold(multipartThreshold)
+            .withMinimumUploadPartSize(multipartPartSize)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(multipartThreads))
+            .build();
+    }
 }
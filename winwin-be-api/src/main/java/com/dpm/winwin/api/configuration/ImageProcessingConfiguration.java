@@ -0,0 +1,34 @@
+package com.dpm.winwin.api.configuration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class ImageProcessingConfiguration {
+
+    @Value("${image.processing.threads:2}")
+    private int threads;
+
+    @Value("${image.processing.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * 썸네일 생성용 bounded worker pool.
+     * 큐가 가득 차면 요청 스레드에서 직접 처리하여 자연스럽게 업로드 속도를 늦춘다.
+     */
+    @Bean
+    public Executor imageProcessingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-processing-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+}
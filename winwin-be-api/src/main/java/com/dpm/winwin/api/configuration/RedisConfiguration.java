@@ -0,0 +1,26 @@
+package com.dpm.winwin.api.configuration;
+
+import static com.dpm.winwin.api.auth.service.LogoutTokenFilter.LOGOUT_TOKEN_CHANNEL;
+
+import com.dpm.winwin.api.auth.service.LogoutTokenFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@RequiredArgsConstructor
+public class RedisConfiguration {
+
+    private final LogoutTokenFilter logoutTokenFilter;
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(logoutTokenFilter, new ChannelTopic(LOGOUT_TOKEN_CHANNEL));
+        return container;
+    }
+}
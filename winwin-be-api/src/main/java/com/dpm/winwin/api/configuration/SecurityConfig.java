@@ -1,5 +1,6 @@
 package com.dpm.winwin.api.configuration;
 
+import com.dpm.winwin.api.auth.service.LogoutTokenFilter;
 import com.dpm.winwin.api.jwt.JwtAccessDeniedHandler;
 import com.dpm.winwin.api.jwt.JwtAuthenticationEntryPoint;
 import com.dpm.winwin.api.jwt.JwtFilter;
@@ -23,6 +24,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 public class SecurityConfig {
 
     private final ExpiredTokenRepository expiredTokenRepository;
+    private final LogoutTokenFilter logoutTokenFilter;
     private final TokenProvider tokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
@@ -70,7 +72,7 @@ public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        JwtFilter jwtFilter = new JwtFilter(tokenProvider, expiredTokenRepository);
+        JwtFilter jwtFilter = new JwtFilter(tokenProvider, expiredTokenRepository, logoutTokenFilter);
         http
                 .cors().configurationSource(corsConfigurationSource())
                 .and()
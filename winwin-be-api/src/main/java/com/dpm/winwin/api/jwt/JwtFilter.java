@@ -1,13 +1,13 @@
 package com.dpm.winwin.api.jwt;
 
 
+import com.dpm.winwin.api.auth.service.LogoutTokenFilter;
 import com.dpm.winwin.api.common.utils.CookieUtil;
 import com.dpm.winwin.api.member.dto.PingPongMember;
-import com.dpm.winwin.domain.entity.token.ExpiredToken;
 import com.dpm.winwin.domain.repository.token.ExpiredTokenRepository;
+import com.dpm.winwin.domain.repository.token.TokenDigest;
 import io.jsonwebtoken.Claims;
 import java.io.IOException;
-import java.util.Objects;
 import java.util.Optional;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
@@ -31,6 +31,7 @@ public class JwtFilter extends GenericFilterBean {
     public static final String BEARER = "Bearer ";
     private final TokenProvider tokenProvider;
     private final ExpiredTokenRepository expiredTokenRepository;
+    private final LogoutTokenFilter logoutTokenFilter;
 
 
     // 토큰의 인증 정보를 securityContext에 저장하는 역할을 수행
@@ -79,8 +80,12 @@ public class JwtFilter extends GenericFilterBean {
     }
 
     private boolean isLogoutToken(String accessToken) {
-        Optional<ExpiredToken> expiredToken = expiredTokenRepository.findById(Objects.requireNonNull(accessToken));
-        return expiredToken.isPresent();
+        byte[] digest = TokenDigest.digest(accessToken);
+        // Bloom filter 에 없는 토큰은 Redis 조회 없이 통과시킨다
+        if (!logoutTokenFilter.mightBeLoggedOut(digest)) {
+            return false;
+        }
+        return expiredTokenRepository.existsByDigest(TokenDigest.encode(digest));
     }
 
     private Long getMemberId(Claims claims) {
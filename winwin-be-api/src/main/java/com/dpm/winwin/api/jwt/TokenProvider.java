@@ -11,6 +11,7 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import java.security.Key;
+import java.time.Duration;
 import java.util.Date;
 import java.util.List;
 
@@ -91,6 +92,11 @@ public class TokenProvider implements InitializingBean {
                 .getBody();
     }
 
+    public Duration getRemainingLifetime(String token) {
+        Date expiration = getClaims(token).getExpiration();
+        return Duration.ofMillis(expiration.getTime() - System.currentTimeMillis());
+    }
+
     public boolean validateToken(String token) {
         try {
             log.info("token : {}", token);
@@ -7,9 +7,12 @@ import com.dpm.winwin.api.common.response.dto.BaseResponseDto;
 import com.dpm.winwin.api.common.utils.CookieUtil;
 import com.dpm.winwin.api.member.dto.PingPongMember;
 import com.dpm.winwin.api.member.dto.request.MemberDeleteRequest;
+import com.dpm.winwin.api.member.dto.request.MemberImageConfirmRequest;
+import com.dpm.winwin.api.member.dto.request.MemberImageUploadUrlRequest;
 import com.dpm.winwin.api.member.dto.request.MemberNicknameRequest;
 import com.dpm.winwin.api.member.dto.request.MemberUpdateRequest;
 import com.dpm.winwin.api.member.dto.response.MemberDeleteResponse;
+import com.dpm.winwin.api.member.dto.response.MemberImageUploadUrlResponse;
 import com.dpm.winwin.api.member.dto.response.MemberNicknameResponse;
 import com.dpm.winwin.api.member.dto.response.MemberRankReadResponse;
 import com.dpm.winwin.api.member.dto.response.MemberUpdateImageResponse;
@@ -55,6 +58,18 @@ public class MemberController {
         return BaseResponseDto.ok(memberCommandService.updateProfileImage(member.getMemberId(), multipartFile));
     }
 
+    @PostMapping("/image/presigned-url")
+    public BaseResponseDto<MemberImageUploadUrlResponse> generateProfileImageUploadUrl(@RequestBody @Valid MemberImageUploadUrlRequest request,
+                                                                                       @AuthenticationPrincipal PingPongMember member) {
+        return BaseResponseDto.ok(memberCommandService.generateProfileImageUploadUrl(member.getMemberId(), request));
+    }
+
+    @PostMapping("/image/confirm")
+    public BaseResponseDto<MemberUpdateImageResponse> confirmProfileImage(@RequestBody @Valid MemberImageConfirmRequest request,
+                                                                          @AuthenticationPrincipal PingPongMember member) {
+        return BaseResponseDto.ok(memberCommandService.confirmProfileImage(member.getMemberId(), request));
+    }
+
     @GetMapping("/{memberId}")
     public BaseResponseDto<MemberRankReadResponse> readMemberInfo(@PathVariable Long memberId) {
         return BaseResponseDto.ok(memberQueryService.readMemberInfo(memberId));
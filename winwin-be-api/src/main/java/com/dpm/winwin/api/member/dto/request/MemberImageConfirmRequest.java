@@ -0,0 +1,11 @@
+package com.dpm.winwin.api.member.dto.request;
+
+import javax.validation.constraints.NotBlank;
+
+public record MemberImageConfirmRequest(
+
+    @NotBlank(message = "업로드한 파일 이름을 입력해 주세요.")
+    String fileName
+) {
+
+}
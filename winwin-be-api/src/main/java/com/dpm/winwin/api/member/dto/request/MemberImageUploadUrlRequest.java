@@ -0,0 +1,21 @@
+package com.dpm.winwin.api.member.dto.request;
+
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Pattern;
+import javax.validation.constraints.Positive;
+
+public record MemberImageUploadUrlRequest(
+
+    @NotBlank(message = "파일 이름을 입력해 주세요.")
+    @Pattern(regexp = "^[^/\\\\]{1,100}$", message = "파일 이름이 올바르지 않습니다.")
+    String fileName,
+
+    @NotBlank(message = "파일 형식을 입력해 주세요.")
+    @Pattern(regexp = "^image/[a-zA-Z0-9.+-]+$", message = "이미지 파일만 업로드할 수 있습니다.")
+    String contentType,
+
+    @Positive(message = "파일 크기가 올바르지 않습니다.")
+    long contentLength
+) {
+
+}
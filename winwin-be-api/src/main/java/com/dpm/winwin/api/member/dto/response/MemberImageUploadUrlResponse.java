@@ -0,0 +1,11 @@
+package com.dpm.winwin.api.member.dto.response;
+
+import java.time.LocalDateTime;
+
+public record MemberImageUploadUrlResponse(
+    String uploadUrl,
+    String fileName,
+    LocalDateTime expiredAt
+) {
+
+}
@@ -1,7 +1,18 @@
 package com.dpm.winwin.api.member.dto.response;
 
+import com.dpm.winwin.api.common.constant.ThumbnailSize;
+import java.util.List;
+import java.util.Map;
+
 public record MemberUpdateImageResponse(
-    String image
+    String image,
+    List<ThumbnailResponse> thumbnails
 ) {
 
+    public static MemberUpdateImageResponse of(String image, Map<ThumbnailSize, String> thumbnailUrls) {
+        return new MemberUpdateImageResponse(image,
+            thumbnailUrls.entrySet().stream()
+                .map(entry -> new ThumbnailResponse(entry.getKey().getPixel(), entry.getValue()))
+                .toList());
+    }
 }
@@ -0,0 +1,8 @@
+package com.dpm.winwin.api.member.dto.response;
+
+public record ThumbnailResponse(
+    int size,
+    String image
+) {
+
+}
@@ -2,25 +2,42 @@ package com.dpm.winwin.api.member.service;
 
 import static com.dpm.winwin.api.common.constant.ImageType.PROFILE_IMAGE;
 import static com.dpm.winwin.api.common.error.enums.ErrorMessage.APPLE_TOKEN_REVOKE_FAIL;
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.FILE_NOT_FOUND;
+import static com.dpm.winwin.api.common.error.enums.ErrorMessage.INVALID_FILE_UPLOAD;
 import static com.dpm.winwin.api.common.error.enums.ErrorMessage.MEMBER_NOT_FOUND;
 import static com.dpm.winwin.domain.entity.member.enums.TalentType.GIVE;
 import static com.dpm.winwin.domain.entity.member.enums.TalentType.TAKE;
 
+import com.dpm.winwin.api.category.registry.CategoryRegistry;
+import com.dpm.winwin.api.category.registry.SubCategoryNode;
 import com.dpm.winwin.api.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.api.common.file.dto.FileMetadata;
 import com.dpm.winwin.api.common.file.service.FileService;
+import com.dpm.winwin.api.common.image.service.ThumbnailService;
+import com.dpm.winwin.api.member.dto.request.MemberImageConfirmRequest;
+import com.dpm.winwin.api.member.dto.request.MemberImageUploadUrlRequest;
 import com.dpm.winwin.api.member.dto.request.MemberNicknameRequest;
 import com.dpm.winwin.api.member.dto.request.MemberUpdateRequest;
 import com.dpm.winwin.api.member.dto.response.MemberDeleteResponse;
+import com.dpm.winwin.api.member.dto.response.MemberImageUploadUrlResponse;
 import com.dpm.winwin.api.member.dto.response.MemberNicknameResponse;
 import com.dpm.winwin.api.member.dto.response.MemberUpdateImageResponse;
 import com.dpm.winwin.api.member.dto.response.MemberUpdateResponse;
 import com.dpm.winwin.domain.entity.category.SubCategory;
 import com.dpm.winwin.domain.entity.member.Member;
+import com.dpm.winwin.domain.entity.member.MemberTalent;
 import com.dpm.winwin.domain.entity.oauth.OauthToken;
 import com.dpm.winwin.domain.entity.post.Likes;
 import com.dpm.winwin.domain.repository.category.SubCategoryRepository;
 import com.dpm.winwin.domain.repository.member.MemberRepository;
 import com.dpm.winwin.domain.repository.post.LikesRepository;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -47,11 +64,15 @@ import org.springframework.web.multipart.MultipartFile;
 public class MemberCommandService {
 
     private static final String TOKEN_TYPE_HINT = "refresh_token";
+    private static final Duration UPLOAD_URL_EXPIRATION = Duration.ofMinutes(10);
+    private static final long MAX_PROFILE_IMAGE_SIZE = 5 * 1024 * 1024;
     private final MemberRepository memberRepository;
     private final SubCategoryRepository subCategoryRepository;
+    private final CategoryRegistry categoryRegistry;
     private final RestTemplate restTemplate;
     private final ClientRegistrationRepository clientRegistrationRepository;
     private final FileService fileService;
+    private final ThumbnailService thumbnailService;
 
     private final LikesRepository likesRepository;
 
@@ -68,7 +89,63 @@ public class MemberCommandService {
             .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
         String profileImageUrl = fileService.uploadFile(multipartFile, memberId, PROFILE_IMAGE);
         member.updateProfileImage(profileImageUrl);
-        return new MemberUpdateImageResponse(profileImageUrl);
+
+        if (multipartFile.isEmpty()) {
+            return MemberUpdateImageResponse.of(profileImageUrl, Collections.emptyMap());
+        }
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            thumbnailService.createThumbnails(memberId, profileImageUrl, inputStream);
+        } catch (IOException e) {
+            log.error("Failed to prepare thumbnails", e);
+            throw new BusinessException(INVALID_FILE_UPLOAD);
+        }
+        return MemberUpdateImageResponse.of(profileImageUrl, thumbnailService.getThumbnailUrls(profileImageUrl));
+    }
+
+    /**
+     * 프로필 이미지를 S3 에 직접 업로드할 수 있는 presigned url 을 발급한다.
+     * 파일 이름(key)은 서버가 정하므로 다른 회원의 경로에는 업로드할 수 없다.
+     */
+    @Transactional(readOnly = true)
+    public MemberImageUploadUrlResponse generateProfileImageUploadUrl(Long memberId,
+                                                                      MemberImageUploadUrlRequest request) {
+        if (request.contentLength() > MAX_PROFILE_IMAGE_SIZE) {
+            throw new BusinessException(INVALID_FILE_UPLOAD);
+        }
+        String fileName = fileService.getSavedFileName(request.fileName(), memberId, PROFILE_IMAGE);
+        LocalDateTime expiredAt = LocalDateTime.now().plus(UPLOAD_URL_EXPIRATION);
+        String uploadUrl = fileService.generateUploadUrl(fileName, request.contentType(), request.contentLength(),
+            Date.from(expiredAt.atZone(ZoneId.systemDefault()).toInstant()));
+        return new MemberImageUploadUrlResponse(uploadUrl, fileName, expiredAt);
+    }
+
+    /**
+     * 직접 업로드된 파일을 검증한 뒤 프로필 이미지로 반영한다.
+     * 조건에 맞지 않는 파일은 저장소에 남지 않도록 삭제한다.
+     */
+    public MemberUpdateImageResponse confirmProfileImage(Long memberId, MemberImageConfirmRequest request) {
+        Member member = memberRepository.findById(memberId)
+            .orElseThrow(() -> new BusinessException(MEMBER_NOT_FOUND));
+
+        String fileName = request.fileName();
+        String prefix = String.format("member%s/%s/", memberId, PROFILE_IMAGE);
+        if (!fileName.startsWith(prefix) || fileName.contains("..")) {
+            throw new BusinessException(INVALID_FILE_UPLOAD);
+        }
+
+        String profileImageUrl = fileService.getFileUrl(fileName);
+        FileMetadata metadata = fileService.getFileMetadata(fileName)
+            .orElseThrow(() -> new BusinessException(FILE_NOT_FOUND));
+        if (metadata.contentLength() > MAX_PROFILE_IMAGE_SIZE
+            || metadata.contentType() == null || !metadata.contentType().startsWith("image/")) {
+            fileService.deleteFile(profileImageUrl);
+            throw new BusinessException(INVALID_FILE_UPLOAD);
+        }
+
+        member.updateProfileImage(profileImageUrl);
+        thumbnailService.createThumbnailsFromStorage(memberId, profileImageUrl);
+        return MemberUpdateImageResponse.of(profileImageUrl, thumbnailService.getThumbnailUrls(profileImageUrl));
     }
 
     public MemberUpdateResponse updateMember(Long memberId,
@@ -78,12 +155,12 @@ public class MemberCommandService {
 
         List<SubCategory> takenTalents = null;
         if (!CollectionUtils.isEmpty(memberUpdateRequest.takenTalents())){
-            takenTalents = subCategoryRepository.findAllById(memberUpdateRequest.takenTalents());
+            takenTalents = getExistingTalents(memberUpdateRequest.takenTalents());
         }
 
         List<SubCategory> givenTalents = null;
         if (!CollectionUtils.isEmpty(memberUpdateRequest.givenTalents())){
-            givenTalents = subCategoryRepository.findAllById(memberUpdateRequest.givenTalents());
+            givenTalents = getExistingTalents(memberUpdateRequest.givenTalents());
         }
 
         member.update(memberUpdateRequest.toDto(), givenTalents, takenTalents);
@@ -95,15 +172,30 @@ public class MemberCommandService {
                 member.getProfileLink(),
                 member.getTalents().stream()
                         .filter(memberTalent -> memberTalent.getType().equals(GIVE))
-                        .map(memberTalent -> memberTalent.getTalent().getName())
+                        .map(this::getTalentName)
                         .toList(),
                 member.getTalents().stream()
                         .filter(memberTalent -> memberTalent.getType().equals(TAKE))
-                        .map(memberTalent -> memberTalent.getTalent().getName())
+                        .map(this::getTalentName)
                         .toList()
         );
     }
 
+    // 존재 여부와 이름은 CategoryRegistry 에서 확인하고, 연관관계에는 조회 없이 프록시만 설정한다 (findAllById 와 같이 없는 id 는 무시)
+    private List<SubCategory> getExistingTalents(List<Long> talentIds) {
+        return talentIds.stream()
+                .distinct()
+                .filter(talentId -> categoryRegistry.findSubCategory(talentId).isPresent())
+                .map(subCategoryRepository::getReferenceById)
+                .toList();
+    }
+
+    private String getTalentName(MemberTalent memberTalent) {
+        return categoryRegistry.findSubCategory(memberTalent.getTalent().getId())
+                .map(SubCategoryNode::subCategoryName)
+                .orElseGet(() -> memberTalent.getTalent().getName());
+    }
+
     public MemberDeleteResponse deleteMember(Long memberId, String content) {
 
         Member member = memberRepository.findMemberWithToken(memberId)
@@ -19,10 +19,10 @@ import com.dpm.winwin.domain.entity.member.Member;
 import com.dpm.winwin.domain.entity.member.enums.ProviderType;
 import com.dpm.winwin.domain.entity.member.enums.Ranks;
 import com.dpm.winwin.domain.entity.oauth.OauthToken;
-import com.dpm.winwin.domain.entity.token.RefreshTokenEntity;
 import com.dpm.winwin.domain.repository.member.MemberRepository;
 import com.dpm.winwin.domain.repository.oauth.OauthRepository;
-import com.dpm.winwin.domain.repository.token.JwtTokenRepository;
+import com.dpm.winwin.domain.repository.token.RefreshTokenRepository;
+import com.dpm.winwin.domain.repository.token.TokenDigest;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jwt.SignedJWT;
@@ -62,7 +62,7 @@ import org.springframework.web.client.RestTemplate;
 public class AppleLoginService {
 
     private final MemberRepository memberRepository;
-    private final JwtTokenRepository jwtTokenRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final TokenProvider tokenProvider;
     private final ClientRegistrationRepository clientRegistrationRepository;
     private final RestTemplate restTemplate;
@@ -107,8 +107,9 @@ public class AppleLoginService {
         String accessToken = tokenProvider.createToken(member.getId(), member.getNickname(), 1);
         String refreshToken = tokenProvider.createToken(member.getId(), member.getNickname(), 30);
 
-        RefreshTokenEntity refreshTokenEntity = new RefreshTokenEntity(member.getId(), refreshToken);
-        jwtTokenRepository.save(refreshTokenEntity);
+        refreshTokenRepository.save(member.getId(),
+            TokenDigest.encode(TokenDigest.digest(refreshToken)),
+            tokenProvider.getRemainingLifetime(refreshToken));
 
         String nickname = member.getNickname();
         boolean isExistNickname = StringUtils.hasText(nickname);
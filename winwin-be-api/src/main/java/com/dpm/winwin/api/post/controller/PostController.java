@@ -1,5 +1,6 @@
 package com.dpm.winwin.api.post.controller;
 
+import com.dpm.winwin.api.common.constant.PageCountMode;
 import com.dpm.winwin.api.common.response.dto.BaseResponseDto;
 import com.dpm.winwin.api.common.response.dto.GlobalPageResponseDto;
 import com.dpm.winwin.api.member.dto.PingPongMember;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -41,15 +43,17 @@ public class PostController {
     @GetMapping
     public BaseResponseDto<GlobalPageResponseDto<PostResponse>> getPosts(PostListConditionRequest condition,
                                                                          Pageable pageable,
+                                                                         @RequestParam(defaultValue = "EXACT") PageCountMode countMode,
                                                                          @AuthenticationPrincipal PingPongMember member) {
-        return BaseResponseDto.ok(postService.getPosts(member.getMemberId(), condition, pageable));
+        return BaseResponseDto.ok(postService.getPosts(member.getMemberId(), condition, pageable, countMode));
     }
 
     @GetMapping("/custom")
     public BaseResponseDto<GlobalPageResponseDto<PostCustomizedResponse>> getCustomPosts(PostCustomizedConditionRequest condition,
                                                                                          Pageable pageable,
+                                                                                         @RequestParam(defaultValue = "EXACT") PageCountMode countMode,
                                                                                          @AuthenticationPrincipal PingPongMember member) {
-        return BaseResponseDto.ok(postService.getPostsCustomized(member.getMemberId(), condition, pageable));
+        return BaseResponseDto.ok(postService.getPostsCustomized(member.getMemberId(), condition, pageable, countMode));
     }
 
     @GetMapping("/{id}")
@@ -85,8 +89,9 @@ public class PostController {
 
     @GetMapping("/members/{memberId}")
     public BaseResponseDto<GlobalPageResponseDto<MyPagePostResponse>> getAllByMemberId(@PathVariable Long memberId,
-                                                                                       Pageable pageable) {
-        return BaseResponseDto.ok(postService.getAllByMemberId(memberId, pageable));
+                                                                                       Pageable pageable,
+                                                                                       @RequestParam(defaultValue = "EXACT") PageCountMode countMode) {
+        return BaseResponseDto.ok(postService.getAllByMemberId(memberId, pageable, countMode));
     }
 
     @PostMapping("/{postId}/likes")
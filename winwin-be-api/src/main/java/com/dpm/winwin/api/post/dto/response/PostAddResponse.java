@@ -1,5 +1,6 @@
 package com.dpm.winwin.api.post.dto.response;
 
+import com.dpm.winwin.api.category.registry.SubCategoryNode;
 import com.dpm.winwin.domain.entity.post.Post;
 import com.dpm.winwin.domain.entity.post.enums.ExchangePeriod;
 import com.dpm.winwin.domain.entity.post.enums.ExchangeTime;
@@ -22,22 +23,20 @@ public record PostAddResponse(
         ExchangePeriod exchangePeriod,
         ExchangeTime exchangeTime
 ) {
-    public static PostAddResponse from(Post savePost) {
+    public static PostAddResponse from(Post savePost, SubCategoryNode category, List<String> takenTalents) {
         return new PostAddResponse(
                 savePost.getId(),
                 savePost.getTitle(),
                 savePost.getContent(),
                 savePost.isShare(),
-                savePost.getMainCategory().getName(),
-                savePost.getMidCategory().getName(),
-                savePost.getSubCategory().getName(),
+                category.mainCategoryName(),
+                category.midCategoryName(),
+                category.subCategoryName(),
                 savePost.getLinks().stream()
                         .map(LinkResponse::of)
                         .toList(),
                 savePost.getChatLink(),
-                savePost.getTakenTalents().stream()
-                        .map(postTalent -> postTalent.getTalent().getName())
-                        .toList(),
+                takenTalents,
                 savePost.getTakenContent(),
                 savePost.getExchangeType(),
                 savePost.getExchangePeriod(),
@@ -25,7 +25,7 @@ public record PostCustomizedResponse(
             changeFormatCountToString(post.getLikes().size()),
             post.getMember().getId(),
             post.getMember().getNickname(),
-            post.getMember().getImage(),
+            post.getMember().getListImage(),
             post.getMember().getRanks().getName());
     }
 }
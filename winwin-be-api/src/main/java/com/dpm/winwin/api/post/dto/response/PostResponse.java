@@ -27,7 +27,7 @@ public record PostResponse(
             changeFormatCountToString(post.getLikes().size()),
             post.getMember().getId(),
             post.getMember().getNickname(),
-            post.getMember().getImage(),
+            post.getMember().getListImage(),
             post.getMember().getRanks().getName(),
             post.getTakenTalents().stream()
                 .map(postTalent -> postTalent.getTalent().getName())
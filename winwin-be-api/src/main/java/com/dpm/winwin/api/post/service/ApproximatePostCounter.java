@@ -0,0 +1,51 @@
+package com.dpm.winwin.api.post.service;
+
+import com.dpm.winwin.domain.repository.post.PostCountCacheRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 목록의 근사 전체 개수.
+ * 필터별로 한 번 센 값을 짧은 TTL 동안 Redis 에 두고 모든 노드, 모든 회원이 공유한다.
+ * Redis 를 사용할 수 없으면 매번 DB 에서 센다.
+ */
+@Slf4j
+@Component
+public class ApproximatePostCounter {
+
+    private final PostCountCacheRepository postCountCacheRepository;
+    private final Duration ttl;
+
+    public ApproximatePostCounter(PostCountCacheRepository postCountCacheRepository,
+                                  @Value("${post.count-cache.ttl:PT1M}") Duration ttl) {
+        this.postCountCacheRepository = postCountCacheRepository;
+        this.ttl = ttl;
+    }
+
+    public long count(String filter, LongSupplier counter) {
+        Optional<Long> cached = find(filter);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        long count = counter.getAsLong();
+        try {
+            postCountCacheRepository.save(filter, count, ttl);
+        } catch (RuntimeException e) {
+            log.warn("게시물 수 캐시 저장에 실패했습니다. filter : {}", filter, e);
+        }
+        return count;
+    }
+
+    private Optional<Long> find(String filter) {
+        try {
+            return postCountCacheRepository.findByFilter(filter);
+        } catch (RuntimeException e) {
+            log.warn("게시물 수 캐시 조회에 실패했습니다. filter : {}", filter, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.dpm.winwin.api.post.service;
+
+import com.dpm.winwin.domain.repository.member.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 증감으로 관리하는 회원별 게시물 수를 post 테이블 기준으로 주기적으로 다시 계산한다.
+ * 컬럼을 추가하기 전의 게시물도 세도록 애플리케이션이 시작될 때 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberPostCountReconciler {
+
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${member.post-count.reconcile-cron:0 40 4 * * *}")
+    public void reconcile() {
+        try {
+            Integer updated = transactionTemplate.execute(status -> memberRepository.reconcilePostCounts());
+            log.info("회원 {} 명의 게시물 수를 다시 계산했습니다.", updated);
+        } catch (RuntimeException e) {
+            log.error("회원별 게시물 수 재계산에 실패했습니다.", e);
+        }
+    }
+}
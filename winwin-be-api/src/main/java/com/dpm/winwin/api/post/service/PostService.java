@@ -2,6 +2,9 @@ package com.dpm.winwin.api.post.service;
 
 import static com.dpm.winwin.api.common.error.enums.ErrorMessage.INVALID_POST_REQUEST;
 
+import com.dpm.winwin.api.category.registry.CategoryRegistry;
+import com.dpm.winwin.api.category.registry.SubCategoryNode;
+import com.dpm.winwin.api.common.constant.PageCountMode;
 import com.dpm.winwin.api.common.error.enums.ErrorMessage;
 import com.dpm.winwin.api.common.error.exception.custom.BusinessException;
 import com.dpm.winwin.api.common.response.dto.GlobalPageResponseDto;
@@ -26,6 +29,7 @@ import com.dpm.winwin.domain.entity.post.enums.ExchangePeriod;
 import com.dpm.winwin.domain.entity.post.enums.ExchangeTime;
 import com.dpm.winwin.domain.entity.post.enums.ExchangeType;
 import com.dpm.winwin.domain.repository.category.MainCategoryRepository;
+import com.dpm.winwin.domain.repository.category.MidCategoryRepository;
 import com.dpm.winwin.domain.repository.category.SubCategoryRepository;
 import com.dpm.winwin.domain.repository.link.LinkRepository;
 import com.dpm.winwin.domain.repository.member.MemberRepository;
@@ -37,6 +41,7 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -48,25 +53,49 @@ import org.springframework.util.StringUtils;
 public class PostService {
 
     private final MemberRepository memberRepository;
+    private final MainCategoryRepository mainCategoryRepository;
+    private final MidCategoryRepository midCategoryRepository;
     private final SubCategoryRepository subCategoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final ApproximatePostCounter approximatePostCounter;
     private final PostRepository postRepository;
     private final LinkRepository linkRepository;
 
     public GlobalPageResponseDto<PostResponse> getPosts(Long memberId,
                                                         PostListConditionRequest condition,
-                                                        Pageable pageable) {
-        Page<PostResponse> page = postRepository
-            .getAllByIsShareAndCategory(memberId, condition, pageable)
+                                                        Pageable pageable,
+                                                        PageCountMode countMode) {
+        if (countMode == PageCountMode.EXACT) {
+            Page<PostResponse> page = postRepository
+                .getAllByIsShareAndCategory(memberId, condition, pageable)
+                .map(PostResponse::of);
+            return GlobalPageResponseDto.of(page);
+        }
+        Slice<PostResponse> slice = postRepository
+            .getSliceByIsShareAndCategory(memberId, condition, pageable)
             .map(PostResponse::of);
-        return GlobalPageResponseDto.of(page);
+        Long totalElements = countMode == PageCountMode.APPROXIMATE
+            ? approximatePostCounter.count(feedFilter(condition), () -> postRepository.countByIsShareAndCategory(condition))
+            : null;
+        return GlobalPageResponseDto.of(slice, totalElements);
     }
 
     public GlobalPageResponseDto<PostCustomizedResponse> getPostsCustomized(
-        Long memberId, PostCustomizedConditionRequest condition, Pageable pageable) {
-        Page<PostCustomizedResponse> page = postRepository
-            .getAllByMemberTalents(memberId, condition, pageable)
+        Long memberId, PostCustomizedConditionRequest condition, Pageable pageable, PageCountMode countMode) {
+        if (countMode == PageCountMode.EXACT) {
+            Page<PostCustomizedResponse> page = postRepository
+                .getAllByMemberTalents(memberId, condition, pageable)
+                .map(PostCustomizedResponse::of);
+            return GlobalPageResponseDto.of(page);
+        }
+        Slice<PostCustomizedResponse> slice = postRepository
+            .getSliceByMemberTalents(memberId, condition, pageable)
             .map(PostCustomizedResponse::of);
-        return GlobalPageResponseDto.of(page);
+        Long totalElements = countMode == PageCountMode.APPROXIMATE
+            ? approximatePostCounter.count("custom:" + memberId + ":" + categoryId(condition.subCategoryId()),
+                () -> postRepository.countByMemberTalents(memberId, condition))
+            : null;
+        return GlobalPageResponseDto.of(slice, totalElements);
     }
 
     public PostAddResponse save(Long memberId, PostAddRequest request) {
@@ -76,26 +105,28 @@ public class PostService {
 
         Member member = memberRepository.findById(memberId)
             .orElseThrow(() -> new BusinessException(ErrorMessage.MEMBER_NOT_FOUND));
-        SubCategory subCategory = subCategoryRepository
-            .getByIdWithMainCategoryAndMidCategory(request.subCategoryId())
-            .orElseThrow(() -> new BusinessException(ErrorMessage.SUB_CATEGORY_NOT_FOUND));
+        SubCategoryNode category = getSubCategoryNode(request.subCategoryId());
 
         Post post = request.toEntity();
         post.writeBy(member);
-        post.setAllCategoriesBySubCategory(subCategory);
+        post.setAllCategories(mainCategoryRepository.getReferenceById(category.mainCategoryId()),
+            midCategoryRepository.getReferenceById(category.midCategoryId()),
+            subCategoryRepository.getReferenceById(category.subCategoryId()));
         post.setLink(request.links());
 
         if (!request.isShare()) {
             post.setTakenContent(request.takenContent());
             List<PostTalent> postTalents = request.takenTalentIds().stream()
-                .map(talentId -> PostTalent.of(post, subCategoryRepository.findById(talentId)
-                    .orElseThrow(() -> new BusinessException(ErrorMessage.SUB_CATEGORY_NOT_FOUND))))
+                .map(talentId -> PostTalent.of(post,
+                    subCategoryRepository.getReferenceById(getSubCategoryNode(talentId).subCategoryId())))
                 .toList();
 
             postTalents.forEach(post::addTakenTalent);
         }
         Post savedPost = postRepository.save(post);
-        return PostAddResponse.from(savedPost);
+        changePostCount(savedPost.getSubCategory(), savedPost.isShare(), 1);
+        memberRepository.increasePostCount(memberId, 1);
+        return PostAddResponse.from(savedPost, category, getTakenTalentNames(savedPost));
     }
 
     @Transactional(readOnly = true)
@@ -131,6 +162,8 @@ public class PostService {
         Post post = postRepository.findById(id)
             .orElseThrow(() -> new BusinessException(ErrorMessage.POST_NOT_FOUND));
         postRepository.delete(post);
+        changePostCount(post.getSubCategory(), post.isShare(), -1);
+        memberRepository.increasePostCount(post.getMember().getId(), -1);
         return post.getId();
     }
 
@@ -147,13 +180,21 @@ public class PostService {
         }
 
         Post post = getByIdAndMemberId(memberId, postId);
-        SubCategory subCategory = subCategoryRepository
-            .getByIdWithMainCategoryAndMidCategory(updateRequest.subCategoryId())
-            .orElseThrow(() -> new BusinessException(ErrorMessage.SUB_CATEGORY_NOT_FOUND));
-        List<SubCategory> savedTalents = subCategoryRepository.findAllById(
-            updateRequest.takenTalents());
+        SubCategoryNode category = getSubCategoryNode(updateRequest.subCategoryId());
+        List<SubCategory> savedTalents = getExistingTalents(updateRequest.takenTalents());
+        SubCategory beforeSubCategory = post.getSubCategory();
+        boolean beforeIsShare = post.isShare();
 
-        post.update(updateRequest.toDto(), subCategory, savedTalents);
+        post.update(updateRequest.toDto(),
+            mainCategoryRepository.getReferenceById(category.mainCategoryId()),
+            midCategoryRepository.getReferenceById(category.midCategoryId()),
+            subCategoryRepository.getReferenceById(category.subCategoryId()),
+            savedTalents);
+        if (beforeSubCategory == null || !beforeSubCategory.getId().equals(category.subCategoryId())
+            || beforeIsShare != post.isShare()) {
+            changePostCount(beforeSubCategory, beforeIsShare, -1);
+            changePostCount(post.getSubCategory(), post.isShare(), 1);
+        }
 
         for (LinkRequest linkRequest : updateRequest.filterExistentLinks()) {
             Link link = linkRepository.findById(linkRequest.id())
@@ -166,16 +207,14 @@ public class PostService {
             post.getTitle(),
             post.getContent(),
             post.isShare(),
-            post.getMainCategory().getName(),
-            post.getMidCategory().getName(),
-            post.getSubCategory().getName(),
+            category.mainCategoryName(),
+            category.midCategoryName(),
+            category.subCategoryName(),
             post.getLinks().stream()
                 .map(LinkResponse::of)
                 .toList(),
             post.getChatLink(),
-            post.getTakenTalents().stream()
-                .map(postTalent -> postTalent.getTalent().getName())
-                .toList(),
+            getTakenTalentNames(post),
             post.getTakenContent(),
             post.getExchangeType(),
             post.getExchangePeriod(),
@@ -199,11 +238,65 @@ public class PostService {
         return PostMethodsResponse.of(exchangeTypes, exchangePeriods, exchangeTimes);
     }
 
-    public GlobalPageResponseDto<MyPagePostResponse> getAllByMemberId(Long memberId, Pageable pageable) {
-        Page<MyPagePostResponse> page = postRepository.getAllByMemberId(memberId, pageable)
+    public GlobalPageResponseDto<MyPagePostResponse> getAllByMemberId(Long memberId, Pageable pageable,
+                                                                      PageCountMode countMode) {
+        if (countMode == PageCountMode.EXACT) {
+            Page<MyPagePostResponse> page = postRepository.getAllByMemberId(memberId, pageable)
+                .map(MyPagePostResponse::of);
+            return GlobalPageResponseDto.of(page);
+        }
+        Slice<MyPagePostResponse> slice = postRepository.getSliceByMemberId(memberId, pageable)
             .map(MyPagePostResponse::of);
+        // 회원별 게시물 수는 member.postCount 한 행만 읽으므로 캐시 없이 바로 조회한다
+        Long totalElements = countMode == PageCountMode.APPROXIMATE
+            ? postRepository.getApproximateCountByMemberId(memberId)
+            : null;
+        return GlobalPageResponseDto.of(slice, totalElements);
+    }
 
-        return GlobalPageResponseDto.of(page);
+    // 조회 조건과 같은 기준으로 정규화해야 같은 결과를 내는 요청이 같은 캐시를 공유한다
+    private String feedFilter(PostListConditionRequest condition) {
+        return String.format("feed:%s:%d:%d:%d", Boolean.TRUE.equals(condition.isShare()),
+            categoryId(condition.mainCategory()), categoryId(condition.midCategory()),
+            categoryId(condition.subCategory()));
+    }
+
+    private long categoryId(Long categoryId) {
+        return categoryId == null ? 0 : categoryId;
+    }
+
+    // 카테고리 존재 여부와 이름은 CategoryRegistry snapshot 에서 확인하고, 연관관계에는 조회 없이 프록시만 설정한다
+    private SubCategoryNode getSubCategoryNode(Long subCategoryId) {
+        return categoryRegistry.findSubCategory(subCategoryId)
+            .orElseThrow(() -> new BusinessException(ErrorMessage.SUB_CATEGORY_NOT_FOUND));
+    }
+
+    // 카테고리별 게시물 수는 게시물 변경과 같은 트랜잭션에서 소분류 한 행만 증감한다
+    private void changePostCount(SubCategory subCategory, boolean isShare, long delta) {
+        if (subCategory == null) {
+            return;
+        }
+        subCategoryRepository.increasePostCount(subCategory.getId(), delta, isShare ? delta : 0);
+    }
+
+    // findAllById 와 같이 존재하지 않는 id 는 무시한다
+    private List<SubCategory> getExistingTalents(List<Long> talentIds) {
+        if (CollectionUtils.isEmpty(talentIds)) {
+            return List.of();
+        }
+        return talentIds.stream()
+            .distinct()
+            .filter(talentId -> categoryRegistry.findSubCategory(talentId).isPresent())
+            .map(subCategoryRepository::getReferenceById)
+            .toList();
+    }
+
+    private List<String> getTakenTalentNames(Post post) {
+        return post.getTakenTalents().stream()
+            .map(postTalent -> categoryRegistry.findSubCategory(postTalent.getTalent().getId())
+                .map(SubCategoryNode::subCategoryName)
+                .orElseGet(() -> postTalent.getTalent().getName()))
+            .toList();
     }
 
     private boolean validateRequestByIsShare(boolean isShare, List<Long> takenTalentIds, String takenContent) {
@@ -3,6 +3,9 @@ package com.dpm.winwin.api.category.controller;
 import static com.dpm.winwin.api.member.controller.MemberControllerTest.MEMBER_ID;
 import static com.dpm.winwin.api.utils.RestDocsConfig.field;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
@@ -10,6 +13,7 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWit
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.dpm.winwin.api.category.dto.MainCategoryResponse;
@@ -23,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.ResultActions;
@@ -30,6 +35,8 @@ import org.springframework.test.web.servlet.ResultActions;
 @WithMockCustomUser
 class CategoryControllerTest extends RestDocsTestSupport {
 
+    private static final String ETAG = "\"8f14e45fceea167a5a36dedd4bea2543\"";
+
     @MockBean
     CategoryService categoryService;
 
@@ -40,17 +47,23 @@ class CategoryControllerTest extends RestDocsTestSupport {
             1L,
             "자기계발",
             "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png",
-            List.of(new MidCategoryOfMainResponse(1L, "취업/이직"),
-                new MidCategoryOfMainResponse(2L, "직무역량")));
+            42L,
+            17L,
+            List.of(new MidCategoryOfMainResponse(1L, "취업/이직", 30L, 12L),
+                new MidCategoryOfMainResponse(2L, "직무역량", 12L, 5L)));
 
         MainCategoryResponse mainCategoryResponse2 = new MainCategoryResponse(
             2L,
             "디자인 · 영상",
             "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png",
-            List.of(new MidCategoryOfMainResponse(5L, "디자인"),
-                new MidCategoryOfMainResponse(6L, "영상")));
+            8L,
+            3L,
+            List.of(new MidCategoryOfMainResponse(5L, "디자인", 5L, 2L),
+                new MidCategoryOfMainResponse(6L, "영상", 3L, 1L)));
 
         // when
+        given(categoryService.getEtag())
+            .willReturn(ETAG);
         given(categoryService.getAllMainCategories())
             .willReturn(List.of(mainCategoryResponse, mainCategoryResponse2));
 
@@ -60,16 +73,50 @@ class CategoryControllerTest extends RestDocsTestSupport {
 
         // then
         result.andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
             .andDo(restDocs.document(
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("카테고리 트리 버전 (다음 요청의 If-None-Match 에 사용)")
+                ),
                 responseFields(
                     fieldWithPath("message").type(STRING).description("성공 여부"),
                     fieldWithPath("data[].id").type(NUMBER).description("메인 카테고리 id"),
                     fieldWithPath("data[].name").type(STRING).description("대분류 카테고리 이름"),
                     fieldWithPath("data[].image").type(STRING).description("대분류 카테고리 이미지 url"),
+                    fieldWithPath("data[].postCount").type(NUMBER).description("대분류 카테고리 게시물 수"),
+                    fieldWithPath("data[].sharePostCount").type(NUMBER).description("대분류 카테고리 재능 나눔 게시물 수"),
                     fieldWithPath("data[].midCategories[].id").type(NUMBER)
                         .description("중분류 카테고리 id"),
                     fieldWithPath("data[].midCategories[].name").type(STRING)
-                        .description("중분류 카테고리 이름")))
+                        .description("중분류 카테고리 이름"),
+                    fieldWithPath("data[].midCategories[].postCount").type(NUMBER)
+                        .description("중분류 카테고리 게시물 수"),
+                    fieldWithPath("data[].midCategories[].sharePostCount").type(NUMBER)
+                        .description("중분류 카테고리 재능 나눔 게시물 수")))
+            );
+    }
+
+    @Test
+    void 카테고리가_변경되지_않았으면_304를_응답한다() throws Exception {
+        // when
+        given(categoryService.getEtag())
+            .willReturn(ETAG);
+
+        ResultActions result = mockMvc.perform(
+            get("/api/v1/categories/main")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG)
+        );
+
+        // then
+        result.andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 응답의 ETag")
+                ),
+                responseHeaders(
+                    headerWithName(HttpHeaders.ETAG).description("카테고리 트리 버전")
+                ))
             );
     }
 
@@ -80,14 +127,18 @@ class CategoryControllerTest extends RestDocsTestSupport {
         MidCategoryResponse midCategoryResponse = new MidCategoryResponse(
             1L,
             "취업/이직",
-            List.of(new SubCategoryResponse(1L, "자소서 · 면접"),
-                new SubCategoryResponse(2L, "취업 · 이직 · 진로")));
+            30L,
+            12L,
+            List.of(new SubCategoryResponse(1L, "자소서 · 면접", 18L, 7L),
+                new SubCategoryResponse(2L, "취업 · 이직 · 진로", 12L, 5L)));
 
         MidCategoryResponse midCategoryResponse2 = new MidCategoryResponse(
             2L,
             "직무역량",
-            List.of(new SubCategoryResponse(4L, "기획 · PM"),
-                new SubCategoryResponse(5L, "마케팅")));
+            12L,
+            5L,
+            List.of(new SubCategoryResponse(4L, "기획 · PM", 9L, 4L),
+                new SubCategoryResponse(5L, "마케팅", 3L, 1L)));
 
         // when
         given(categoryService.getAllMidCategories(mainCategoryId))
@@ -110,10 +161,16 @@ class CategoryControllerTest extends RestDocsTestSupport {
                     fieldWithPath("message").type(STRING).description("성공 여부"),
                     fieldWithPath("data[].id").type(NUMBER).description("중분류 카테고리 id"),
                     fieldWithPath("data[].name").type(STRING).description("중분류 카테고리 이름"),
+                    fieldWithPath("data[].postCount").type(NUMBER).description("중분류 카테고리 게시물 수"),
+                    fieldWithPath("data[].sharePostCount").type(NUMBER).description("중분류 카테고리 재능 나눔 게시물 수"),
                     fieldWithPath("data[].subCategories[].id").type(NUMBER)
                         .description("소분류 카테고리 id"),
                     fieldWithPath("data[].subCategories[].name").type(STRING)
-                        .description("소분류 카테고리 이름")))
+                        .description("소분류 카테고리 이름"),
+                    fieldWithPath("data[].subCategories[].postCount").type(NUMBER)
+                        .description("소분류 카테고리 게시물 수"),
+                    fieldWithPath("data[].subCategories[].sharePostCount").type(NUMBER)
+                        .description("소분류 카테고리 재능 나눔 게시물 수")))
             );
     }
 
@@ -121,8 +178,8 @@ class CategoryControllerTest extends RestDocsTestSupport {
     void sub_category를_조회한다() throws Exception {
         // given
         Long midCategoryId = 1L;
-        SubCategoryResponse subCategoryResponse = new SubCategoryResponse(1L, "자소서 · 면접");
-        SubCategoryResponse subCategoryResponse2 = new SubCategoryResponse(2L, "취업 · 이직 · 진로");
+        SubCategoryResponse subCategoryResponse = new SubCategoryResponse(1L, "자소서 · 면접", 18L, 7L);
+        SubCategoryResponse subCategoryResponse2 = new SubCategoryResponse(2L, "취업 · 이직 · 진로", 12L, 5L);
 
         // when
         given(categoryService.getAllSubCategories(midCategoryId))
@@ -141,7 +198,9 @@ class CategoryControllerTest extends RestDocsTestSupport {
                 responseFields(
                     fieldWithPath("message").type(STRING).description("성공 여부"),
                     fieldWithPath("data[].id").type(NUMBER).description("소분류 카테고리 id"),
-                    fieldWithPath("data[].name").type(STRING).description("소분류 카테고리 이름")
+                    fieldWithPath("data[].name").type(STRING).description("소분류 카테고리 이름"),
+                    fieldWithPath("data[].postCount").type(NUMBER).description("소분류 카테고리 게시물 수"),
+                    fieldWithPath("data[].sharePostCount").type(NUMBER).description("소분류 카테고리 재능 나눔 게시물 수")
                 )));
     }
 
@@ -149,8 +208,8 @@ class CategoryControllerTest extends RestDocsTestSupport {
     void custom_category를_조회한다() throws Exception {
         // given
         Long memberId = 1L;
-        SubCategoryResponse subCategoryResponse = new SubCategoryResponse(1L, "자소서 · 면접");
-        SubCategoryResponse subCategoryResponse2 = new SubCategoryResponse(2L, "취업 · 이직 · 진로");
+        SubCategoryResponse subCategoryResponse = new SubCategoryResponse(1L, "자소서 · 면접", 18L, 7L);
+        SubCategoryResponse subCategoryResponse2 = new SubCategoryResponse(2L, "취업 · 이직 · 진로", 12L, 5L);
 
 
         // when
@@ -167,7 +226,9 @@ class CategoryControllerTest extends RestDocsTestSupport {
                 responseFields(
                     fieldWithPath("message").type(STRING).description("성공 여부"),
                     fieldWithPath("data[].id").type(NUMBER).description("소분류 카테고리 id"),
-                    fieldWithPath("data[].name").type(STRING).description("소분류 카테고리 이름")
+                    fieldWithPath("data[].name").type(STRING).description("소분류 카테고리 이름"),
+                    fieldWithPath("data[].postCount").type(NUMBER).description("소분류 카테고리 게시물 수"),
+                    fieldWithPath("data[].sharePostCount").type(NUMBER).description("소분류 카테고리 재능 나눔 게시물 수")
                 )));
     }
 }
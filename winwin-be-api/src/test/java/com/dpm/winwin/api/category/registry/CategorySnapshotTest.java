@@ -0,0 +1,82 @@
+package com.dpm.winwin.api.category.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.api.category.dto.MidCategoryOfMainResponse;
+import com.dpm.winwin.api.category.dto.SubCategoryResponse;
+import com.dpm.winwin.domain.repository.category.dto.response.CategoryTreeRowResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CategorySnapshotTest {
+
+    private static final List<CategoryTreeRowResponse> ROWS = List.of(
+        row(1L, "자기계발", 1L, "취업/이직", 1L, "자소서 · 면접", 3L, 1L),
+        row(1L, "자기계발", 1L, "취업/이직", 2L, "취업 · 이직 · 진로", 2L, 2L),
+        row(1L, "자기계발", 2L, "직무역량", 4L, "기획 · PM", 5L, 0L),
+        row(2L, "디자인 · 영상", 5L, "디자인", null, null, null, null),
+        row(3L, "운동", null, null, null, null, null, null)
+    );
+
+    @Test
+    void 정렬된_행으로부터_카테고리_트리를_만든다() {
+        // when
+        CategorySnapshot snapshot = CategorySnapshot.from(ROWS);
+
+        // then
+        assertThat(snapshot.getMainCategories()).hasSize(3);
+        assertThat(snapshot.getMainCategories().get(0).midCategories())
+            .containsExactly(new MidCategoryOfMainResponse(1L, "취업/이직", 5L, 3L),
+                new MidCategoryOfMainResponse(2L, "직무역량", 5L, 0L));
+        assertThat(snapshot.getMainCategories().get(2).midCategories()).isEmpty();
+        assertThat(snapshot.getMidCategories(null)).hasSize(3);
+        assertThat(snapshot.getMidCategories(2L).get(0).subCategories()).isEmpty();
+        assertThat(snapshot.getSubCategories(1L))
+            .containsExactly(new SubCategoryResponse(1L, "자소서 · 면접", 3L, 1L),
+                new SubCategoryResponse(2L, "취업 · 이직 · 진로", 2L, 2L));
+        assertThat(snapshot.getSubCategories(null)).hasSize(3);
+    }
+
+    @Test
+    void 중분류와_대분류의_게시물_수는_하위_카테고리의_합계이다() {
+        // when
+        CategorySnapshot snapshot = CategorySnapshot.from(ROWS);
+
+        // then
+        assertThat(snapshot.getMainCategories().get(0).postCount()).isEqualTo(10L);
+        assertThat(snapshot.getMainCategories().get(0).sharePostCount()).isEqualTo(3L);
+        assertThat(snapshot.getMainCategories().get(1).postCount()).isZero();
+        assertThat(snapshot.getMidCategories(1L).get(0).postCount()).isEqualTo(5L);
+    }
+
+    @Test
+    void 소분류_id_로_상위_카테고리를_찾는다() {
+        // when
+        CategorySnapshot snapshot = CategorySnapshot.from(ROWS);
+
+        // then
+        assertThat(snapshot.findSubCategory(4L))
+            .contains(new SubCategoryNode(1L, "자기계발", 2L, "직무역량", 4L, "기획 · PM"));
+        assertThat(snapshot.findSubCategory(99L)).isEmpty();
+        assertThat(snapshot.findSubCategory(null)).isEmpty();
+    }
+
+    @Test
+    void 내용이_같으면_etag_가_같고_다르면_달라진다() {
+        // when
+        CategorySnapshot snapshot = CategorySnapshot.from(ROWS);
+        CategorySnapshot same = CategorySnapshot.from(List.copyOf(ROWS));
+        CategorySnapshot renamed = CategorySnapshot.from(List.of(row(1L, "자기 계발", 1L, "취업/이직", 1L, "자소서 · 면접", 3L, 1L)));
+
+        // then
+        assertThat(snapshot.getEtag()).startsWith("\"").endsWith("\"");
+        assertThat(snapshot.getEtag()).isEqualTo(same.getEtag());
+        assertThat(snapshot.getEtag()).isNotEqualTo(renamed.getEtag());
+    }
+
+    private static CategoryTreeRowResponse row(Long mainId, String mainName, Long midId, String midName,
+                                               Long subId, String subName, Long postCount, Long sharePostCount) {
+        return new CategoryTreeRowResponse(mainId, mainName, "image.png", "background.png", midId, midName,
+            subId, subName, postCount, sharePostCount);
+    }
+}
@@ -0,0 +1,87 @@
+package com.dpm.winwin.api.chat.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageArchiveResponse;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageReadResponse;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChatSegmentStoreTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    @TempDir
+    Path tempDir;
+
+    private ChatSegmentStore chatSegmentStore;
+
+    @BeforeEach
+    void setUp() {
+        chatSegmentStore = new ChatSegmentStore(true, tempDir.toString());
+    }
+
+    @Test
+    void cursor_이전_메시지를_최신순으로_읽는다() throws Exception {
+        chatSegmentStore.append(ROOM_ID, messages(1, 300));
+
+        List<ChatMessageReadResponse> history = chatSegmentStore.read(ROOM_ID, 200L, 5);
+
+        assertThat(history).extracting(ChatMessageReadResponse::messageId)
+            .containsExactly(199L, 198L, 197L, 196L, 195L);
+        assertThat(history.get(0).content()).isEqualTo("메시지 199");
+    }
+
+    @Test
+    void block_경계를_넘어서_읽는다() throws Exception {
+        chatSegmentStore.append(ROOM_ID, messages(1, 300));
+
+        List<ChatMessageReadResponse> history = chatSegmentStore.read(ROOM_ID, 130L, 10);
+
+        assertThat(history).extracting(ChatMessageReadResponse::messageId)
+            .containsExactly(129L, 128L, 127L, 126L, 125L, 124L, 123L, 122L, 121L, 120L);
+    }
+
+    @Test
+    void 이미_보관된_메시지는_다시_기록하지_않는다() throws Exception {
+        chatSegmentStore.append(ROOM_ID, messages(1, 100));
+        chatSegmentStore.append(ROOM_ID, messages(50, 150));
+
+        List<ChatMessageReadResponse> history = chatSegmentStore.read(ROOM_ID, null, 200);
+
+        assertThat(history).hasSize(150);
+        assertThat(history).extracting(ChatMessageReadResponse::messageId).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void 보관된_메시지가_없는_채팅방은_빈_목록을_반환한다() throws Exception {
+        assertThat(chatSegmentStore.read(2L, null, 10)).isEmpty();
+    }
+
+    @Test
+    void 보관을_켰는데_경로를_지정하지_않으면_시작하지_않는다() {
+        assertThatThrownBy(() -> new ChatSegmentStore(true, ""))
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ChatSegmentStore(true, tempDir.resolve("not-mounted").toString()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 경로를_지정하지_않은_노드는_보관된_메시지가_없는_것으로_조회한다() throws Exception {
+        assertThat(new ChatSegmentStore(false, "").read(ROOM_ID, null, 10)).isEmpty();
+    }
+
+    private List<ChatMessageArchiveResponse> messages(long from, long to) {
+        LocalDateTime createdDate = LocalDateTime.of(2022, 11, 1, 12, 0);
+        return LongStream.rangeClosed(from, to)
+            .mapToObj(id -> new ChatMessageArchiveResponse(id, ROOM_ID, id % 2 + 1, "메시지 " + id, true,
+                createdDate.plusMinutes(id)))
+            .toList();
+    }
+}
@@ -0,0 +1,219 @@
+package com.dpm.winwin.api.chat.controller;
+
+import static com.dpm.winwin.api.utils.RestDocsConfig.field;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.dpm.winwin.api.chat.dto.request.ChatReadRequest;
+import com.dpm.winwin.api.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.api.chat.dto.response.ChatReadResponse;
+import com.dpm.winwin.api.chat.dto.response.ChatRoomResponse;
+import com.dpm.winwin.api.chat.service.ChatCommandService;
+import com.dpm.winwin.api.chat.service.ChatQueryService;
+import com.dpm.winwin.api.common.response.dto.GlobalCursorResponseDto;
+import com.dpm.winwin.api.utils.RestDocsTestSupport;
+import com.dpm.winwin.api.utils.WithMockCustomUser;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.ResultActions;
+
+@WithMockCustomUser
+public class ChatControllerTest extends RestDocsTestSupport {
+
+    @MockBean
+    private ChatQueryService chatQueryService;
+
+    @MockBean
+    private ChatCommandService chatCommandService;
+
+    @Test
+    void 채팅방_목록을_조회한다() throws Exception {
+        // given
+        List<ChatRoomResponse> rooms = List.of(
+            new ChatRoomResponse(3L, 2L, "김감자", "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/1.png",
+                240L, "네 좋아요!", LocalDateTime.of(2022, 11, 1, 12, 3), 2L, true),
+            new ChatRoomResponse(1L, 5L, "박고구마", "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/2.png",
+                121L, "감사합니다", LocalDateTime.of(2022, 10, 30, 18, 20), 0L, false)
+        );
+        GlobalCursorResponseDto<ChatRoomResponse> response = new GlobalCursorResponseDto<>(rooms, 121L, true);
+
+        // when
+        given(chatQueryService.getRooms(1L, null, 2))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            get("/api/v1/chat/rooms")
+                .param("size", "2")
+                .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestParameters(
+                    parameterWithName("cursorId").optional().description("이 값보다 이전에 대화한 채팅방을 조회 (처음 조회 시 생략)")
+                        .attributes(field("type", "Number")),
+                    parameterWithName("size").optional().description("조회할 채팅방 수 (기본 20, 최대 100)")
+                        .attributes(field("type", "Number"))
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.content[].roomId").type(JsonFieldType.NUMBER).description("채팅방 id"),
+                    fieldWithPath("data.content[].partnerId").type(JsonFieldType.NUMBER).description("상대 회원 id"),
+                    fieldWithPath("data.content[].partnerNickname").type(JsonFieldType.STRING).description("상대 회원 닉네임"),
+                    fieldWithPath("data.content[].partnerImage").type(JsonFieldType.STRING).description("상대 회원 이미지 url"),
+                    fieldWithPath("data.content[].lastMessageId").type(JsonFieldType.NUMBER).description("마지막 메시지 id"),
+                    fieldWithPath("data.content[].lastMessagePreview").type(JsonFieldType.STRING).description("마지막 메시지 미리보기 (최대 100자)"),
+                    fieldWithPath("data.content[].lastMessageAt").type(JsonFieldType.STRING).description("마지막 메시지 시각"),
+                    fieldWithPath("data.content[].unreadCount").type(JsonFieldType.NUMBER).description("안 읽은 메시지 수"),
+                    fieldWithPath("data.content[].partnerOnline").type(JsonFieldType.BOOLEAN).description("상대방 채팅 접속 여부"),
+                    fieldWithPath("data.nextCursor").type(JsonFieldType.NUMBER).optional().description("다음 조회에 사용할 cursorId"),
+                    fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN).description("다음 채팅방 존재 여부")
+                )
+            ));
+    }
+
+    @Test
+    void 채팅방_메시지를_cursor로_조회한다() throws Exception {
+        // given
+        Long roomId = 1L;
+        List<ChatMessageResponse> messages = List.of(
+            new ChatMessageResponse(120L, 2L, "네 좋아요!", false, LocalDateTime.of(2022, 11, 1, 12, 3)),
+            new ChatMessageResponse(119L, 1L, "주말에 같이 연습할까요?", true, LocalDateTime.of(2022, 11, 1, 12, 0))
+        );
+        GlobalCursorResponseDto<ChatMessageResponse> response =
+            new GlobalCursorResponseDto<>(messages, 119L, true);
+
+        // when
+        given(chatQueryService.getMessages(1L, roomId, 121L, 2))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            get("/api/v1/chat/rooms/{roomId}/messages", roomId)
+                .param("cursorId", "121")
+                .param("size", "2")
+                .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                pathParameters(
+                    parameterWithName("roomId").description("채팅방 id")
+                ),
+                requestParameters(
+                    parameterWithName("cursorId").optional().description("이 id 보다 이전 메시지를 조회 (처음 조회 시 생략)")
+                        .attributes(field("type", "Number")),
+                    parameterWithName("size").optional().description("조회할 메시지 수 (기본 30, 최대 100)")
+                        .attributes(field("type", "Number"))
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.content[].messageId").type(JsonFieldType.NUMBER).description("메시지 id"),
+                    fieldWithPath("data.content[].senderId").type(JsonFieldType.NUMBER).description("보낸 회원 id"),
+                    fieldWithPath("data.content[].content").type(JsonFieldType.STRING).description("메시지 내용"),
+                    fieldWithPath("data.content[].isRead").type(JsonFieldType.BOOLEAN).description("읽음 여부"),
+                    fieldWithPath("data.content[].createdDate").type(JsonFieldType.STRING).description("보낸 시각"),
+                    fieldWithPath("data.nextCursor").type(JsonFieldType.NUMBER).optional().description("다음 조회에 사용할 cursorId"),
+                    fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN).description("이전 메시지 존재 여부")
+                )
+            ));
+    }
+
+    @Test
+    void 채팅방_메시지를_검색한다() throws Exception {
+        // given
+        Long roomId = 1L;
+        List<ChatMessageResponse> messages = List.of(
+            new ChatMessageResponse(119L, 1L, "주말에 같이 연습할까요?", true, LocalDateTime.of(2022, 11, 1, 12, 0)),
+            new ChatMessageResponse(87L, 2L, "연습실은 제가 예약할게요", true, LocalDateTime.of(2022, 10, 28, 20, 15))
+        );
+        GlobalCursorResponseDto<ChatMessageResponse> response =
+            new GlobalCursorResponseDto<>(messages, 87L, true);
+
+        // when
+        given(chatQueryService.searchMessages(1L, roomId, "연습", null, 2))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            get("/api/v1/chat/rooms/{roomId}/messages/search", roomId)
+                .param("keyword", "연습")
+                .param("size", "2")
+                .accept(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                pathParameters(
+                    parameterWithName("roomId").description("채팅방 id")
+                ),
+                requestParameters(
+                    parameterWithName("keyword").description("검색어 (두 글자 이상의 단어를 포함해야 함)")
+                        .attributes(field("type", "String")),
+                    parameterWithName("cursorId").optional().description("이 id 보다 이전 메시지에서 검색 (처음 조회 시 생략)")
+                        .attributes(field("type", "Number")),
+                    parameterWithName("size").optional().description("한 번에 검색할 메시지 수 (기본 30, 최대 100)")
+                        .attributes(field("type", "Number"))
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.content[].messageId").type(JsonFieldType.NUMBER).description("메시지 id"),
+                    fieldWithPath("data.content[].senderId").type(JsonFieldType.NUMBER).description("보낸 회원 id"),
+                    fieldWithPath("data.content[].content").type(JsonFieldType.STRING).description("메시지 내용"),
+                    fieldWithPath("data.content[].isRead").type(JsonFieldType.BOOLEAN).description("읽음 여부"),
+                    fieldWithPath("data.content[].createdDate").type(JsonFieldType.STRING).description("보낸 시각"),
+                    fieldWithPath("data.nextCursor").type(JsonFieldType.NUMBER).optional().description("다음 검색에 사용할 cursorId"),
+                    fieldWithPath("data.hasNext").type(JsonFieldType.BOOLEAN).description("이전 검색 결과 존재 여부")
+                )
+            ));
+    }
+
+    @Test
+    void 채팅방_메시지를_읽음_처리한다() throws Exception {
+        // given
+        Long roomId = 1L;
+        ChatReadRequest request = new ChatReadRequest(120L);
+        ChatReadResponse response = new ChatReadResponse(roomId, 120L, 0L);
+
+        // when
+        given(chatCommandService.readMessages(1L, roomId, request))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            patch("/api/v1/chat/rooms/{roomId}/read", roomId)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createJson(request))
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                pathParameters(
+                    parameterWithName("roomId").description("채팅방 id")
+                ),
+                requestFields(
+                    fieldWithPath("messageId").type(JsonFieldType.NUMBER).description("마지막으로 읽은 메시지 id")
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.roomId").type(JsonFieldType.NUMBER).description("채팅방 id"),
+                    fieldWithPath("data.lastReadMessageId").type(JsonFieldType.NUMBER).description("읽음 처리된 마지막 메시지 id"),
+                    fieldWithPath("data.unreadCount").type(JsonFieldType.NUMBER).description("남은 안 읽은 메시지 수")
+                )
+            ));
+    }
+}
@@ -0,0 +1,144 @@
+package com.dpm.winwin.api.common.file.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.AnonymousAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder.EndpointConfiguration;
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * embedded S3 stub 에 업로드하면서 업로드 방식별로 할당한 heap 바이트 수를 비교한다.
+ * 시간이 오래 걸리므로 기본 test 에서는 제외하고 ./gradlew :winwin-be-api:benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AwsS3FileServiceBenchmarkTest {
+
+    private static final String BUCKET = "bucket";
+    private static final int FILE_SIZE = 32 * 1024 * 1024;
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private S3StubServer s3StubServer;
+    private AmazonS3Client amazonS3Client;
+    private TransferManager putObjectTransferManager;
+    private TransferManager multipartTransferManager;
+    private MockMultipartFile file;
+
+    @BeforeAll
+    void setUp() throws IOException {
+        s3StubServer = new S3StubServer();
+        amazonS3Client = (AmazonS3Client) AmazonS3ClientBuilder.standard()
+            .withEndpointConfiguration(new EndpointConfiguration(s3StubServer.getEndpoint(), "ap-northeast-2"))
+            .withPathStyleAccessEnabled(true)
+            .withChunkedEncodingDisabled(true)
+            .withClientConfiguration(new ClientConfiguration().withUseExpectContinue(false))
+            .withCredentials(new AWSStaticCredentialsProvider(new AnonymousAWSCredentials()))
+            .build();
+        putObjectTransferManager = transferManager(Long.MAX_VALUE);
+        multipartTransferManager = transferManager(16L * 1024 * 1024);
+        file = new MockMultipartFile("image", "image.png", "image/png", new byte[FILE_SIZE]);
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @AfterAll
+    void tearDown() {
+        putObjectTransferManager.shutdownNow(false);
+        multipartTransferManager.shutdownNow(false);
+        amazonS3Client.shutdown();
+        s3StubServer.close();
+    }
+
+    @Test
+    void content_length_를_지정하면_파일_전체를_heap_에_버퍼링하지_않는다() {
+        AwsS3FileService putObjectService = fileService(putObjectTransferManager);
+        AwsS3FileService multipartService = fileService(multipartTransferManager);
+
+        // SDK 와 JIT 초기화 비용을 측정에서 제외한다
+        uploadWithoutContentLength();
+        putObjectService.uploadFile(file, 1L, "benchmark");
+        multipartService.uploadFile(file, 1L, "benchmark");
+
+        long unknownLength = allocatedBytes(this::uploadWithoutContentLength);
+        long knownLength = allocatedBytes(() -> putObjectService.uploadFile(file, 1L, "benchmark"));
+        long multipart = allocatedBytes(() -> multipartService.uploadFile(file, 1L, "benchmark"));
+
+        log.info("{} MB 업로드 시 할당량 - content length 없음: {} bytes, putObject: {} bytes, TransferManager: {} bytes",
+            FILE_SIZE / 1024 / 1024, unknownLength, knownLength, multipart);
+        assertThat(unknownLength).isGreaterThanOrEqualTo(FILE_SIZE);
+        assertThat(knownLength).isLessThan(FILE_SIZE);
+        assertThat(multipart).isLessThan(FILE_SIZE);
+    }
+
+    // 변경 전 방식: content length 를 모르면 SDK 가 스트림 전체를 메모리에 읽은 뒤 전송한다
+    private void uploadWithoutContentLength() {
+        try (InputStream inputStream = file.getInputStream()) {
+            amazonS3Client.putObject(BUCKET, "unknown-length", inputStream, new ObjectMetadata());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private AwsS3FileService fileService(TransferManager transferManager) {
+        AwsS3FileService fileService = new AwsS3FileService(amazonS3Client, transferManager);
+        ReflectionTestUtils.setField(fileService, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(fileService, "defaultUrl", s3StubServer.getEndpoint() + "/" + BUCKET);
+        return fileService;
+    }
+
+    private TransferManager transferManager(long multipartThreshold) {
+        return TransferManagerBuilder.standard()
+            .withS3Client(amazonS3Client)
+            .withMultipartUploadThreshold(multipartThreshold)
+            .withMinimumUploadPartSize(PART_SIZE)
+            .withExecutorFactory(() -> Executors.newFixedThreadPool(4))
+            .build();
+    }
+
+    // TransferManager 는 별도 스레드에서 part 를 올리므로 stub 서버를 제외한 모든 스레드의 할당량을 합산한다
+    private long allocatedBytes(Runnable task) {
+        Map<Long, Long> before = allocatedBytesByThread();
+        task.run();
+        Map<Long, Long> after = allocatedBytesByThread();
+        return after.entrySet().stream()
+            .mapToLong(entry -> entry.getValue() - before.getOrDefault(entry.getKey(), 0L))
+            .sum();
+    }
+
+    private Map<Long, Long> allocatedBytesByThread() {
+        Map<Long, Long> allocated = new HashMap<>();
+        Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> !thread.getName().startsWith(S3StubServer.THREAD_PREFIX))
+            .filter(thread -> !thread.getName().startsWith("HTTP-Dispatcher"))
+            .forEach(thread -> {
+                long bytes = threadMXBean.getThreadAllocatedBytes(thread.getId());
+                if (bytes >= 0) {
+                    allocated.put(thread.getId(), bytes);
+                }
+            });
+        return allocated;
+    }
+}
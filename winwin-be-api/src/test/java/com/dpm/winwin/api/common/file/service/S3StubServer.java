@@ -0,0 +1,102 @@
+package com.dpm.winwin.api.common.file.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PutObject 와 multipart upload 만 처리하는 embedded S3 stub.
+ * 받은 본문은 저장하지 않고 MD5 만 계산해 ETag 로 돌려준다. (SDK 의 MD5 검증 통과용)
+ */
+class S3StubServer implements AutoCloseable {
+
+    static final String THREAD_PREFIX = "s3-stub-";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    S3StubServer() throws IOException {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(8,
+            runnable -> new Thread(runnable, THREAD_PREFIX + threadCount.incrementAndGet()));
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    String getEndpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long getReceivedBytes() {
+        return receivedBytes.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String query = exchange.getRequestURI().getRawQuery();
+        String etag = "\"" + drain(exchange.getRequestBody()) + "\"";
+        exchange.getResponseHeaders().add("ETag", etag);
+
+        if ("POST".equals(method) && query != null && query.startsWith("uploads")) {
+            sendXml(exchange, "<InitiateMultipartUploadResult><Bucket>bucket</Bucket><Key>key</Key>"
+                + "<UploadId>" + UUID.randomUUID() + "</UploadId></InitiateMultipartUploadResult>");
+            return;
+        }
+        if ("POST".equals(method) && query != null && query.contains("uploadId=")) {
+            sendXml(exchange, "<CompleteMultipartUploadResult><Location>" + getEndpoint() + "</Location>"
+                + "<Bucket>bucket</Bucket><Key>key</Key><ETag>" + etag + "</ETag></CompleteMultipartUploadResult>");
+            return;
+        }
+        exchange.sendResponseHeaders(200, -1);
+        exchange.close();
+    }
+
+    private String drain(InputStream body) throws IOException {
+        MessageDigest md5 = md5();
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            md5.update(buffer, 0, read);
+            receivedBytes.addAndGet(read);
+        }
+        return HexFormat.of().formatHex(md5.digest());
+    }
+
+    private void sendXml(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private static MessageDigest md5() {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
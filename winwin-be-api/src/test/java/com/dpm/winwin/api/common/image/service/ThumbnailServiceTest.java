@@ -0,0 +1,109 @@
+package com.dpm.winwin.api.common.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.api.common.constant.ThumbnailSize;
+import com.dpm.winwin.api.common.file.service.LocalFileService;
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.entity.member.Member;
+import com.dpm.winwin.domain.entity.member.enums.Ranks;
+import com.dpm.winwin.domain.repository.member.MemberRepository;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로컬 저장소에 원본을 올리고 썸네일을 만든 뒤, 생성된 파일과 회원의 썸네일 이미지를 확인한다.
+ * 썸네일은 커밋 이후에 만들어지므로 테스트 트랜잭션 없이 실행하고, 작업은 호출 스레드에서 바로 처리한다.
+ */
+@DataJpaTest
+@Import(QuerydslConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ThumbnailServiceTest {
+
+    private static final String FILE_URL = "http://localhost:8080/files";
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @TempDir
+    Path rootPath;
+
+    private LocalFileService localFileService;
+    private ThumbnailService thumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        localFileService = new LocalFileService(rootPath.toString(), FILE_URL);
+        thumbnailService = new ThumbnailService(localFileService, memberRepository, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void 원본_이미지로부터_크기별_썸네일을_만들고_회원의_썸네일_이미지를_갱신한다() throws IOException {
+        // given
+        MockMultipartFile image = image(1024, 768);
+        String originalUrl = localFileService.uploadFile(image, 1L, "profile");
+        Member member = memberRepository.save(new Member(originalUrl, Ranks.BEGINNER));
+
+        // when
+        thumbnailService.createThumbnails(member.getId(), originalUrl, image.getInputStream());
+
+        // then
+        String originalFileName = localFileService.getFileName(originalUrl);
+        assertDimension(ThumbnailSize.LARGE.getFileName(originalFileName), 512, 384);
+        assertDimension(ThumbnailSize.MEDIUM.getFileName(originalFileName), 128, 96);
+        assertDimension(ThumbnailSize.SMALL.getFileName(originalFileName), 64, 48);
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getThumbnailImage())
+            .isEqualTo(localFileService.getFileUrl(ThumbnailSize.LIST_THUMBNAIL.getFileName(originalFileName)));
+    }
+
+    @Test
+    void 썸네일을_만드는_동안_프로필_이미지가_바뀌었다면_회원의_썸네일_이미지를_갱신하지_않는다() throws IOException {
+        // given
+        MockMultipartFile image = image(300, 300);
+        String originalUrl = localFileService.uploadFile(image, 1L, "profile");
+        Member member = new Member(originalUrl, Ranks.BEGINNER);
+        member.updateProfileImage(FILE_URL + "/member1/profile/other.png");
+        member = memberRepository.save(member);
+
+        // when
+        thumbnailService.createThumbnails(member.getId(), originalUrl, image.getInputStream());
+
+        // then
+        String originalFileName = localFileService.getFileName(originalUrl);
+        assertDimension(ThumbnailSize.MEDIUM.getFileName(originalFileName), 128, 128);
+        assertThat(memberRepository.findById(member.getId()).orElseThrow().getThumbnailImage()).isNull();
+    }
+
+    private void assertDimension(String fileName, int width, int height) throws IOException {
+        try (InputStream inputStream = localFileService.getFile(fileName)) {
+            BufferedImage thumbnail = ImageIO.read(inputStream);
+            assertThat(thumbnail.getWidth()).isEqualTo(width);
+            assertThat(thumbnail.getHeight()).isEqualTo(height);
+        }
+    }
+
+    private MockMultipartFile image(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return new MockMultipartFile("image", "image.png", "image/png", outputStream.toByteArray());
+    }
+}
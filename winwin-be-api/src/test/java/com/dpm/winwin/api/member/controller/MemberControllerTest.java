@@ -1,7 +1,10 @@
 package com.dpm.winwin.api.member.controller;
 
 import com.dpm.winwin.api.member.dto.request.MemberDeleteRequest;
+import com.dpm.winwin.api.member.dto.request.MemberImageConfirmRequest;
+import com.dpm.winwin.api.member.dto.request.MemberImageUploadUrlRequest;
 import com.dpm.winwin.api.member.dto.response.MemberDeleteResponse;
+import com.dpm.winwin.api.member.dto.response.MemberImageUploadUrlResponse;
 import com.dpm.winwin.api.member.dto.response.MemberUpdateImageResponse;
 import com.dpm.winwin.api.member.dto.response.RanksListResponse;
 import com.dpm.winwin.api.member.dto.response.RanksResponse;
@@ -10,11 +13,13 @@ import com.dpm.winwin.api.member.dto.response.MemberNicknameResponse;
 import com.dpm.winwin.api.member.dto.response.MemberRankReadResponse;
 import com.dpm.winwin.api.member.dto.response.MemberUpdateResponse;
 import com.dpm.winwin.api.member.dto.response.TalentResponse;
+import com.dpm.winwin.api.member.dto.response.ThumbnailResponse;
 import com.dpm.winwin.api.member.service.MemberCommandService;
 import com.dpm.winwin.api.member.service.MemberQueryService;
 import com.dpm.winwin.api.utils.RestDocsTestSupport;
 import com.dpm.winwin.api.utils.WithMockCustomUser;
 import com.dpm.winwin.domain.entity.member.enums.Ranks;
+import java.time.LocalDateTime;
 import java.util.List;
 import com.dpm.winwin.api.member.dto.request.MemberNicknameRequest;
 import org.junit.jupiter.api.Test;
@@ -33,6 +38,7 @@ import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuild
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.multipart;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.patch;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
@@ -103,7 +109,11 @@ public class MemberControllerTest extends RestDocsTestSupport {
             "image".getBytes());
 
         MemberUpdateImageResponse response = new MemberUpdateImageResponse(
-            "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png");
+            "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png",
+            List.of(
+                new ThumbnailResponse(512, "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png_512.jpg"),
+                new ThumbnailResponse(128, "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png_128.jpg"),
+                new ThumbnailResponse(64, "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/profileImage/3d4395e461db40108104200e286870c4-kirby.png_64.jpg")));
 
         // when
         given(memberCommandService.updateProfileImage(1L, multipartFile))
@@ -124,7 +134,87 @@ public class MemberControllerTest extends RestDocsTestSupport {
                 ),
                 responseFields(
                     fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
-                    fieldWithPath("data.image").type(JsonFieldType.STRING).description("저장된 회원의 프로필 이미지 url")
+                    fieldWithPath("data.image").type(JsonFieldType.STRING).description("저장된 회원의 프로필 이미지 url"),
+                    fieldWithPath("data.thumbnails[].size").type(JsonFieldType.NUMBER).description("썸네일 크기(px)"),
+                    fieldWithPath("data.thumbnails[].image").type(JsonFieldType.STRING).description("썸네일 이미지 url (비동기로 생성)")
+                )
+            ));
+    }
+
+    @Test
+    void member의_profileImage_업로드_url을_발급한다() throws Exception {
+        // given
+        MemberImageUploadUrlRequest request = new MemberImageUploadUrlRequest(
+            "kirby.png", MediaType.IMAGE_PNG_VALUE, 102400L);
+
+        MemberImageUploadUrlResponse response = new MemberImageUploadUrlResponse(
+            "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png?X-Amz-Algorithm=AWS4-HMAC-SHA256",
+            "member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png",
+            LocalDateTime.of(2022, 11, 1, 12, 10));
+
+        // when
+        given(memberCommandService.generateProfileImageUploadUrl(1L, request))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            post("/api/v1/members/image/presigned-url")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createJson(request))
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestFields(
+                    fieldWithPath("fileName").type(JsonFieldType.STRING).description("업로드할 파일 이름"),
+                    fieldWithPath("contentType").type(JsonFieldType.STRING).description("업로드할 파일 형식 (image/*)"),
+                    fieldWithPath("contentLength").type(JsonFieldType.NUMBER).description("업로드할 파일 크기 (최대 5MB)")
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.uploadUrl").type(JsonFieldType.STRING).description("PUT 으로 업로드할 presigned url"),
+                    fieldWithPath("data.fileName").type(JsonFieldType.STRING).description("업로드 후 확인 요청에 사용할 파일 이름"),
+                    fieldWithPath("data.expiredAt").type(JsonFieldType.STRING).description("presigned url 만료 시각")
+                )
+            ));
+    }
+
+    @Test
+    void 업로드한_profileImage를_확인한다() throws Exception {
+        // given
+        MemberImageConfirmRequest request = new MemberImageConfirmRequest(
+            "member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png");
+
+        MemberUpdateImageResponse response = new MemberUpdateImageResponse(
+            "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png",
+            List.of(
+                new ThumbnailResponse(512, "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png_512.jpg"),
+                new ThumbnailResponse(128, "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png_128.jpg"),
+                new ThumbnailResponse(64, "https://dpm-pingpong-bucket.s3.ap-northeast-2.amazonaws.com/member1/profileImage/3d4395e461db40108104200e286870c4-kirby.png_64.jpg")));
+
+        // when
+        given(memberCommandService.confirmProfileImage(1L, request))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            post("/api/v1/members/image/confirm")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createJson(request))
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestFields(
+                    fieldWithPath("fileName").type(JsonFieldType.STRING).description("업로드 url 발급 시 받은 파일 이름")
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.image").type(JsonFieldType.STRING).description("저장된 회원의 프로필 이미지 url"),
+                    fieldWithPath("data.thumbnails[].size").type(JsonFieldType.NUMBER).description("썸네일 크기(px)"),
+                    fieldWithPath("data.thumbnails[].image").type(JsonFieldType.STRING).description("썸네일 이미지 url (비동기로 생성)")
                 )
             ));
     }
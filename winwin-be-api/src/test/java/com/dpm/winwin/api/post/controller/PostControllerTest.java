@@ -4,6 +4,7 @@ import static com.dpm.winwin.api.member.controller.MemberControllerTest.MEMBER_I
 import static com.dpm.winwin.api.utils.RestDocsConfig.field;
 import static com.dpm.winwin.domain.entity.post.Likes.changeFormatCountToString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
@@ -19,6 +20,7 @@ import static org.springframework.restdocs.request.RequestDocumentation.pathPara
 import static org.springframework.restdocs.request.RequestDocumentation.requestParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.dpm.winwin.api.common.constant.PageCountMode;
 import com.dpm.winwin.api.common.response.dto.GlobalPageResponseDto;
 import com.dpm.winwin.api.post.dto.request.LinkRequest;
 import com.dpm.winwin.api.post.dto.request.PostAddRequest;
@@ -48,6 +50,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -72,7 +76,7 @@ class PostControllerTest extends RestDocsTestSupport {
         GlobalPageResponseDto<PostResponse> response = GlobalPageResponseDto.of(page);
 
         // when
-        given(postService.getPosts(any(), any(), any()))
+        given(postService.getPosts(any(), any(), any(), any()))
             .willReturn(response);
 
         ResultActions result = mockMvc.perform(
@@ -96,7 +100,10 @@ class PostControllerTest extends RestDocsTestSupport {
                     parameterWithName("size").optional().description("페이지 번호 (0부터 시작)")
                         .attributes(field("type", "Number")),
                     parameterWithName("page").optional().description("한 페이지에서 보여줄 데이터 개수")
-                        .attributes(field("type", "Number"))
+                        .attributes(field("type", "Number")),
+                    parameterWithName("countMode").optional()
+                        .description("전체 개수 계산 방식 (EXACT: 정확한 개수, APPROXIMATE: 캐시된 근사치, NONE: 계산하지 않음)")
+                        .attributes(field("type", "String"))
                 ),
                 responseFields(
                     fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
@@ -120,6 +127,56 @@ class PostControllerTest extends RestDocsTestSupport {
             ));
     }
 
+    @Test
+    void post_목록을_count_없이_조회한다() throws Exception {
+        // given
+        List<PostResponse> posts = setPosts();
+        PageRequest pageable = PageRequest.of(0, 2);
+        Slice<PostResponse> slice = new SliceImpl<>(posts, pageable, true);
+        GlobalPageResponseDto<PostResponse> response = GlobalPageResponseDto.of(slice, null);
+
+        // when
+        given(postService.getPosts(any(), any(), any(), eq(PageCountMode.NONE)))
+            .willReturn(response);
+
+        ResultActions result = mockMvc.perform(
+            get("/api/v1/posts")
+                .param("countMode", "NONE")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestParameters(
+                    parameterWithName("countMode").description("전체 개수 계산 방식")
+                        .attributes(field("type", "String"))
+                ),
+                responseFields(
+                    fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
+                    fieldWithPath("data.content[].id").type(JsonFieldType.NUMBER).description("게시물 id"),
+                    fieldWithPath("data.content[].title").type(JsonFieldType.STRING).description("게시물 제목"),
+                    fieldWithPath("data.content[].subCategory").type(JsonFieldType.STRING).description("소분류 카테고리 이름"),
+                    fieldWithPath("data.content[].isShare").type(JsonFieldType.BOOLEAN).description("재능 나눔 여부"),
+                    fieldWithPath("data.content[].likes").type(JsonFieldType.STRING).description("게시물 좋아요 수"),
+                    fieldWithPath("data.content[].memberId").type(JsonFieldType.NUMBER).description("작성자 id"),
+                    fieldWithPath("data.content[].nickname").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                    fieldWithPath("data.content[].image").type(JsonFieldType.STRING).description("작성자 이미지 url"),
+                    fieldWithPath("data.content[].ranks").type(JsonFieldType.STRING).description("작성자 등급"),
+                    fieldWithPath("data.content[].takenTalents").type(JsonFieldType.ARRAY).optional()
+                        .description("받고 싶은 재능"),
+                    fieldWithPath("data.totalElements").type(JsonFieldType.NUMBER).optional()
+                        .description("전체 데이터 수 (NONE 이면 null)"),
+                    fieldWithPath("data.totalPages").type(JsonFieldType.NUMBER).optional()
+                        .description("전체 페이지 수 (NONE 이면 null)"),
+                    fieldWithPath("data.pageNumber").type(JsonFieldType.NUMBER).description("현재 페이지 번호"),
+                    fieldWithPath("data.numberOfElements").type(JsonFieldType.NUMBER).description("현재 페이지의 데이터 수"),
+                    fieldWithPath("data.hasNextPages").type(JsonFieldType.BOOLEAN).description("다음 페이지 여부")
+                )
+            ));
+    }
+
     @Test
     void post가_memberTalent에_의해_목록_조회된다() throws Exception {
         // given
@@ -130,7 +187,7 @@ class PostControllerTest extends RestDocsTestSupport {
         GlobalPageResponseDto<PostCustomizedResponse> response = GlobalPageResponseDto.of(page);
 
         // when
-        given(postService.getPostsCustomized(any(), any(), any()))
+        given(postService.getPostsCustomized(any(), any(), any(), any()))
             .willReturn(response);
 
         ResultActions result = mockMvc.perform(
@@ -148,7 +205,10 @@ class PostControllerTest extends RestDocsTestSupport {
                     parameterWithName("size").optional().description("페이지 번호 (0부터 시작)")
                         .attributes(field("type", "Number")),
                     parameterWithName("page").optional().description("한 페이지에서 보여줄 데이터 개수")
-                        .attributes(field("type", "Number"))
+                        .attributes(field("type", "Number")),
+                    parameterWithName("countMode").optional()
+                        .description("전체 개수 계산 방식 (EXACT: 정확한 개수, APPROXIMATE: 캐시된 근사치, NONE: 계산하지 않음)")
+                        .attributes(field("type", "String"))
                 ),
                 responseFields(
                     fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
@@ -577,7 +637,7 @@ class PostControllerTest extends RestDocsTestSupport {
         GlobalPageResponseDto<MyPagePostResponse> globalPageResponseDto = GlobalPageResponseDto.of(
             myPagePostResponses);
 
-        given(postService.getAllByMemberId(any(), any()))
+        given(postService.getAllByMemberId(any(), any(), any()))
             .willReturn(globalPageResponseDto);
 
         ResultActions result = mockMvc.perform(
@@ -592,7 +652,10 @@ class PostControllerTest extends RestDocsTestSupport {
                     parameterWithName("size").optional().description("페이지 번호 (0부터 시작)")
                         .attributes(field("type", "Number")),
                     parameterWithName("page").optional().description("한 페이지에서 보여줄 데이터 개수")
-                        .attributes(field("type", "Number"))
+                        .attributes(field("type", "Number")),
+                    parameterWithName("countMode").optional()
+                        .description("전체 개수 계산 방식 (EXACT: 정확한 개수, APPROXIMATE: 캐시된 근사치, NONE: 계산하지 않음)")
+                        .attributes(field("type", "String"))
                 ),
                 responseFields(
                     fieldWithPath("message").type(JsonFieldType.STRING).description("성공 여부"),
@@ -0,0 +1,59 @@
+package com.dpm.winwin.chatting.chat.codec;
+
+import com.dpm.winwin.chatting.chat.dto.request.ChatMessageRequest;
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 같은 채팅 메시지 요청을 JSON text frame 과 binary frame 으로 읽는 비용을 비교한다.
+ * ./gradlew :winwin-be-chatting:jmh 로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatFrameCodecBenchmark {
+
+    private static final String CONTENT = "안녕하세요! 내일 오후 2시에 강남역에서 만나서 기타 레슨 진행할까요?";
+
+    private ChatFrameCodec chatFrameCodec;
+    private String json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        chatFrameCodec = new ChatFrameCodec(objectMapper);
+        json = objectMapper.writeValueAsString(new ChatMessageRequest(ChatFrameType.MESSAGE, "42", 3L, CONTENT));
+
+        byte[] body = CONTENT.getBytes(StandardCharsets.UTF_8);
+        binary = ByteBuffer.allocate(1 + 8 + 8 + 4 + body.length)
+            .put(ChatFrameType.MESSAGE.getCode())
+            .putLong(3L)
+            .putLong(42L)
+            .putInt(body.length)
+            .put(body)
+            .array();
+    }
+
+    @Benchmark
+    public ChatMessageRequest decodeJson() throws JsonProcessingException {
+        return chatFrameCodec.decode(json);
+    }
+
+    @Benchmark
+    public ChatMessageRequest decodeBinary() {
+        return chatFrameCodec.decode(ByteBuffer.wrap(binary));
+    }
+}
@@ -0,0 +1,72 @@
+package com.dpm.winwin.chatting.auth;
+
+import static com.dpm.winwin.chatting.handler.WebSocketHandler.MEMBER_ID;
+
+import com.dpm.winwin.domain.repository.token.ExpiredTokenRepository;
+import com.dpm.winwin.domain.repository.token.TokenDigest;
+import java.util.Map;
+import java.util.Optional;
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+/**
+ * handshake 시점에 access_token 쿠키를 한 번만 검증하고, 회원 id 를 세션 attribute 에 저장한다.
+ * 이후 frame 은 세션 attribute 의 회원 id 를 그대로 사용하므로 메시지마다 토큰을 다시 파싱하지 않는다.
+ * 서명과 만료 시각이 유효하더라도 API 서버에서 로그아웃한 토큰이면 거부한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String ACCESS_TOKEN = "access_token";
+
+    private final TokenVerifier tokenVerifier;
+    private final ExpiredTokenRepository expiredTokenRepository;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        Optional<String> accessToken = getAccessToken(request);
+        Optional<Long> memberId = accessToken.flatMap(tokenVerifier::getMemberId);
+        if (memberId.isEmpty() || isLoggedOut(accessToken.get())) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        attributes.put(MEMBER_ID, memberId.get());
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    private boolean isLoggedOut(String accessToken) {
+        return expiredTokenRepository.existsByDigest(TokenDigest.encode(TokenDigest.digest(accessToken)));
+    }
+
+    private Optional<String> getAccessToken(ServerHttpRequest request) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return Optional.empty();
+        }
+        HttpServletRequest httpServletRequest = servletRequest.getServletRequest();
+        Cookie[] cookies = httpServletRequest.getCookies();
+        if (cookies == null) {
+            return Optional.empty();
+        }
+        for (Cookie cookie : cookies) {
+            if (ACCESS_TOKEN.equals(cookie.getName())) {
+                return Optional.of(cookie.getValue());
+            }
+        }
+        return Optional.empty();
+    }
+}
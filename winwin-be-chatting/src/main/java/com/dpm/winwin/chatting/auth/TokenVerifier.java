@@ -0,0 +1,39 @@
+package com.dpm.winwin.chatting.auth;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * API 서버의 TokenProvider 가 발급한 access token 을 같은 HMAC key 로 검증한다.
+ */
+@Slf4j
+@Component
+public class TokenVerifier {
+
+    private static final String MEMBER_ID_CLAIM = "memberId";
+
+    private final JwtParser jwtParser;
+
+    public TokenVerifier(@Value("${jwt.secret}") String secret) {
+        this.jwtParser = Jwts.parserBuilder()
+            .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret)))
+            .build();
+    }
+
+    public Optional<Long> getMemberId(String token) {
+        try {
+            return Optional.ofNullable(
+                jwtParser.parseClaimsJws(token).getBody().get(MEMBER_ID_CLAIM, Long.class));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.info("유효하지 않은 JWT 토큰입니다. reason : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.dpm.winwin.chatting.chat.cluster;
+
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatPresenceResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatTypingResponse;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.dpm.winwin.chatting.chat.session.SessionRegistry;
+import com.dpm.winwin.chatting.common.error.enums.ErrorMessage;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 채팅 노드 사이에서 메시지를 전달하는 Redis pub/sub 버스.
+ * 각 노드는 자신에게 접속한 회원의 채널(chat:member:{memberId})만 구독하고,
+ * 다른 노드에 접속한 수신자에게 보낼 메시지는 모아서 pipeline 으로 publish 한다.
+ *
+ * 같은 회원이 여러 노드에 접속한 경우를 알기 위해, 노드는 회원 채널을 구독할 때 JOIN 을 보내고
+ * 이를 받은 다른 노드는 HERE 로 응답한다. 수신자가 현재 노드에만 접속해 있다면 버스를 거치지 않는다.
+ *
+ * JOIN/HERE/LEAVE 는 버리면 노드 사이의 접속 정보가 어긋나므로 크기 제한이 없는 대기열에 넣고 먼저 보낸다.
+ * 채팅 메시지는 queue-capacity 만큼만 대기할 수 있으며, 저장 전에 reserve 로 자리를 확보하지 못하면
+ * CHAT_SERVER_BUSY 로 거절해 보낸 쪽이 에러 응답을 받도록 한다.
+ * 입력 중 표시와 접속 상태는 별도의 대기열에 넣어 batch 에 남는 자리만큼만 보내고, 가득 차면 버린다.
+ *
+ * Redis publish 가 실패하면 제어 frame 은 순서를 지킨 채 다음 batch 의 앞에 남겨 성공할 때까지 다시 보내고,
+ * 채팅 메시지는 MAX_PUBLISH_ATTEMPTS 번까지 다시 보낸 뒤 chat.cluster.message.failed 로 세고 버린다.
+ * 다시 보내기 전에는 실패가 이어질수록 길게 기다린다. pipeline 의 일부가 이미 전송되었을 수 있으므로
+ * 수신 노드는 같은 frame 을 두 번 받을 수 있다.
+ */
+@Slf4j
+@Component
+public class ClusterBus implements MessageListener, InitializingBean, DisposableBean {
+
+    private static final String MEMBER_CHANNEL_PREFIX = "chat:member:";
+    private static final char MESSAGE = 'M';
+    private static final char TYPING = 'T';
+    private static final char PRESENCE = 'P';
+    private static final char JOIN = 'J';
+    private static final char HERE = 'H';
+    private static final char LEAVE = 'L';
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_PUBLISH_ATTEMPTS = 3;
+    private static final long INITIAL_BACKOFF_MILLIS = 100;
+    private static final long MAX_BACKOFF_MILLIS = 5000;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisMessageListenerContainer listenerContainer;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SessionRegistry sessionRegistry;
+    private final SessionMessageSender sessionMessageSender;
+    private final ChatFrameCodec chatFrameCodec;
+    private final BlockingQueue<Outbound> controlQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Outbound> messageQueue = new LinkedBlockingQueue<>();
+    private final Semaphore messagePermits;
+    private final BlockingQueue<Outbound> ephemeralQueue;
+    private final int batchSize;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private final ConcurrentHashMap<Long, ChannelTopic> subscriptions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<String>> remoteNodes = new ConcurrentHashMap<>();
+    private volatile Thread publisher;
+
+    public ClusterBus(RedisMessageListenerContainer listenerContainer,
+                      StringRedisTemplate stringRedisTemplate,
+                      SessionRegistry sessionRegistry,
+                      SessionMessageSender sessionMessageSender,
+                      ChatFrameCodec chatFrameCodec,
+                      MeterRegistry meterRegistry,
+                      @Value("${chat.cluster.queue-capacity:10000}") int queueCapacity,
+                      @Value("${chat.cluster.batch-size:256}") int batchSize,
+                      @Value("${chat.cluster.ephemeral-capacity:10000}") int ephemeralCapacity) {
+        this.listenerContainer = listenerContainer;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.sessionRegistry = sessionRegistry;
+        this.sessionMessageSender = sessionMessageSender;
+        this.chatFrameCodec = chatFrameCodec;
+        this.messagePermits = new Semaphore(queueCapacity);
+        this.ephemeralQueue = new ArrayBlockingQueue<>(ephemeralCapacity);
+        this.batchSize = batchSize;
+        this.rejectedCounter = meterRegistry.counter("chat.cluster.message.rejected");
+        this.droppedCounter = meterRegistry.counter("chat.cluster.ephemeral.dropped");
+        this.failedCounter = meterRegistry.counter("chat.cluster.message.failed");
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * 회원의 세션이 생기거나 모두 사라졌을 때 호출되어 회원 채널 구독 여부를 맞춘다.
+     */
+    public void updateSubscription(Long memberId) {
+        synchronized (locks[Math.floorMod(memberId.hashCode(), LOCK_STRIPES)]) {
+            boolean connected = sessionRegistry.isConnected(memberId);
+            ChannelTopic topic = subscriptions.get(memberId);
+            if (connected && topic == null) {
+                topic = new ChannelTopic(MEMBER_CHANNEL_PREFIX + memberId);
+                listenerContainer.addMessageListener(this, topic);
+                subscriptions.put(memberId, topic);
+                enqueue(controlQueue, memberId, JOIN, "");
+            } else if (!connected && topic != null) {
+                listenerContainer.removeMessageListener(this, topic);
+                subscriptions.remove(memberId);
+                remoteNodes.remove(memberId);
+                enqueue(controlQueue, memberId, LEAVE, "");
+            }
+        }
+    }
+
+    /**
+     * 다른 노드에 접속한 수신자의 세션이 있을 수 있다면 true
+     */
+    public boolean requiresPublish(Long memberId) {
+        if (!sessionRegistry.isConnected(memberId)) {
+            return true;
+        }
+        Set<String> nodes = remoteNodes.get(memberId);
+        return nodes != null && !nodes.isEmpty();
+    }
+
+    /**
+     * 채팅 메시지 count 개가 들어갈 자리를 확보한다. 대기열이 가득 찼다면 CHAT_SERVER_BUSY 를 던진다.
+     * 확보한 자리는 publish 로 사용하거나, 메시지를 보내지 않게 되었다면 cancel 로 돌려준다.
+     */
+    public void reserve(int count) {
+        if (count > 0 && !messagePermits.tryAcquire(count)) {
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorMessage.CHAT_SERVER_BUSY);
+        }
+    }
+
+    public void cancel(int count) {
+        messagePermits.release(count);
+    }
+
+    // reserve 로 확보한 자리에 넣으므로 버려지지 않는다
+    public void publish(Long memberId, String frame) {
+        enqueue(messageQueue, memberId, MESSAGE, frame);
+    }
+
+    // 수신 노드에서 버려도 되는 frame 으로 전송된다
+    public void publishTyping(Long memberId, String frame) {
+        publishEphemeral(memberId, TYPING, frame);
+    }
+
+    // 수신 노드에서 버려도 되는 frame 으로 전송된다
+    public void publishPresence(Long memberId, String frame) {
+        publishEphemeral(memberId, PRESENCE, frame);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long memberId = Long.valueOf(channel.substring(MEMBER_CHANNEL_PREFIX.length()));
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        char type = body.charAt(0);
+        int separator = body.indexOf('\n');
+        String origin = body.substring(1, separator);
+        if (origin.equals(nodeId)) {
+            return;
+        }
+        switch (type) {
+            case MESSAGE -> sessionMessageSender.sendToMember(memberId,
+                chatFrameCodec.fromJson(body.substring(separator + 1), ChatMessageResponse.class));
+            case TYPING -> sessionMessageSender.sendToMember(memberId,
+                chatFrameCodec.fromJson(body.substring(separator + 1), ChatTypingResponse.class), true);
+            case PRESENCE -> sessionMessageSender.sendToMember(memberId,
+                chatFrameCodec.fromJson(body.substring(separator + 1), ChatPresenceResponse.class), true);
+            case JOIN -> {
+                addRemoteNode(memberId, origin);
+                enqueue(controlQueue, memberId, HERE, "");
+            }
+            case HERE -> addRemoteNode(memberId, origin);
+            case LEAVE -> {
+                Set<String> nodes = remoteNodes.get(memberId);
+                if (nodes != null) {
+                    nodes.remove(origin);
+                }
+            }
+            default -> log.warn("알 수 없는 클러스터 메시지입니다. type : {}", type);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        publisher = new Thread(this::publishLoop, "chat-cluster-publisher");
+        publisher.setDaemon(true);
+        publisher.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        publisher.interrupt();
+        publisher.join(1000);
+    }
+
+    private void addRemoteNode(Long memberId, String node) {
+        if (subscriptions.containsKey(memberId)) {
+            remoteNodes.computeIfAbsent(memberId, id -> ConcurrentHashMap.newKeySet()).add(node);
+        }
+    }
+
+    // 입력 중 표시와 접속 상태는 대기열에 자리가 없으면 버린다
+    private void publishEphemeral(Long memberId, char type, String payload) {
+        if (!ephemeralQueue.offer(outbound(memberId, type, payload))) {
+            droppedCounter.increment();
+            return;
+        }
+        wakeUp();
+    }
+
+    private void enqueue(BlockingQueue<Outbound> queue, Long memberId, char type, String payload) {
+        queue.add(outbound(memberId, type, payload));
+        wakeUp();
+    }
+
+    private Outbound outbound(Long memberId, char type, String payload) {
+        return new Outbound(
+            type,
+            (MEMBER_CHANNEL_PREFIX + memberId).getBytes(StandardCharsets.UTF_8),
+            (type + nodeId + '\n' + payload).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void wakeUp() {
+        Thread thread = publisher;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    // 대기 중인 frame 을 제어, 채팅 메시지, 입력 중 표시와 접속 상태 순으로 꺼내 하나의 pipeline 으로 publish 한다
+    private void publishLoop() {
+        List<Outbound> batch = new ArrayList<>(batchSize);
+        int failures = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            controlQueue.drainTo(batch, batchSize - batch.size());
+            messagePermits.release(messageQueue.drainTo(batch, batchSize - batch.size()));
+            ephemeralQueue.drainTo(batch, batchSize - batch.size());
+            if (batch.isEmpty()) {
+                LockSupport.park(this);
+                continue;
+            }
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    for (Outbound outbound : batch) {
+                        connection.publish(outbound.channel(), outbound.body());
+                    }
+                    return null;
+                });
+                batch.clear();
+                failures = 0;
+            } catch (RuntimeException e) {
+                failures++;
+                log.error("클러스터 메시지 publish 에 실패했습니다. size : {}, 연속 실패 : {}", batch.size(), failures, e);
+                retainForRetry(batch);
+                if (!backOff(failures)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // 제어 frame 은 모두 남기고, 채팅 메시지는 시도 횟수가 남은 것만 남긴다
+    private void retainForRetry(List<Outbound> batch) {
+        batch.removeIf(outbound -> {
+            if (outbound.type() == TYPING || outbound.type() == PRESENCE) {
+                droppedCounter.increment();
+                return true;
+            }
+            if (outbound.type() == MESSAGE && outbound.recordFailure() >= MAX_PUBLISH_ATTEMPTS) {
+                failedCounter.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private boolean backOff(int failures) {
+        long millis = Math.min(INITIAL_BACKOFF_MILLIS << Math.min(failures - 1, 16), MAX_BACKOFF_MILLIS);
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // publisher thread 에서만 접근하므로 실패 횟수를 동기화 없이 센다
+    private static final class Outbound {
+
+        private final char type;
+        private final byte[] channel;
+        private final byte[] body;
+        private int failures;
+
+        private Outbound(char type, byte[] channel, byte[] body) {
+            this.type = type;
+            this.channel = channel;
+            this.body = body;
+        }
+
+        char type() {
+            return type;
+        }
+
+        byte[] channel() {
+            return channel;
+        }
+
+        byte[] body() {
+            return body;
+        }
+
+        // 실패한 횟수를 하나 늘려 돌려준다
+        int recordFailure() {
+            return ++failures;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.dpm.winwin.chatting.chat.codec;
+
+import static com.dpm.winwin.chatting.common.error.enums.ErrorMessage.INVALID_CHAT_MESSAGE;
+
+import com.dpm.winwin.chatting.chat.dto.request.ChatMessageRequest;
+import com.dpm.winwin.chatting.chat.dto.response.ChatAckResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatPresenceResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatTypingResponse;
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+import com.dpm.winwin.chatting.common.error.dto.ErrorResponseDto;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 frame 의 JSON / binary 변환을 담당한다.
+ * handshake 에서 BINARY_PROTOCOL 을 협상한 세션은 아래 binary 형식을, 그 외 세션은 JSON text 를 사용한다.
+ * (모든 정수는 big-endian, 문자열은 4바이트 길이 + UTF-8)
+ * ACK 는 JSON 으로 보낸 요청의 clientMessageId 도 그대로 돌려줄 수 있도록 숫자가 아닌 문자열로 보낸다.
+ *
+ * 요청  MESSAGE   : type(1) roomId(8) sequence(8) content
+ *       TYPING    : type(1) roomId(8)
+ *       HEARTBEAT : type(1)
+ * 응답  MESSAGE   : type(1) roomId(8) senderId(8) sentAt epoch millis(8) content
+ *       TYPING    : type(1) roomId(8) senderId(8)
+ *       PRESENCE  : type(1) roomId(8) memberId(8) online(1)
+ *       ACK       : type(1) clientMessageId
+ *       ERROR     : type(1) code(4) phrase
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatFrameCodec {
+
+    public static final String BINARY_PROTOCOL = "winwin-chat-binary-v1";
+    public static final String JSON_PROTOCOL = "winwin-chat-json-v1";
+
+    private static final OutboundFrame HEARTBEAT = new OutboundFrame(
+        "{\"type\":\"HEARTBEAT\"}", () -> new byte[]{ChatFrameType.HEARTBEAT.getCode()});
+
+    private final ObjectMapper objectMapper;
+
+    public ChatMessageRequest decode(String json) throws JsonProcessingException {
+        return objectMapper.readValue(json, ChatMessageRequest.class);
+    }
+
+    // header 는 ByteBuffer 에서 바로 읽고, content 만 한 번 String 으로 만든다
+    public ChatMessageRequest decode(ByteBuffer buffer) {
+        try {
+            ChatFrameType type = ChatFrameType.fromCode(buffer.get());
+            if (type == ChatFrameType.HEARTBEAT) {
+                return new ChatMessageRequest(type, null, null, null);
+            }
+            if (type == ChatFrameType.TYPING) {
+                return new ChatMessageRequest(type, null, buffer.getLong(), null);
+            }
+            if (type == ChatFrameType.MESSAGE) {
+                long roomId = buffer.getLong();
+                long sequence = buffer.getLong();
+                return new ChatMessageRequest(type, Long.toString(sequence), roomId, readString(buffer));
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new BusinessException(INVALID_CHAT_MESSAGE);
+        }
+        throw new BusinessException(INVALID_CHAT_MESSAGE);
+    }
+
+    public OutboundFrame encode(Object response) throws JsonProcessingException {
+        return new OutboundFrame(objectMapper.writeValueAsString(response), () -> encodeBinary(response));
+    }
+
+    /**
+     * 다른 노드에서 JSON 으로 전달받은 frame. binary 가 필요할 때만 JSON 을 다시 읽는다.
+     */
+    public OutboundFrame fromJson(String json, Class<?> responseType) {
+        return new OutboundFrame(json, () -> {
+            try {
+                return encodeBinary(objectMapper.readValue(json, responseType));
+            } catch (JsonProcessingException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public OutboundFrame heartbeat() {
+        return HEARTBEAT;
+    }
+
+    private byte[] encodeBinary(Object response) {
+        if (response instanceof ChatMessageResponse message) {
+            byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + 8 + 8 + 8 + 4 + content.length)
+                .put(ChatFrameType.MESSAGE.getCode())
+                .putLong(message.roomId())
+                .putLong(message.senderId())
+                .putLong(message.sentAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli())
+                .putInt(content.length)
+                .put(content)
+                .array();
+        }
+        if (response instanceof ChatTypingResponse typing) {
+            return ByteBuffer.allocate(1 + 8 + 8)
+                .put(ChatFrameType.TYPING.getCode())
+                .putLong(typing.roomId())
+                .putLong(typing.senderId())
+                .array();
+        }
+        if (response instanceof ChatPresenceResponse presence) {
+            return ByteBuffer.allocate(1 + 8 + 8 + 1)
+                .put(ChatFrameType.PRESENCE.getCode())
+                .putLong(presence.roomId())
+                .putLong(presence.memberId())
+                .put((byte) (presence.online() ? 1 : 0))
+                .array();
+        }
+        if (response instanceof ChatAckResponse ack) {
+            byte[] clientMessageId = ack.clientMessageId() == null
+                ? new byte[0] : ack.clientMessageId().getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + 4 + clientMessageId.length)
+                .put(ChatFrameType.ACK.getCode())
+                .putInt(clientMessageId.length)
+                .put(clientMessageId)
+                .array();
+        }
+        if (response instanceof ErrorResponseDto error) {
+            byte[] phrase = error.phrase().getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + 4 + 4 + phrase.length)
+                .put(ChatFrameType.ERROR.getCode())
+                .putInt(error.code())
+                .putInt(phrase.length)
+                .put(phrase)
+                .array();
+        }
+        throw new IllegalArgumentException("binary 로 변환할 수 없는 응답입니다. " + response.getClass());
+    }
+
+    private String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BusinessException(INVALID_CHAT_MESSAGE);
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        } else {
+            ByteBuffer slice = buffer.slice();
+            slice.limit(length);
+            value = StandardCharsets.UTF_8.decode(slice).toString();
+        }
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+}
@@ -0,0 +1,42 @@
+package com.dpm.winwin.chatting.chat.codec;
+
+import java.util.function.Supplier;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 여러 세션으로 전송할 frame.
+ * JSON 은 클러스터 전송에도 필요하므로 미리 만들고, binary frame 은 binary 프로토콜 세션이 있을 때 한 번만 만든다.
+ */
+public class OutboundFrame {
+
+    private final String json;
+    private final TextMessage textMessage;
+    private final Supplier<byte[]> binaryEncoder;
+    private volatile byte[] binary;
+
+    OutboundFrame(String json, Supplier<byte[]> binaryEncoder) {
+        this.json = json;
+        this.textMessage = new TextMessage(json);
+        this.binaryEncoder = binaryEncoder;
+    }
+
+    public String getJson() {
+        return json;
+    }
+
+    public WebSocketMessage<?> toMessage(WebSocketSession session) {
+        if (!ChatFrameCodec.BINARY_PROTOCOL.equals(session.getAcceptedProtocol())) {
+            return textMessage;
+        }
+        byte[] encoded = binary;
+        if (encoded == null) {
+            encoded = binaryEncoder.get();
+            binary = encoded;
+        }
+        // 전송하면서 ByteBuffer 의 position 이 바뀌므로 같은 배열을 감싼 message 를 세션마다 새로 만든다
+        return new BinaryMessage(encoded);
+    }
+}
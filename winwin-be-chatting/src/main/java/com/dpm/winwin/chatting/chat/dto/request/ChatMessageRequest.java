@@ -0,0 +1,19 @@
+package com.dpm.winwin.chatting.chat.dto.request;
+
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+
+public record ChatMessageRequest(
+    ChatFrameType type,
+    String clientMessageId,
+    Long roomId,
+    String content
+) {
+
+    public boolean isTyping() {
+        return type == ChatFrameType.TYPING;
+    }
+
+    public boolean isHeartbeat() {
+        return type == ChatFrameType.HEARTBEAT;
+    }
+}
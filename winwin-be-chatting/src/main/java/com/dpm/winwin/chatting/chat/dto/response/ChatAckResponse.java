@@ -0,0 +1,13 @@
+package com.dpm.winwin.chatting.chat.dto.response;
+
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+
+public record ChatAckResponse(
+    ChatFrameType type,
+    String clientMessageId
+) {
+
+    public static ChatAckResponse of(String clientMessageId) {
+        return new ChatAckResponse(ChatFrameType.ACK, clientMessageId);
+    }
+}
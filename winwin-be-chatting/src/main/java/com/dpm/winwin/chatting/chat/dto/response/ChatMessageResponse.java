@@ -0,0 +1,17 @@
+package com.dpm.winwin.chatting.chat.dto.response;
+
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+import java.time.LocalDateTime;
+
+public record ChatMessageResponse(
+    ChatFrameType type,
+    Long roomId,
+    Long senderId,
+    String content,
+    LocalDateTime sentAt
+) {
+
+    public static ChatMessageResponse of(Long roomId, Long senderId, String content, LocalDateTime sentAt) {
+        return new ChatMessageResponse(ChatFrameType.MESSAGE, roomId, senderId, content, sentAt);
+    }
+}
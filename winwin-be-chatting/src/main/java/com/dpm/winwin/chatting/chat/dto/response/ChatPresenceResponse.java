@@ -0,0 +1,15 @@
+package com.dpm.winwin.chatting.chat.dto.response;
+
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+
+public record ChatPresenceResponse(
+    ChatFrameType type,
+    Long roomId,
+    Long memberId,
+    boolean online
+) {
+
+    public static ChatPresenceResponse of(Long roomId, Long memberId, boolean online) {
+        return new ChatPresenceResponse(ChatFrameType.PRESENCE, roomId, memberId, online);
+    }
+}
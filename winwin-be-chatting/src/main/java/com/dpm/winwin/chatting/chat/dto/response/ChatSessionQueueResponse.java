@@ -0,0 +1,11 @@
+package com.dpm.winwin.chatting.chat.dto.response;
+
+public record ChatSessionQueueResponse(
+    Long memberId,
+    String sessionId,
+    int bufferSize,
+    long timeSinceSendStarted,
+    long droppedCount
+) {
+
+}
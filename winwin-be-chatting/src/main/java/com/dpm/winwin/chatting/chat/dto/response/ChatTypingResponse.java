@@ -0,0 +1,14 @@
+package com.dpm.winwin.chatting.chat.dto.response;
+
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+
+public record ChatTypingResponse(
+    ChatFrameType type,
+    Long roomId,
+    Long senderId
+) {
+
+    public static ChatTypingResponse of(Long roomId, Long senderId) {
+        return new ChatTypingResponse(ChatFrameType.TYPING, roomId, senderId);
+    }
+}
@@ -0,0 +1,29 @@
+package com.dpm.winwin.chatting.chat.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * code 는 binary 프로토콜에서 frame 의 첫 바이트로 사용된다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChatFrameType {
+    MESSAGE((byte) 1),
+    TYPING((byte) 2),
+    HEARTBEAT((byte) 3),
+    ACK((byte) 4),
+    ERROR((byte) 5),
+    PRESENCE((byte) 6);
+
+    private final byte code;
+
+    public static ChatFrameType fromCode(byte code) {
+        for (ChatFrameType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
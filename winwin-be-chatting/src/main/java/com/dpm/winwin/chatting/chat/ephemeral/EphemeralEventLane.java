@@ -0,0 +1,158 @@
+package com.dpm.winwin.chatting.chat.ephemeral;
+
+import com.dpm.winwin.chatting.chat.cluster.ClusterBus;
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.codec.OutboundFrame;
+import com.dpm.winwin.chatting.chat.dto.response.ChatPresenceResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatTypingResponse;
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+import com.dpm.winwin.chatting.chat.room.RoomIndex;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입력 중 표시와 접속 상태처럼 저장하지 않는 이벤트의 전송 경로.
+ * 같은 (채팅방, 회원, 종류) 의 이벤트는 window 동안 마지막 것만 남기고,
+ * 우선순위가 낮은 별도 스레드가 window 마다 모아서 보낸다.
+ * 채팅 메시지는 이 경로를 거치지 않으므로 이벤트가 몰려도 메시지 전달이 늦어지지 않는다.
+ * 다른 노드로 보낼 때도 ClusterBus 의 별도 대기열을 사용하며, 채팅 메시지를 먼저 보내고 남는 자리만큼 보낸다.
+ */
+@Slf4j
+@Component
+public class EphemeralEventLane implements InitializingBean, DisposableBean {
+
+    private final RoomIndex roomIndex;
+    private final SessionMessageSender sessionMessageSender;
+    private final ClusterBus clusterBus;
+    private final ChatFrameCodec chatFrameCodec;
+    private final long windowMillis;
+    private final int capacity;
+    private final Counter coalescedCounter;
+    private final Counter droppedCounter;
+
+    private final ConcurrentHashMap<EventKey, Event> pending = new ConcurrentHashMap<>();
+    private Thread flusher;
+
+    public EphemeralEventLane(RoomIndex roomIndex,
+                              SessionMessageSender sessionMessageSender,
+                              ClusterBus clusterBus,
+                              ChatFrameCodec chatFrameCodec,
+                              MeterRegistry meterRegistry,
+                              @Value("${chat.ephemeral.window-ms:300}") long windowMillis,
+                              @Value("${chat.ephemeral.capacity:10000}") int capacity) {
+        this.roomIndex = roomIndex;
+        this.sessionMessageSender = sessionMessageSender;
+        this.clusterBus = clusterBus;
+        this.chatFrameCodec = chatFrameCodec;
+        this.windowMillis = windowMillis;
+        this.capacity = capacity;
+        this.coalescedCounter = meterRegistry.counter("chat.ephemeral.coalesced");
+        this.droppedCounter = meterRegistry.counter("chat.ephemeral.dropped");
+    }
+
+    public void typing(Long roomId, Long senderId, Long[] participants) {
+        offer(new EventKey(roomId, senderId, ChatFrameType.TYPING), new Event(false, participants));
+    }
+
+    /**
+     * 회원이 참여한 채팅방의 상대방에게 접속 상태를 알린다.
+     * 접속 종료 시에는 RoomIndex 에서 채팅방이 제거되기 전에 호출해야 한다.
+     */
+    public void presence(Long memberId, boolean online) {
+        for (Long roomId : roomIndex.getRooms(memberId)) {
+            offer(new EventKey(roomId, memberId, ChatFrameType.PRESENCE),
+                new Event(online, roomIndex.getParticipants(roomId)));
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        flusher = new Thread(this::flushLoop, "chat-ephemeral-flusher");
+        flusher.setDaemon(true);
+        flusher.setPriority(Thread.MIN_PRIORITY);
+        flusher.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        flusher.interrupt();
+        flusher.join(1000);
+    }
+
+    private void offer(EventKey key, Event event) {
+        if (pending.size() >= capacity && !pending.containsKey(key)) {
+            droppedCounter.increment();
+            return;
+        }
+        if (pending.put(key, event) != null) {
+            coalescedCounter.increment();
+        }
+    }
+
+    private void flushLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(windowMillis);
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("이벤트 전송에 실패했습니다.", e);
+            }
+        }
+    }
+
+    // 꺼내는 중에 들어온 이벤트는 map 에 남아 다음 window 에 전송된다
+    private void flush() {
+        Iterator<Map.Entry<EventKey, Event>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<EventKey, Event> entry = iterator.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                send(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private void send(EventKey key, Event event) {
+        try {
+            boolean typing = key.type() == ChatFrameType.TYPING;
+            OutboundFrame frame = chatFrameCodec.encode(typing
+                ? ChatTypingResponse.of(key.roomId(), key.memberId())
+                : ChatPresenceResponse.of(key.roomId(), key.memberId(), event.online()));
+            for (Long recipientId : event.recipients()) {
+                if (recipientId.equals(key.memberId())) {
+                    continue;
+                }
+                sessionMessageSender.sendToMember(recipientId, frame, true);
+                if (!clusterBus.requiresPublish(recipientId)) {
+                    continue;
+                }
+                if (typing) {
+                    clusterBus.publishTyping(recipientId, frame.getJson());
+                } else {
+                    clusterBus.publishPresence(recipientId, frame.getJson());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            log.error("이벤트 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private record EventKey(Long roomId, Long memberId, ChatFrameType type) {
+
+    }
+
+    private record Event(boolean online, Long[] recipients) {
+
+    }
+}
@@ -0,0 +1,37 @@
+package com.dpm.winwin.chatting.chat.monitoring;
+
+import com.dpm.winwin.chatting.chat.dto.response.ChatSessionQueueResponse;
+import com.dpm.winwin.chatting.chat.session.ChatSessionDecorator;
+import com.dpm.winwin.chatting.chat.session.SessionRegistry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 전송 대기열 상태를 대기열이 많이 쌓인 순서로 보여준다. (/actuator/chatsessions)
+ * 회원 id 가 포함되므로 management 포트(127.0.0.1)로만 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "chatsessions")
+public class ChatSessionEndpoint {
+
+    private final SessionRegistry sessionRegistry;
+
+    @ReadOperation
+    public List<ChatSessionQueueResponse> sessions() {
+        List<ChatSessionQueueResponse> responses = new ArrayList<>(sessionRegistry.getSessionCount());
+        sessionRegistry.forEach((memberId, session) -> {
+            if (session instanceof ChatSessionDecorator decorator) {
+                responses.add(new ChatSessionQueueResponse(memberId, decorator.getId(),
+                    decorator.getBufferSize(), decorator.getTimeSinceSendStarted(), decorator.getDroppedCount()));
+            }
+        });
+        responses.sort(Comparator.comparingInt(ChatSessionQueueResponse::bufferSize).reversed());
+        return responses;
+    }
+}
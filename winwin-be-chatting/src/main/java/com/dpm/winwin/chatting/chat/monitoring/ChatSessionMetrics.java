@@ -0,0 +1,53 @@
+package com.dpm.winwin.chatting.chat.monitoring;
+
+import com.dpm.winwin.chatting.chat.persistence.ChatMessageWriter;
+import com.dpm.winwin.chatting.chat.session.ChatSessionDecorator;
+import com.dpm.winwin.chatting.chat.session.SessionRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 노드의 연결 수와 전송 대기열 크기를 gauge 로 노출한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatSessionMetrics implements MeterBinder {
+
+    private final SessionRegistry sessionRegistry;
+    private final ChatMessageWriter chatMessageWriter;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("chat.sessions", sessionRegistry, SessionRegistry::getSessionCount)
+            .register(registry);
+        Gauge.builder("chat.members", sessionRegistry, SessionRegistry::getMemberCount)
+            .register(registry);
+        Gauge.builder("chat.outbound.buffer.total", this, metrics -> metrics.getBufferSize(false))
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("chat.outbound.buffer.max", this, metrics -> metrics.getBufferSize(true))
+            .baseUnit("bytes")
+            .register(registry);
+        Gauge.builder("chat.persistence.queue", chatMessageWriter, ChatMessageWriter::getQueueSize)
+            .register(registry);
+    }
+
+    private long getBufferSize(boolean max) {
+        AtomicLong result = new AtomicLong();
+        sessionRegistry.forEach((memberId, session) -> {
+            if (session instanceof ChatSessionDecorator decorator) {
+                long bufferSize = decorator.getBufferSize();
+                if (max) {
+                    result.accumulateAndGet(bufferSize, Math::max);
+                } else {
+                    result.addAndGet(bufferSize);
+                }
+            }
+        });
+        return result.get();
+    }
+}
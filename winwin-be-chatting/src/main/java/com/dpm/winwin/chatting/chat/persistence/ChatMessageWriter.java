@@ -0,0 +1,150 @@
+package com.dpm.winwin.chatting.chat.persistence;
+
+import com.dpm.winwin.chatting.common.error.enums.ErrorMessage;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.domain.repository.chat.ChatMessageBulkRepository;
+import com.dpm.winwin.domain.repository.chat.UnreadCountRepository;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import com.dpm.winwin.domain.repository.chat.dto.request.UnreadCountIncrementRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지를 bounded queue 에 모았다가 batch-size 개 또는 flush-interval 마다 한 번에 저장한다.
+ * 저장이 끝나면 반환한 future 가 완료되고, queue 가 가득 차 offer-timeout 안에 넣지 못하면
+ * CHAT_SERVER_BUSY 로 거절해 보내는 쪽의 속도를 늦춘다.
+ * 저장된 메시지만큼 수신자의 안 읽은 메시지 수를 함께 늘린다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter implements InitializingBean, DisposableBean {
+
+    private final ChatMessageBulkRepository chatMessageBulkRepository;
+    private final UnreadCountRepository unreadCountRepository;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutMillis;
+
+    private volatile boolean running = true;
+    private Thread writer;
+
+    public ChatMessageWriter(ChatMessageBulkRepository chatMessageBulkRepository,
+                             UnreadCountRepository unreadCountRepository,
+                             @Value("${chat.persistence.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.persistence.batch-size:500}") int batchSize,
+                             @Value("${chat.persistence.flush-interval-ms:20}") long flushIntervalMillis,
+                             @Value("${chat.persistence.offer-timeout-ms:100}") long offerTimeoutMillis) {
+        this.chatMessageBulkRepository = chatMessageBulkRepository;
+        this.unreadCountRepository = unreadCountRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    public CompletableFuture<Void> write(ChatMessageSaveRequest message) {
+        PendingMessage pending = new PendingMessage(message, new CompletableFuture<>());
+        try {
+            if (!queue.offer(pending, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new BusinessException(ErrorMessage.CHAT_SERVER_BUSY);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorMessage.CHAT_SERVER_BUSY);
+        }
+        return pending.future();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        writer = new Thread(this::writeLoop, "chat-message-writer");
+        writer.start();
+    }
+
+    // 종료 시에는 queue 에 남은 메시지를 모두 저장한 뒤 끝낸다
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void writeLoop() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, System.nanoTime() + flushIntervalNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            flush(batch);
+        }
+    }
+
+    private void collect(List<PendingMessage> batch, long deadline) throws InterruptedException {
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ChatMessageSaveRequest> messages = batch.stream().map(PendingMessage::message).toList();
+        try {
+            chatMessageBulkRepository.saveAll(messages);
+            batch.forEach(pending -> pending.future().complete(null));
+        } catch (RuntimeException e) {
+            log.error("채팅 메시지 저장에 실패했습니다. size : {}", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+            return;
+        } finally {
+            batch.clear();
+        }
+        incrementUnreadCounts(messages);
+    }
+
+    private void incrementUnreadCounts(List<ChatMessageSaveRequest> messages) {
+        try {
+            unreadCountRepository.incrementAll(messages.stream()
+                .map(message -> new UnreadCountIncrementRequest(message.receiverId(), message.roomId()))
+                .toList());
+        } catch (RuntimeException e) {
+            log.error("안 읽은 메시지 수 갱신에 실패했습니다. size : {}", messages.size(), e);
+        }
+    }
+
+    private record PendingMessage(ChatMessageSaveRequest message, CompletableFuture<Void> future) {
+
+    }
+}
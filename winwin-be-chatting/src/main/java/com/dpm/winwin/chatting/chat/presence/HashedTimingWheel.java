@@ -0,0 +1,100 @@
+package com.dpm.winwin.chatting.chat.presence;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 같은 timeout 을 가지는 대상들의 만료를 처리하는 hashed timing wheel.
+ * 대상마다 작업을 예약하지 않고, 만료 예정 tick 에 해당하는 bucket 에만 넣어 둔다.
+ * touch 는 마지막 활동 시각만 갱신하며, bucket 을 처리할 때 아직 만료되지 않은 대상은
+ * 새 만료 예정 tick 의 bucket 으로 옮긴다. 따라서 touch 와 tick 당 처리 비용은 대상 수와 무관하다.
+ *
+ * tick 은 하나의 스레드에서만 호출해야 한다.
+ */
+public class HashedTimingWheel<T> {
+
+    private final Queue<Timeout<T>>[] buckets;
+    private final int mask;
+    private final long tickMillis;
+    private final long timeoutMillis;
+    private final Consumer<T> expiredHandler;
+
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, long timeoutMillis, Consumer<T> expiredHandler) {
+        // 한 바퀴가 timeout 보다 길어야 bucket 에 round 정보를 두지 않아도 된다
+        int size = Integer.highestOneBit((int) (timeoutMillis / tickMillis) + 1) << 1;
+        this.buckets = new Queue[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.mask = size - 1;
+        this.tickMillis = tickMillis;
+        this.timeoutMillis = timeoutMillis;
+        this.expiredHandler = expiredHandler;
+        this.currentTick = System.currentTimeMillis() / tickMillis;
+    }
+
+    public Timeout<T> add(T target) {
+        Timeout<T> timeout = new Timeout<>(target, System.currentTimeMillis());
+        schedule(timeout, currentTick);
+        return timeout;
+    }
+
+    /**
+     * 마지막 tick 이후 지나간 bucket 을 모두 처리한다.
+     */
+    public void tick(long now) {
+        long targetTick = now / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            expire(buckets[(int) (currentTick & mask)], now);
+        }
+    }
+
+    private void expire(Queue<Timeout<T>> bucket, long now) {
+        // 처리 중 같은 bucket 에 다시 들어오는 대상이 없도록 현재 크기만큼만 꺼낸다
+        for (int i = bucket.size(); i > 0; i--) {
+            Timeout<T> timeout = bucket.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (now - timeout.lastAccessed >= timeoutMillis) {
+                timeout.cancelled = true;
+                expiredHandler.accept(timeout.target);
+                continue;
+            }
+            schedule(timeout, currentTick);
+        }
+    }
+
+    private void schedule(Timeout<T> timeout, long fromTick) {
+        long deadlineTick = Math.max((timeout.lastAccessed + timeoutMillis) / tickMillis, fromTick + 1);
+        buckets[(int) (deadlineTick & mask)].offer(timeout);
+    }
+
+    public static class Timeout<T> {
+
+        private final T target;
+        private volatile long lastAccessed;
+        private volatile boolean cancelled;
+
+        private Timeout(T target, long lastAccessed) {
+            this.target = target;
+            this.lastAccessed = lastAccessed;
+        }
+
+        public void touch() {
+            lastAccessed = System.currentTimeMillis();
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.dpm.winwin.chatting.chat.presence;
+
+import com.dpm.winwin.chatting.chat.presence.HashedTimingWheel.Timeout;
+import com.dpm.winwin.domain.repository.chat.PresenceRepository;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 세션의 마지막 활동 시각을 추적해 heartbeat 가 끊긴 세션을 종료하고,
+ * 접속 중인 회원을 Redis bitmap 에 반영한다.
+ * 만료 처리는 하나의 스레드가 timing wheel 을 tick 하며 수행하고,
+ * 같은 스레드가 refresh 주기마다 노드 bitmap 의 TTL 을 갱신한다.
+ */
+@Slf4j
+@Component
+public class PresenceTracker implements InitializingBean, DisposableBean {
+
+    private static final CloseStatus IDLE_TIMEOUT = CloseStatus.SESSION_NOT_RELIABLE.withReason("idle timeout");
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final PresenceRepository presenceRepository;
+    private final HashedTimingWheel<WebSocketSession> timingWheel;
+    private final long tickMillis;
+    private final long refreshIntervalMillis;
+    private Thread ticker;
+
+    public PresenceTracker(PresenceRepository presenceRepository,
+                           @Value("${chat.presence.tick-ms:1000}") long tickMillis,
+                           @Value("${chat.presence.idle-timeout-ms:60000}") long idleTimeoutMillis,
+                           @Value("${chat.presence.refresh-interval-ms:10000}") long refreshIntervalMillis) {
+        this.presenceRepository = presenceRepository;
+        this.timingWheel = new HashedTimingWheel<>(tickMillis, idleTimeoutMillis, this::close);
+        this.tickMillis = tickMillis;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    public Timeout<WebSocketSession> track(WebSocketSession session) {
+        return timingWheel.add(session);
+    }
+
+    public void online(Long memberId) {
+        try {
+            presenceRepository.online(nodeId, memberId);
+        } catch (RuntimeException e) {
+            log.warn("접속 상태 갱신에 실패했습니다. memberId : {}", memberId, e);
+        }
+    }
+
+    public void offline(Long memberId) {
+        try {
+            presenceRepository.offline(nodeId, memberId);
+        } catch (RuntimeException e) {
+            log.warn("접속 상태 갱신에 실패했습니다. memberId : {}", memberId, e);
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        ticker = new Thread(this::tickLoop, "chat-presence-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        ticker.interrupt();
+        ticker.join(1000);
+        presenceRepository.removeNode(nodeId);
+    }
+
+    private void tickLoop() {
+        long lastRefreshed = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(tickMillis);
+                long now = System.currentTimeMillis();
+                timingWheel.tick(now);
+                if (now - lastRefreshed >= refreshIntervalMillis) {
+                    presenceRepository.refresh(nodeId, Duration.ofMillis(refreshIntervalMillis * 3));
+                    lastRefreshed = now;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("접속 상태 처리에 실패했습니다.", e);
+            }
+        }
+    }
+
+    // 종료된 세션은 WebSocketHandler 의 afterConnectionClosed 에서 정리된다
+    private void close(WebSocketSession session) {
+        log.info("heartbeat 가 없어 세션을 종료합니다. sessionId : {}", session.getId());
+        try {
+            session.close(IDLE_TIMEOUT);
+        } catch (IOException e) {
+            log.warn("세션 종료에 실패했습니다. sessionId : {}", session.getId(), e);
+        }
+    }
+}
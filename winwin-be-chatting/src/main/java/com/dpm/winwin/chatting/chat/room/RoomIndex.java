@@ -0,0 +1,84 @@
+package com.dpm.winwin.chatting.chat.room;
+
+import com.dpm.winwin.chatting.chat.session.SessionRegistry;
+import com.dpm.winwin.chatting.common.error.enums.ErrorMessage;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.domain.repository.chat.ChatRoomRepository;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomParticipantResponse;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 id 로부터 참여자(host, guest) id 를 찾는 인덱스.
+ * 현재 노드에 접속한 회원의 채팅방만 메모리에 올려 두고,
+ * 참여자가 모두 접속을 끊으면 인덱스에서 제거한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomIndex {
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final SessionRegistry sessionRegistry;
+
+    private final ConcurrentHashMap<Long, Long[]> participantsByRoom = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long[]> roomsByMember = new ConcurrentHashMap<>();
+
+    public void loadRooms(Long memberId) {
+        chatRoomRepository.findParticipantsByMemberId(memberId).forEach(this::index);
+    }
+
+    // 반환된 배열은 공유되므로 호출하는 쪽에서 수정하면 안 된다
+    public Long[] getParticipants(Long roomId) {
+        Long[] participants = participantsByRoom.get(roomId);
+        if (participants != null) {
+            return participants;
+        }
+        // DB 조회를 ConcurrentHashMap.compute 안에서 하지 않도록 조회 후 putIfAbsent 한다
+        ChatRoomParticipantResponse room = chatRoomRepository.findParticipantsById(roomId)
+            .orElseThrow(() -> new BusinessException(ErrorMessage.CHAT_ROOM_NOT_FOUND));
+        return index(room);
+    }
+
+    // 현재 노드에 접속한 회원의 채팅방만 반환한다
+    public Long[] getRooms(Long memberId) {
+        Long[] rooms = roomsByMember.get(memberId);
+        return rooms == null ? new Long[0] : rooms;
+    }
+
+    public void evictRooms(Long memberId) {
+        Long[] rooms = roomsByMember.remove(memberId);
+        if (rooms == null) {
+            return;
+        }
+        for (Long roomId : rooms) {
+            Long[] participants = participantsByRoom.get(roomId);
+            if (participants != null && Arrays.stream(participants).noneMatch(sessionRegistry::isConnected)) {
+                participantsByRoom.remove(roomId, participants);
+            }
+        }
+    }
+
+    private Long[] index(ChatRoomParticipantResponse room) {
+        Long[] participants = {room.hostId(), room.guestId()};
+        Long[] current = participantsByRoom.putIfAbsent(room.roomId(), participants);
+        for (Long memberId : participants) {
+            if (!sessionRegistry.isConnected(memberId)) {
+                continue;
+            }
+            roomsByMember.compute(memberId, (id, rooms) -> {
+                if (rooms == null) {
+                    return new Long[]{room.roomId()};
+                }
+                if (Arrays.asList(rooms).contains(room.roomId())) {
+                    return rooms;
+                }
+                Long[] next = Arrays.copyOf(rooms, rooms.length + 1);
+                next[rooms.length] = room.roomId();
+                return next;
+            });
+        }
+        return current == null ? participants : current;
+    }
+}
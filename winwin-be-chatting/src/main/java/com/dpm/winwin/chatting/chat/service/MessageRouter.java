@@ -0,0 +1,135 @@
+package com.dpm.winwin.chatting.chat.service;
+
+import com.dpm.winwin.chatting.chat.cluster.ClusterBus;
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.codec.OutboundFrame;
+import com.dpm.winwin.chatting.chat.dto.request.ChatMessageRequest;
+import com.dpm.winwin.chatting.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.chatting.chat.ephemeral.EphemeralEventLane;
+import com.dpm.winwin.chatting.chat.persistence.ChatMessageWriter;
+import com.dpm.winwin.chatting.chat.room.RoomIndex;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.dpm.winwin.chatting.common.error.enums.ErrorMessage;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅 메시지를 채팅방 참여자의 모든 세션으로 전달한다.
+ * 메시지는 프로토콜별로 한 번만 직렬화하고, 같은 frame 을 모든 세션에 그대로 전송한다.
+ * 다른 노드에 접속한 참여자에게는 ClusterBus 를 통해 전달하며, 버스 대기열에 자리를 먼저 확보하지 못하면
+ * 저장하지 않고 CHAT_SERVER_BUSY 로 거절한다.
+ * 저장은 ChatMessageWriter 가 모아서 처리하며, 저장이 끝난 뒤에 전달하고 반환한 future 를 완료한다.
+ * 그래서 전달은 flush 주기만큼 늦어지지만, 수신자가 받은 메시지는 항상 대화 기록에 남아 있고
+ * 저장에 실패해 보낸 쪽이 다시 보내더라도 수신자가 같은 메시지를 두 번 받지 않는다.
+ * 입력 중 표시는 저장하지 않고 EphemeralEventLane 으로 모아서 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageRouter {
+
+    private final RoomIndex roomIndex;
+    private final SessionMessageSender sessionMessageSender;
+    private final ClusterBus clusterBus;
+    private final ChatMessageWriter chatMessageWriter;
+    private final EphemeralEventLane ephemeralEventLane;
+    private final ChatFrameCodec chatFrameCodec;
+
+    public CompletableFuture<Void> route(Long senderId, ChatMessageRequest request) throws JsonProcessingException {
+        if (request.roomId() == null || request.content() == null || request.content().isBlank()) {
+            throw new BusinessException(ErrorMessage.INVALID_CHAT_MESSAGE);
+        }
+        Long[] participants = getParticipants(request.roomId(), senderId);
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        OutboundFrame frame = chatFrameCodec.encode(
+            ChatMessageResponse.of(request.roomId(), senderId, request.content(), sentAt));
+        int remoteCount = countRemoteMembers(participants);
+
+        clusterBus.reserve(remoteCount);
+        CompletableFuture<Void> saved;
+        try {
+            saved = chatMessageWriter.write(new ChatMessageSaveRequest(
+                request.roomId(), senderId, getReceiverId(participants, senderId), request.content(), sentAt));
+        } catch (RuntimeException e) {
+            clusterBus.cancel(remoteCount);
+            throw e;
+        }
+
+        return saved.whenComplete((result, e) -> {
+            if (e != null) {
+                clusterBus.cancel(remoteCount);
+                return;
+            }
+            for (Long memberId : participants) {
+                sessionMessageSender.sendToMember(memberId, frame);
+            }
+            publishToRemoteMembers(participants, frame, remoteCount);
+        });
+    }
+
+    public void routeTyping(Long senderId, ChatMessageRequest request) {
+        if (request.roomId() == null) {
+            throw new BusinessException(ErrorMessage.INVALID_CHAT_MESSAGE);
+        }
+        Long[] participants = getParticipants(request.roomId(), senderId);
+
+        ephemeralEventLane.typing(request.roomId(), senderId, participants);
+    }
+
+    private Long[] getParticipants(Long roomId, Long senderId) {
+        Long[] participants = roomIndex.getParticipants(roomId);
+        if (!isParticipant(participants, senderId)) {
+            throw new BusinessException(ErrorMessage.NOT_CHAT_ROOM_PARTICIPANT);
+        }
+        return participants;
+    }
+
+    // 메시지마다 목록을 만들지 않도록 개수만 세고, 전달할 때 참여자를 다시 확인한다
+    private int countRemoteMembers(Long[] participants) {
+        int count = 0;
+        for (Long memberId : participants) {
+            if (clusterBus.requiresPublish(memberId)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 저장하는 동안 접속 정보가 바뀌었을 수 있으므로 확보한 자리만큼만 보내고 남은 자리는 돌려준다.
+     * 그 사이 다른 노드에 새로 접속한 참여자는 이 메시지를 실시간으로 받지 못하고 대화 기록으로 확인한다.
+     */
+    private void publishToRemoteMembers(Long[] participants, OutboundFrame frame, int reserved) {
+        int published = 0;
+        for (Long memberId : participants) {
+            if (published < reserved && clusterBus.requiresPublish(memberId)) {
+                clusterBus.publish(memberId, frame.getJson());
+                published++;
+            }
+        }
+        clusterBus.cancel(reserved - published);
+    }
+
+    private Long getReceiverId(Long[] participants, Long senderId) {
+        for (Long participant : participants) {
+            if (!participant.equals(senderId)) {
+                return participant;
+            }
+        }
+        return senderId;
+    }
+
+    private boolean isParticipant(Long[] participants, Long memberId) {
+        for (Long participant : participants) {
+            if (participant.equals(memberId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package com.dpm.winwin.chatting.chat.session;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+/**
+ * 세션별 전송 대기열을 두어 느린 클라이언트가 다른 세션으로의 전송을 막지 않도록 한다.
+ * 대기열이 droppableBufferSizeLimit 을 넘으면 입력 중 표시 같은 버려도 되는 frame 부터 버리고,
+ * bufferSizeLimit 또는 sendTimeLimit 을 넘으면 SessionLimitExceededException 이 발생하므로 연결을 끊는다.
+ */
+public class ChatSessionDecorator extends ConcurrentWebSocketSessionDecorator {
+
+    private final int droppableBufferSizeLimit;
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public ChatSessionDecorator(WebSocketSession delegate, int sendTimeLimit,
+                                int bufferSizeLimit, int droppableBufferSizeLimit) {
+        super(delegate, sendTimeLimit, bufferSizeLimit, OverflowStrategy.TERMINATE);
+        this.droppableBufferSizeLimit = droppableBufferSizeLimit;
+    }
+
+    /**
+     * @return 대기열이 밀려 frame 을 버렸다면 false
+     */
+    public boolean sendDroppableMessage(WebSocketMessage<?> message) throws IOException {
+        if (getBufferSize() > droppableBufferSizeLimit) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        sendMessage(message);
+        return true;
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -0,0 +1,25 @@
+package com.dpm.winwin.chatting.chat.session;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+@Component
+public class ChatSessionDecoratorFactory {
+
+    private final int sendTimeLimit;
+    private final int bufferSizeLimit;
+    private final int droppableBufferSizeLimit;
+
+    public ChatSessionDecoratorFactory(@Value("${chat.session.send-time-limit-ms:10000}") int sendTimeLimit,
+                                       @Value("${chat.session.buffer-size-limit:524288}") int bufferSizeLimit,
+                                       @Value("${chat.session.droppable-buffer-size-limit:65536}") int droppableBufferSizeLimit) {
+        this.sendTimeLimit = sendTimeLimit;
+        this.bufferSizeLimit = bufferSizeLimit;
+        this.droppableBufferSizeLimit = droppableBufferSizeLimit;
+    }
+
+    public ChatSessionDecorator decorate(WebSocketSession session) {
+        return new ChatSessionDecorator(session, sendTimeLimit, bufferSizeLimit, droppableBufferSizeLimit);
+    }
+}
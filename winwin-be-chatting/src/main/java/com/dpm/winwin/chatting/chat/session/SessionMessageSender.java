@@ -0,0 +1,76 @@
+package com.dpm.winwin.chatting.chat.session;
+
+import com.dpm.winwin.chatting.chat.codec.OutboundFrame;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+/**
+ * 현재 노드에 연결된 세션으로 frame 을 전송한다.
+ * 세션은 ChatSessionDecorator 로 감싸져 있어 전송이 대기열에 쌓일 뿐 호출한 스레드를 막지 않는다.
+ * 세션이 협상한 프로토콜에 따라 같은 frame 을 JSON text 또는 binary 로 보낸다.
+ */
+@Slf4j
+@Component
+public class SessionMessageSender {
+
+    private final SessionRegistry sessionRegistry;
+    private final Counter droppedCounter;
+    private final Counter terminatedCounter;
+
+    public SessionMessageSender(SessionRegistry sessionRegistry, MeterRegistry meterRegistry) {
+        this.sessionRegistry = sessionRegistry;
+        this.droppedCounter = meterRegistry.counter("chat.outbound.dropped");
+        this.terminatedCounter = meterRegistry.counter("chat.outbound.terminated");
+    }
+
+    public void sendToMember(Long memberId, OutboundFrame frame) {
+        sendToMember(memberId, frame, false);
+    }
+
+    public void sendToMember(Long memberId, OutboundFrame frame, boolean droppable) {
+        for (WebSocketSession session : sessionRegistry.getSessions(memberId)) {
+            send(session, frame, droppable);
+        }
+    }
+
+    public void send(WebSocketSession session, OutboundFrame frame) {
+        send(session, frame, false);
+    }
+
+    public void send(WebSocketSession session, OutboundFrame frame, boolean droppable) {
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            WebSocketMessage<?> message = frame.toMessage(session);
+            if (droppable && session instanceof ChatSessionDecorator decorator) {
+                if (!decorator.sendDroppableMessage(message)) {
+                    droppedCounter.increment();
+                }
+                return;
+            }
+            session.sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            terminatedCounter.increment();
+            log.warn("전송 대기열 한도를 넘어 연결을 종료합니다. sessionId : {}, reason : {}", session.getId(), e.getMessage());
+            close(session, e.getStatus());
+        } catch (IOException | IllegalStateException e) {
+            log.warn("메시지 전송에 실패했습니다. sessionId : {}", session.getId(), e);
+        }
+    }
+
+    private void close(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.warn("세션 종료에 실패했습니다. sessionId : {}", session.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.dpm.winwin.chatting.chat.session;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 회원 id 별로 현재 노드에 연결된 WebSocketSession 을 관리한다. (여러 기기 동시 접속 지원)
+ * 세션 목록은 변경될 때마다 새 배열로 교체하는 copy-on-write 방식이라
+ * 메시지 전송 시에는 락이나 복사 없이 배열을 그대로 순회할 수 있다.
+ */
+@Component
+public class SessionRegistry {
+
+    private static final WebSocketSession[] EMPTY_SESSIONS = new WebSocketSession[0];
+    private static final int INITIAL_CAPACITY = 1 << 15;
+
+    private final ConcurrentHashMap<Long, WebSocketSession[]> sessions = new ConcurrentHashMap<>(INITIAL_CAPACITY);
+    private final AtomicInteger sessionCount = new AtomicInteger();
+
+    /**
+     * @return 회원의 첫 번째 세션이 등록되었다면 true
+     */
+    public boolean register(Long memberId, WebSocketSession session) {
+        WebSocketSession[] registered = sessions.compute(memberId, (id, current) -> {
+            if (current == null) {
+                return new WebSocketSession[]{session};
+            }
+            WebSocketSession[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = session;
+            return next;
+        });
+        sessionCount.incrementAndGet();
+        return registered.length == 1;
+    }
+
+    /**
+     * @return 회원의 마지막 세션이 해제되었다면 true
+     */
+    public boolean unregister(Long memberId, WebSocketSession session) {
+        WebSocketSession[] remaining = sessions.computeIfPresent(memberId, (id, current) -> {
+            int index = indexOf(current, session);
+            if (index < 0) {
+                return current;
+            }
+            sessionCount.decrementAndGet();
+            if (current.length == 1) {
+                return null;
+            }
+            WebSocketSession[] next = new WebSocketSession[current.length - 1];
+            System.arraycopy(current, 0, next, 0, index);
+            System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+            return next;
+        });
+        return remaining == null;
+    }
+
+    // 반환된 배열은 공유되므로 호출하는 쪽에서 수정하면 안 된다
+    public WebSocketSession[] getSessions(Long memberId) {
+        WebSocketSession[] current = sessions.get(memberId);
+        return current == null ? EMPTY_SESSIONS : current;
+    }
+
+    public void forEach(BiConsumer<Long, WebSocketSession> action) {
+        sessions.forEach((memberId, current) -> {
+            for (WebSocketSession session : current) {
+                action.accept(memberId, session);
+            }
+        });
+    }
+
+    public boolean isConnected(Long memberId) {
+        return sessions.containsKey(memberId);
+    }
+
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    public int getMemberCount() {
+        return sessions.size();
+    }
+
+    private int indexOf(WebSocketSession[] current, WebSocketSession session) {
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == session) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
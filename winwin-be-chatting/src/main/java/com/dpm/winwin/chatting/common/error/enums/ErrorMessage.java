@@ -1,6 +1,10 @@
 package com.dpm.winwin.chatting.common.error.enums;
 
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -8,7 +12,12 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum ErrorMessage {
-  INTERVAL_SERVER_ERROR(INTERNAL_SERVER_ERROR.value(), "요청을 처리하는 과정에서 서버가 예상하지 못한 오류가 발생하였습니다.");
+  INTERVAL_SERVER_ERROR(INTERNAL_SERVER_ERROR.value(), "요청을 처리하는 과정에서 서버가 예상하지 못한 오류가 발생하였습니다."),
+  INVALID_CHAT_MESSAGE(BAD_REQUEST.value(), "채팅 메시지 형식이 올바르지 않습니다."),
+  CHAT_ROOM_NOT_FOUND(NOT_FOUND.value(), "해당 채팅방을 찾을 수 없습니다."),
+  NOT_CHAT_ROOM_PARTICIPANT(FORBIDDEN.value(), "채팅방 참여자가 아닙니다."),
+  CHAT_MESSAGE_SAVE_FAIL(INTERNAL_SERVER_ERROR.value(), "채팅 메시지 저장에 실패하였습니다."),
+  CHAT_SERVER_BUSY(SERVICE_UNAVAILABLE.value(), "채팅 서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
 
   private final int code;
   private final String phrase;
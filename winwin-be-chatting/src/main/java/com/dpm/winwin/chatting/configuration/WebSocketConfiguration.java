@@ -1,21 +1,35 @@
 package com.dpm.winwin.chatting.configuration;
 
-import lombok.RequiredArgsConstructor;
+import com.dpm.winwin.chatting.auth.JwtHandshakeInterceptor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
 
-@RequiredArgsConstructor
 @Configuration
 @EnableWebSocket
 public class WebSocketConfiguration implements WebSocketConfigurer {
 
     private final WebSocketHandler webSocketHandler;
+    private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
+    private final String[] allowedOriginPatterns;
 
+    // 쿠키로도 인증하므로 다른 사이트에서 연결을 맺지 못하도록 허용할 origin 을 설정으로 제한한다
+    public WebSocketConfiguration(WebSocketHandler webSocketHandler,
+                                  JwtHandshakeInterceptor jwtHandshakeInterceptor,
+                                  @Value("${chat.allowed-origin-patterns}") String[] allowedOriginPatterns) {
+        this.webSocketHandler = webSocketHandler;
+        this.jwtHandshakeInterceptor = jwtHandshakeInterceptor;
+        this.allowedOriginPatterns = allowedOriginPatterns;
+    }
+
+    // permessage-deflate 는 Tomcat 의 기본 extension 이므로 클라이언트가 요청하면 handshake 에서 협상된다 (WebSocketConfigurationTest)
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(webSocketHandler, "/api/v1/chat").setAllowedOrigins("*");
+        registry.addHandler(webSocketHandler, "/api/v1/chat")
+            .addInterceptors(jwtHandshakeInterceptor)
+            .setAllowedOriginPatterns(allowedOriginPatterns);
     }
 }
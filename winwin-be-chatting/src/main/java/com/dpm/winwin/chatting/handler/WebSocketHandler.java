@@ -1,24 +1,172 @@
 package com.dpm.winwin.chatting.handler;
 
+import com.dpm.winwin.chatting.chat.cluster.ClusterBus;
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.dto.request.ChatMessageRequest;
+import com.dpm.winwin.chatting.chat.dto.response.ChatAckResponse;
+import com.dpm.winwin.chatting.chat.ephemeral.EphemeralEventLane;
+import com.dpm.winwin.chatting.chat.presence.HashedTimingWheel.Timeout;
+import com.dpm.winwin.chatting.chat.presence.PresenceTracker;
+import com.dpm.winwin.chatting.chat.room.RoomIndex;
+import com.dpm.winwin.chatting.chat.service.MessageRouter;
+import com.dpm.winwin.chatting.chat.session.ChatSessionDecorator;
+import com.dpm.winwin.chatting.chat.session.ChatSessionDecoratorFactory;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.dpm.winwin.chatting.chat.session.SessionRegistry;
+import com.dpm.winwin.chatting.common.error.dto.ErrorResponseDto;
+import com.dpm.winwin.chatting.common.error.enums.ErrorMessage;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
-import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 @Slf4j
 @RequiredArgsConstructor
 @Component
-public class WebSocketHandler extends TextWebSocketHandler {
+public class WebSocketHandler extends AbstractWebSocketHandler implements SubProtocolCapable {
+
+    public static final String MEMBER_ID = "memberId";
+    public static final String OUTBOUND_SESSION = "outboundSession";
+    public static final String IDLE_TIMEOUT = "idleTimeout";
+
+    private final SessionRegistry sessionRegistry;
+    private final RoomIndex roomIndex;
+    private final MessageRouter messageRouter;
+    private final SessionMessageSender sessionMessageSender;
+    private final ChatSessionDecoratorFactory chatSessionDecoratorFactory;
+    private final ClusterBus clusterBus;
+    private final PresenceTracker presenceTracker;
+    private final EphemeralEventLane ephemeralEventLane;
+    private final ChatFrameCodec chatFrameCodec;
+
+    // 클라이언트가 sub-protocol 을 요청하지 않으면 JSON text 를 사용한다
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(ChatFrameCodec.BINARY_PROTOCOL, ChatFrameCodec.JSON_PROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        // 회원 id 는 JwtHandshakeInterceptor 가 handshake 시점에 저장한다
+        Long memberId = (Long) session.getAttributes().get(MEMBER_ID);
+        if (memberId == null) {
+            session.close(CloseStatus.POLICY_VIOLATION);
+            return;
+        }
+        // 모든 전송은 세션별 대기열을 거치도록 감싼 세션으로만 한다
+        ChatSessionDecorator outbound = chatSessionDecoratorFactory.decorate(session);
+        session.getAttributes().put(OUTBOUND_SESSION, outbound);
+        session.getAttributes().put(IDLE_TIMEOUT, presenceTracker.track(outbound));
+        boolean firstSession = sessionRegistry.register(memberId, outbound);
+        if (firstSession) {
+            clusterBus.updateSubscription(memberId);
+            presenceTracker.online(memberId);
+        }
+        roomIndex.loadRooms(memberId);
+        if (firstSession) {
+            ephemeralEventLane.presence(memberId, true);
+        }
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        touch(session);
+        try {
+            handle(session, chatFrameCodec.decode(message.getPayload()));
+        } catch (JsonProcessingException e) {
+            sendError(getOutboundSession(session), new BusinessException(ErrorMessage.INVALID_CHAT_MESSAGE));
+        } catch (BusinessException e) {
+            sendError(getOutboundSession(session), e);
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        touch(session);
+        try {
+            handle(session, chatFrameCodec.decode(message.getPayload()));
+        } catch (JsonProcessingException e) {
+            log.error("응답 직렬화에 실패했습니다.", e);
+        } catch (BusinessException e) {
+            sendError(getOutboundSession(session), e);
+        }
+    }
+
+    private void handle(WebSocketSession session, ChatMessageRequest request) throws JsonProcessingException {
+        Long memberId = (Long) session.getAttributes().get(MEMBER_ID);
+        WebSocketSession outbound = getOutboundSession(session);
+        if (request.isHeartbeat()) {
+            sessionMessageSender.send(outbound, chatFrameCodec.heartbeat());
+            return;
+        }
+        if (request.isTyping()) {
+            messageRouter.routeTyping(memberId, request);
+            return;
+        }
+        messageRouter.route(memberId, request).whenComplete((result, e) -> {
+            if (e != null) {
+                sendError(outbound, new BusinessException(ErrorMessage.CHAT_MESSAGE_SAVE_FAIL));
+                return;
+            }
+            sendAck(outbound, request.clientMessageId());
+        });
+    }
 
     @Override
-    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
-        String payload = message.getPayload();
-        log.info("payload : {}", payload);
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        touch(session);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        Long memberId = (Long) session.getAttributes().get(MEMBER_ID);
+        Object idleTimeout = session.getAttributes().get(IDLE_TIMEOUT);
+        if (idleTimeout != null) {
+            ((Timeout<?>) idleTimeout).cancel();
+        }
+        if (memberId != null && sessionRegistry.unregister(memberId, getOutboundSession(session))) {
+            clusterBus.updateSubscription(memberId);
+            ephemeralEventLane.presence(memberId, false);
+            roomIndex.evictRooms(memberId);
+            presenceTracker.offline(memberId);
+        }
+    }
+
+    private void touch(WebSocketSession session) {
+        Object idleTimeout = session.getAttributes().get(IDLE_TIMEOUT);
+        if (idleTimeout != null) {
+            ((Timeout<?>) idleTimeout).touch();
+        }
+    }
+
+    private WebSocketSession getOutboundSession(WebSocketSession session) {
+        Object outbound = session.getAttributes().get(OUTBOUND_SESSION);
+        return outbound == null ? session : (WebSocketSession) outbound;
+    }
+
+    private void sendAck(WebSocketSession session, String clientMessageId) {
+        send(session, ChatAckResponse.of(clientMessageId));
+    }
+
+    private void sendError(WebSocketSession session, BusinessException e) {
+        log.warn("businessException : {}", e.getMessage());
+        send(session, ErrorResponseDto.of(e.getCode(), e.getMessage()));
+    }
 
-        /**
-         * 이 부분에 chatService 구현되면 메시지를 알맞은 채팅방에 보내주는 작업 추가
-         */
+    private void send(WebSocketSession session, Object response) {
+        try {
+            sessionMessageSender.send(session, chatFrameCodec.encode(response));
+        } catch (JsonProcessingException e) {
+            log.error("응답 직렬화에 실패했습니다.", e);
+        }
     }
 }
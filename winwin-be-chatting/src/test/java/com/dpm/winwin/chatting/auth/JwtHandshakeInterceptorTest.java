@@ -0,0 +1,107 @@
+package com.dpm.winwin.chatting.auth;
+
+import static com.dpm.winwin.chatting.auth.JwtHandshakeInterceptor.ACCESS_TOKEN;
+import static com.dpm.winwin.chatting.handler.WebSocketHandler.MEMBER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.dpm.winwin.domain.repository.token.ExpiredTokenRepository;
+import com.dpm.winwin.domain.repository.token.TokenDigest;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import javax.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.socket.WebSocketHandler;
+
+class JwtHandshakeInterceptorTest {
+
+    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    private final ExpiredTokenRepository expiredTokenRepository = mock(ExpiredTokenRepository.class);
+    private final JwtHandshakeInterceptor interceptor = new JwtHandshakeInterceptor(
+        new TokenVerifier(Encoders.BASE64.encode(key.getEncoded())), expiredTokenRepository);
+
+    @Test
+    void 유효한_access_token_쿠키가_있으면_회원_id_를_세션_attribute_에_저장한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ACCESS_TOKEN, createToken(key, 1L, 60_000)));
+        Map<String, Object> attributes = new HashMap<>();
+
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+            new ServletServerHttpResponse(new MockHttpServletResponse()), mock(WebSocketHandler.class), attributes);
+
+        assertThat(result).isTrue();
+        assertThat(attributes).containsEntry(MEMBER_ID, 1L);
+    }
+
+    @Test
+    void 다른_key_로_서명된_토큰은_거부한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        Key otherKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        request.setCookies(new Cookie(ACCESS_TOKEN, createToken(otherKey, 1L, 60_000)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+            new ServletServerHttpResponse(response), mock(WebSocketHandler.class), new HashMap<>());
+
+        assertThat(result).isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void 만료된_토큰은_거부한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ACCESS_TOKEN, createToken(key, 1L, -60_000)));
+
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+            new ServletServerHttpResponse(new MockHttpServletResponse()), mock(WebSocketHandler.class), new HashMap<>());
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void 로그아웃한_토큰은_거부한다() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        String token = createToken(key, 1L, 60_000);
+        request.setCookies(new Cookie(ACCESS_TOKEN, token));
+        given(expiredTokenRepository.existsByDigest(TokenDigest.encode(TokenDigest.digest(token)))).willReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Map<String, Object> attributes = new HashMap<>();
+
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(request),
+            new ServletServerHttpResponse(response), mock(WebSocketHandler.class), attributes);
+
+        assertThat(result).isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.UNAUTHORIZED.value());
+        assertThat(attributes).doesNotContainKey(MEMBER_ID);
+    }
+
+    @Test
+    void 쿠키가_없으면_거부한다() {
+        boolean result = interceptor.beforeHandshake(new ServletServerHttpRequest(new MockHttpServletRequest()),
+            new ServletServerHttpResponse(new MockHttpServletResponse()), mock(WebSocketHandler.class), new HashMap<>());
+
+        assertThat(result).isFalse();
+    }
+
+    private String createToken(Key signingKey, Long memberId, long validity) {
+        return Jwts.builder()
+            .setIssuedAt(new Date())
+            .setSubject("member")
+            .claim("memberId", memberId)
+            .signWith(signingKey, SignatureAlgorithm.HS512)
+            .setExpiration(new Date(System.currentTimeMillis() + validity))
+            .compact();
+    }
+}
@@ -0,0 +1,238 @@
+package com.dpm.winwin.chatting.chat.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.dpm.winwin.chatting.chat.session.SessionRegistry;
+import com.dpm.winwin.chatting.common.error.enums.ErrorMessage;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import redis.embedded.RedisServer;
+
+class ClusterBusTest {
+
+    private static final int REDIS_PORT = 16379;
+    private static RedisServer redisServer;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate stringRedisTemplate;
+    private final List<Node> nodes = new ArrayList<>();
+
+    @BeforeAll
+    static void startRedis() {
+        redisServer = new RedisServer(REDIS_PORT);
+        redisServer.start();
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", REDIS_PORT));
+        connectionFactory.afterPropertiesSet();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (Node node : nodes) {
+            node.clusterBus().destroy();
+            node.listenerContainer().destroy();
+        }
+        connectionFactory.destroy();
+    }
+
+    @Test
+    void 다른_노드에_접속한_수신자에게_메시지를_전달한다() throws Exception {
+        // given
+        Node sender = createNode();
+        Node receiver = createNode();
+        WebSocketSession session = openSession();
+        connect(receiver, 2L, session);
+
+        // when
+        sender.clusterBus().reserve(1);
+        sender.clusterBus().publish(2L, "{\"content\":\"안녕하세요\"}");
+
+        // then
+        assertThat(sender.clusterBus().requiresPublish(2L)).isTrue();
+        verify(session, timeout(3000)).sendMessage(new TextMessage("{\"content\":\"안녕하세요\"}"));
+    }
+
+    @Test
+    void 수신자가_현재_노드에만_있으면_버스를_거치지_않는다() throws Exception {
+        // given
+        Node node = createNode();
+
+        // when
+        connect(node, 3L, openSession());
+
+        // then
+        assertThat(node.clusterBus().requiresPublish(3L)).isFalse();
+    }
+
+    @Test
+    void 같은_회원이_다른_노드에_접속하면_버스로_전달한다() throws Exception {
+        // given
+        Node first = createNode();
+        Node second = createNode();
+        connect(first, 4L, openSession());
+
+        // when
+        connect(second, 4L, openSession());
+
+        // then
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!first.clusterBus().requiresPublish(4L) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(first.clusterBus().requiresPublish(4L)).isTrue();
+    }
+
+    @Test
+    void 대기열에_자리가_없으면_메시지를_거절하고_횟수를_센다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Node node = createNode(meterRegistry, 2);
+        node.clusterBus().reserve(2);
+
+        // when, then
+        assertThatThrownBy(() -> node.clusterBus().reserve(1))
+            .isInstanceOf(BusinessException.class)
+            .hasMessage(ErrorMessage.CHAT_SERVER_BUSY.getPhrase());
+        assertThat(meterRegistry.counter("chat.cluster.message.rejected").count()).isEqualTo(1);
+
+        node.clusterBus().cancel(2);
+        node.clusterBus().reserve(1);
+    }
+
+    @Test
+    void publish_에_실패한_JOIN_은_다시_보낸다() throws Exception {
+        // given
+        Node first = createNode();
+        connect(first, 5L, openSession());
+        StringRedisTemplate failingOnce = spy(stringRedisTemplate);
+        doThrow(new RedisConnectionFailureException("연결 실패")).doCallRealMethod()
+            .when(failingOnce).executePipelined(any(RedisCallback.class));
+        Node second = createNode(new SimpleMeterRegistry(), 1000, failingOnce);
+
+        // when
+        connect(second, 5L, openSession());
+
+        // then
+        long deadline = System.currentTimeMillis() + 3000;
+        while (!first.clusterBus().requiresPublish(5L) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(first.clusterBus().requiresPublish(5L)).isTrue();
+    }
+
+    @Test
+    void publish_에_계속_실패한_메시지는_횟수를_센다() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StringRedisTemplate failing = spy(stringRedisTemplate);
+        doThrow(new RedisConnectionFailureException("연결 실패"))
+            .when(failing).executePipelined(any(RedisCallback.class));
+        Node node = createNode(meterRegistry, 1000, failing);
+
+        // when
+        node.clusterBus().reserve(1);
+        node.clusterBus().publish(6L, "{\"content\":\"안녕하세요\"}");
+
+        // then
+        long deadline = System.currentTimeMillis() + 3000;
+        while (meterRegistry.counter("chat.cluster.message.failed").count() < 1
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.counter("chat.cluster.message.failed").count()).isEqualTo(1);
+    }
+
+    private Node createNode() throws Exception {
+        return createNode(new SimpleMeterRegistry(), 1000);
+    }
+
+    private Node createNode(SimpleMeterRegistry meterRegistry, int queueCapacity) throws Exception {
+        return createNode(meterRegistry, queueCapacity, stringRedisTemplate);
+    }
+
+    private Node createNode(SimpleMeterRegistry meterRegistry,
+                            int queueCapacity,
+                            StringRedisTemplate redisTemplate) throws Exception {
+        SessionRegistry sessionRegistry = new SessionRegistry();
+        RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+
+        ClusterBus clusterBus = new ClusterBus(listenerContainer, redisTemplate, sessionRegistry,
+            new SessionMessageSender(sessionRegistry, new SimpleMeterRegistry()),
+            new ChatFrameCodec(new ObjectMapper()), meterRegistry, queueCapacity, 64, 1000);
+        clusterBus.afterPropertiesSet();
+
+        Node node = new Node(sessionRegistry, listenerContainer, clusterBus);
+        nodes.add(node);
+        return node;
+    }
+
+    private WebSocketSession openSession() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        given(session.isOpen()).willReturn(true);
+        return session;
+    }
+
+    // 구독이 Redis 에 반영될 때까지 기다린다
+    private void connect(Node node, Long memberId, WebSocketSession session) throws InterruptedException {
+        long subscribers = countSubscribers(memberId);
+        node.sessionRegistry().register(memberId, session);
+        node.clusterBus().updateSubscription(memberId);
+
+        long deadline = System.currentTimeMillis() + 3000;
+        while (countSubscribers(memberId) <= subscribers && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private long countSubscribers(Long memberId) {
+        byte[] channel = ("chat:member:" + memberId).getBytes(StandardCharsets.UTF_8);
+        List<?> result = stringRedisTemplate.execute((RedisCallback<List<?>>) connection ->
+            (List<?>) connection.execute("PUBSUB", "NUMSUB".getBytes(StandardCharsets.UTF_8), channel));
+        return (Long) result.get(1);
+    }
+
+    private record Node(SessionRegistry sessionRegistry,
+                        RedisMessageListenerContainer listenerContainer,
+                        ClusterBus clusterBus) {
+
+    }
+}
@@ -0,0 +1,103 @@
+package com.dpm.winwin.chatting.chat.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.dpm.winwin.chatting.chat.dto.request.ChatMessageRequest;
+import com.dpm.winwin.chatting.chat.dto.response.ChatAckResponse;
+import com.dpm.winwin.chatting.chat.dto.response.ChatMessageResponse;
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+import com.dpm.winwin.chatting.common.error.exception.custom.BusinessException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+class ChatFrameCodecTest {
+
+    private static final String CONTENT = "안녕하세요! 내일 오후 2시에 강남역에서 만나서 기타 레슨 진행할까요?";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ChatFrameCodec chatFrameCodec = new ChatFrameCodec(objectMapper);
+
+    @Test
+    void binary_메시지_frame_을_읽는다() {
+        ChatMessageRequest request = chatFrameCodec.decode(messageFrame(3L, 42L, CONTENT));
+
+        assertThat(request.type()).isEqualTo(ChatFrameType.MESSAGE);
+        assertThat(request.roomId()).isEqualTo(3L);
+        assertThat(request.clientMessageId()).isEqualTo("42");
+        assertThat(request.content()).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void 길이가_잘못된_binary_frame_은_거부한다() {
+        ByteBuffer frame = ByteBuffer.allocate(1 + 8 + 8 + 4)
+            .put(ChatFrameType.MESSAGE.getCode())
+            .putLong(3L)
+            .putLong(42L)
+            .putInt(100)
+            .flip();
+
+        assertThatThrownBy(() -> chatFrameCodec.decode(frame)).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void 세션이_협상한_프로토콜에_맞는_message_를_만든다() throws Exception {
+        OutboundFrame frame = chatFrameCodec.encode(
+            ChatMessageResponse.of(3L, 1L, CONTENT, LocalDateTime.of(2022, 11, 1, 12, 3)));
+        WebSocketSession jsonSession = mock(WebSocketSession.class);
+        WebSocketSession binarySession = mock(WebSocketSession.class);
+        given(binarySession.getAcceptedProtocol()).willReturn(ChatFrameCodec.BINARY_PROTOCOL);
+
+        assertThat(frame.toMessage(jsonSession)).isInstanceOf(TextMessage.class);
+        ByteBuffer payload = ((BinaryMessage) frame.toMessage(binarySession)).getPayload();
+        assertThat(payload.get()).isEqualTo(ChatFrameType.MESSAGE.getCode());
+        assertThat(payload.getLong()).isEqualTo(3L);
+        assertThat(payload.getLong()).isEqualTo(1L);
+    }
+
+    @Test
+    void 숫자가_아닌_clientMessageId_도_binary_ACK_으로_돌려준다() throws Exception {
+        String clientMessageId = "6f1c2a7e-3b4d-4e5f-8a9b-0c1d2e3f4a5b";
+        OutboundFrame frame = chatFrameCodec.encode(ChatAckResponse.of(clientMessageId));
+        WebSocketSession binarySession = mock(WebSocketSession.class);
+        given(binarySession.getAcceptedProtocol()).willReturn(ChatFrameCodec.BINARY_PROTOCOL);
+
+        ByteBuffer payload = ((BinaryMessage) frame.toMessage(binarySession)).getPayload();
+
+        assertThat(payload.get()).isEqualTo(ChatFrameType.ACK.getCode());
+        byte[] body = new byte[payload.getInt()];
+        payload.get(body);
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo(clientMessageId);
+    }
+
+    @Test
+    void 같은_요청을_JSON_보다_작은_binary_frame_으로_읽는다() throws Exception {
+        String json = objectMapper.writeValueAsString(
+            new ChatMessageRequest(ChatFrameType.MESSAGE, "42", 3L, CONTENT));
+        ByteBuffer binary = messageFrame(3L, 42L, CONTENT);
+        int binaryLength = binary.remaining();
+
+        assertThat(chatFrameCodec.decode(binary)).isEqualTo(chatFrameCodec.decode(json));
+        assertThat(binaryLength).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private ByteBuffer messageFrame(Long roomId, long sequence, String content) {
+        byte[] body = content.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + 8 + 8 + 4 + body.length)
+            .put(ChatFrameType.MESSAGE.getCode())
+            .putLong(roomId)
+            .putLong(sequence)
+            .putInt(body.length)
+            .put(body)
+            .flip();
+    }
+}
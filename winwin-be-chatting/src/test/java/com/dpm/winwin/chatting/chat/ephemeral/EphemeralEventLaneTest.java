@@ -0,0 +1,62 @@
+package com.dpm.winwin.chatting.chat.ephemeral;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import com.dpm.winwin.chatting.chat.cluster.ClusterBus;
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.codec.OutboundFrame;
+import com.dpm.winwin.chatting.chat.room.RoomIndex;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EphemeralEventLaneTest {
+
+    private static final Long[] PARTICIPANTS = {1L, 2L};
+
+    private final SessionMessageSender sessionMessageSender = mock(SessionMessageSender.class);
+    private EphemeralEventLane ephemeralEventLane;
+
+    @BeforeEach
+    void setUp() {
+        ephemeralEventLane = new EphemeralEventLane(mock(RoomIndex.class), sessionMessageSender,
+            mock(ClusterBus.class), new ChatFrameCodec(new ObjectMapper()), new SimpleMeterRegistry(), 50, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        ephemeralEventLane.destroy();
+    }
+
+    @Test
+    void window_안의_같은_입력_중_이벤트는_한_번만_전송한다() {
+        for (int i = 0; i < 10; i++) {
+            ephemeralEventLane.typing(3L, 1L, PARTICIPANTS);
+        }
+
+        ephemeralEventLane.afterPropertiesSet();
+
+        verify(sessionMessageSender, after(300).times(1)).sendToMember(eq(2L), any(OutboundFrame.class), eq(true));
+        verify(sessionMessageSender, never()).sendToMember(eq(1L), any(OutboundFrame.class), anyBoolean());
+    }
+
+    @Test
+    void 다른_채팅방의_이벤트는_합치지_않는다() {
+        ephemeralEventLane.typing(3L, 1L, PARTICIPANTS);
+        ephemeralEventLane.typing(4L, 1L, PARTICIPANTS);
+
+        ephemeralEventLane.afterPropertiesSet();
+
+        verify(sessionMessageSender, timeout(300).times(2)).sendToMember(eq(2L), any(OutboundFrame.class), eq(true));
+    }
+}
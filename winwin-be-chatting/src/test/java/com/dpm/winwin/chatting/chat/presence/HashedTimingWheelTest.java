@@ -0,0 +1,62 @@
+package com.dpm.winwin.chatting.chat.presence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.chatting.chat.presence.HashedTimingWheel.Timeout;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = 100;
+    private static final long TIMEOUT = 1000;
+
+    private final List<String> expired = new ArrayList<>();
+    private final HashedTimingWheel<String> timingWheel = new HashedTimingWheel<>(TICK, TIMEOUT, expired::add);
+
+    @Test
+    void 활동이_없으면_timeout_이후_만료된다() {
+        long start = System.currentTimeMillis();
+        timingWheel.add("session");
+
+        timingWheel.tick(start + TIMEOUT - TICK * 2);
+        assertThat(expired).isEmpty();
+
+        timingWheel.tick(start + TIMEOUT + TICK * 2);
+        assertThat(expired).containsExactly("session");
+    }
+
+    @Test
+    void touch_하면_만료가_미뤄진다() throws InterruptedException {
+        long start = System.currentTimeMillis();
+        Timeout<String> timeout = timingWheel.add("session");
+
+        Thread.sleep(TICK * 3);
+        timeout.touch();
+        timingWheel.tick(start + TIMEOUT + TICK);
+        assertThat(expired).isEmpty();
+
+        timingWheel.tick(start + TIMEOUT + TICK * 6);
+        assertThat(expired).containsExactly("session");
+    }
+
+    @Test
+    void 취소된_대상은_만료되지_않는다() {
+        long start = System.currentTimeMillis();
+        timingWheel.add("session").cancel();
+
+        timingWheel.tick(start + TIMEOUT * 3);
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    void 만료된_대상은_한_번만_처리된다() {
+        long start = System.currentTimeMillis();
+        timingWheel.add("session");
+
+        timingWheel.tick(start + TIMEOUT + TICK * 2);
+        timingWheel.tick(start + TIMEOUT * 5);
+        assertThat(expired).containsExactly("session");
+    }
+}
@@ -0,0 +1,76 @@
+package com.dpm.winwin.chatting.chat.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.dpm.winwin.chatting.chat.cluster.ClusterBus;
+import com.dpm.winwin.chatting.chat.codec.ChatFrameCodec;
+import com.dpm.winwin.chatting.chat.codec.OutboundFrame;
+import com.dpm.winwin.chatting.chat.dto.request.ChatMessageRequest;
+import com.dpm.winwin.chatting.chat.enums.ChatFrameType;
+import com.dpm.winwin.chatting.chat.ephemeral.EphemeralEventLane;
+import com.dpm.winwin.chatting.chat.persistence.ChatMessageWriter;
+import com.dpm.winwin.chatting.chat.room.RoomIndex;
+import com.dpm.winwin.chatting.chat.session.SessionMessageSender;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MessageRouterTest {
+
+    private static final ChatMessageRequest REQUEST = new ChatMessageRequest(ChatFrameType.MESSAGE, "1", 3L, "안녕하세요");
+
+    private final RoomIndex roomIndex = mock(RoomIndex.class);
+    private final SessionMessageSender sessionMessageSender = mock(SessionMessageSender.class);
+    private final ClusterBus clusterBus = mock(ClusterBus.class);
+    private final ChatMessageWriter chatMessageWriter = mock(ChatMessageWriter.class);
+    private final CompletableFuture<Void> saved = new CompletableFuture<>();
+    private MessageRouter messageRouter;
+
+    @BeforeEach
+    void setUp() {
+        ChatFrameCodec chatFrameCodec = new ChatFrameCodec(new ObjectMapper().registerModule(new JavaTimeModule()));
+        messageRouter = new MessageRouter(roomIndex, sessionMessageSender, clusterBus, chatMessageWriter,
+            mock(EphemeralEventLane.class), chatFrameCodec);
+        given(roomIndex.getParticipants(3L)).willReturn(new Long[]{1L, 2L});
+        given(clusterBus.requiresPublish(2L)).willReturn(true);
+        given(chatMessageWriter.write(any(ChatMessageSaveRequest.class))).willReturn(saved);
+    }
+
+    @Test
+    void 메시지가_저장된_뒤에_참여자에게_전달한다() throws Exception {
+        // when
+        messageRouter.route(1L, REQUEST);
+
+        // then
+        verify(sessionMessageSender, never()).sendToMember(anyLong(), any(OutboundFrame.class));
+        verify(clusterBus, never()).publish(anyLong(), anyString());
+
+        saved.complete(null);
+        verify(sessionMessageSender).sendToMember(eq(1L), any(OutboundFrame.class));
+        verify(sessionMessageSender).sendToMember(eq(2L), any(OutboundFrame.class));
+        verify(clusterBus).publish(eq(2L), anyString());
+    }
+
+    @Test
+    void 저장에_실패하면_전달하지_않고_버스의_자리를_돌려준다() throws Exception {
+        // when
+        messageRouter.route(1L, REQUEST);
+        saved.completeExceptionally(new IllegalStateException("저장 실패"));
+
+        // then
+        verify(clusterBus).reserve(1);
+        verify(clusterBus).cancel(1);
+        verify(sessionMessageSender, never()).sendToMember(anyLong(), any(OutboundFrame.class));
+        verify(clusterBus, never()).publish(anyLong(), anyString());
+    }
+}
@@ -0,0 +1,121 @@
+package com.dpm.winwin.chatting.configuration;
+
+import static com.dpm.winwin.chatting.auth.JwtHandshakeInterceptor.ACCESS_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.dpm.winwin.chatting.auth.JwtHandshakeInterceptor;
+import com.dpm.winwin.chatting.auth.TokenVerifier;
+import com.dpm.winwin.domain.repository.token.ExpiredTokenRepository;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.util.TestPropertyValues;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.boot.web.servlet.server.ServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 내장 Tomcat 에 WebSocketConfiguration 만 올리고 직접 handshake 요청을 보내 응답 헤더를 확인한다.
+ */
+class WebSocketConfigurationTest {
+
+    private static final String ALLOWED_ORIGIN = "https://fe.ping-pong.world";
+
+    private AnnotationConfigServletWebServerApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigServletWebServerApplicationContext();
+        TestPropertyValues.of("chat.allowed-origin-patterns=" + ALLOWED_ORIGIN).applyTo(context);
+        context.register(HandshakeTestConfiguration.class, WebSocketConfiguration.class);
+        context.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+    }
+
+    @Test
+    void 클라이언트가_요청하면_permessage_deflate_를_협상한다() throws IOException {
+        String response = handshake(ALLOWED_ORIGIN, "permessage-deflate; client_max_window_bits");
+
+        assertThat(response).startsWith("HTTP/1.1 101");
+        assertThat(response.toLowerCase()).contains("sec-websocket-extensions: permessage-deflate");
+    }
+
+    @Test
+    void 허용하지_않은_origin_의_handshake_는_거부한다() throws IOException {
+        String response = handshake("https://attacker.example", "permessage-deflate");
+
+        assertThat(response).startsWith("HTTP/1.1 403");
+    }
+
+    // 응답 헤더까지만 읽는다
+    private String handshake(String origin, String extensions) throws IOException {
+        int port = context.getWebServer().getPort();
+        try (Socket socket = new Socket("localhost", port)) {
+            OutputStream outputStream = socket.getOutputStream();
+            outputStream.write(("GET /api/v1/chat HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n"
+                + "Upgrade: websocket\r\n"
+                + "Connection: Upgrade\r\n"
+                + "Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==\r\n"
+                + "Sec-WebSocket-Version: 13\r\n"
+                + "Sec-WebSocket-Extensions: " + extensions + "\r\n"
+                + "Origin: " + origin + "\r\n"
+                + "Cookie: " + ACCESS_TOKEN + "=token\r\n"
+                + "\r\n").getBytes(StandardCharsets.US_ASCII));
+            outputStream.flush();
+
+            BufferedReader reader = new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            StringBuilder response = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                response.append(line).append('\n');
+            }
+            return response.toString();
+        }
+    }
+
+    @Configuration
+    static class HandshakeTestConfiguration {
+
+        @Bean
+        ServletWebServerFactory servletWebServerFactory() {
+            return new TomcatServletWebServerFactory(0);
+        }
+
+        @Bean
+        DispatcherServlet dispatcherServlet() {
+            return new DispatcherServlet();
+        }
+
+        @Bean
+        WebSocketHandler webSocketHandler() {
+            return new TextWebSocketHandler();
+        }
+
+        @Bean
+        JwtHandshakeInterceptor jwtHandshakeInterceptor() {
+            TokenVerifier tokenVerifier = mock(TokenVerifier.class);
+            given(tokenVerifier.getMemberId("token")).willReturn(Optional.of(1L));
+            return new JwtHandshakeInterceptor(tokenVerifier, mock(ExpiredTokenRepository.class));
+        }
+    }
+}
@@ -33,6 +33,13 @@ public class SubCategory extends BaseEntity {
     @JoinColumn(name = "mid_category_id")
     private MidCategory midCategory;
 
+    // 게시물 생성, 카테고리 변경, 삭제 시 SubCategoryRepository.increasePostCount 로 함께 갱신한다
+    @Column(nullable = false)
+    private long postCount;
+
+    @Column(nullable = false)
+    private long sharePostCount;
+
     @OneToMany(mappedBy = "subCategory")
     private List<Post> posts = new ArrayList<>();
 }
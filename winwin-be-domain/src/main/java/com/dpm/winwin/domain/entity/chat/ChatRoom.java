@@ -12,9 +12,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +24,10 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_chat_room_member_id_last_message_id", columnList = "member_id, last_message_id"),
+    @Index(name = "idx_chat_room_guest_id_last_message_id", columnList = "guest_id, last_message_id")
+})
 public class ChatRoom extends BaseEntity {
 
     @Id
@@ -32,10 +38,18 @@ public class ChatRoom extends BaseEntity {
     @JoinColumn(name = "member_id")
     private Member host;
 
-    @OneToMany
-    @JoinColumn(name = "chat_message_id")
+    // 메시지 목록은 ChatMessageRepository 의 cursor 조회를 사용하고, 이 컬렉션을 초기화하지 않는다
+    @OneToMany(mappedBy = "room")
     private List<ChatMessage> chatMessages = new ArrayList<>();
 
     @Column(nullable = false)
     private Long guestId;
+
+    // 채팅방 목록을 메시지 조회 없이 보여주기 위해 마지막 메시지 정보를 함께 저장한다
+    private Long lastMessageId;
+
+    @Column(length = 100)
+    private String lastMessagePreview;
+
+    private LocalDateTime lastMessageAt;
 }
@@ -0,0 +1,37 @@
+package com.dpm.winwin.domain.entity.chat;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
+
+/**
+ * 채팅 메시지 검색용 역색인 (bigram token -> message id posting list).
+ * (room_id, token, message_id) 인덱스 하나로 채팅방 안의 token 별 posting list 를 message id 순서로 읽는다.
+ */
+@Getter
+@Entity
+@IdClass(ChatSearchTokenId.class)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_chat_search_token_room_id_token_message_id",
+    columnList = "room_id, token, message_id"))
+public class ChatSearchToken {
+
+    @Id
+    @Column(name = "room_id")
+    private Long roomId;
+
+    @Id
+    @Column(name = "token", length = 8)
+    private String token;
+
+    @Id
+    @Column(name = "message_id")
+    private Long messageId;
+}
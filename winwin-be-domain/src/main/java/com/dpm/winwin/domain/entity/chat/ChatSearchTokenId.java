@@ -0,0 +1,18 @@
+package com.dpm.winwin.domain.entity.chat;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatSearchTokenId implements Serializable {
+
+    private Long roomId;
+    private String token;
+    private Long messageId;
+}
@@ -56,6 +56,8 @@ public class Member extends BaseEntity{
 
     private String image;
 
+    private String thumbnailImage;
+
     @Column(length = 500)
     private String introduction;
 
@@ -69,6 +71,11 @@ public class Member extends BaseEntity{
     @ColumnDefault("0")
     private Integer likeCount;
 
+    // 게시물 생성, 삭제 시 MemberRepository.increasePostCount 로 함께 갱신한다
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long postCount;
+
     @OneToOne(fetch = FetchType.LAZY, mappedBy = "member", cascade = CascadeType.REMOVE)
     private OauthToken oauthToken;
 
@@ -169,5 +176,14 @@ public class Member extends BaseEntity{
 
     public void updateProfileImage(String profileImageUrl) {
         this.image = profileImageUrl;
+        this.thumbnailImage = null;
+    }
+
+    // 목록 화면용 썸네일이 아직 없으면 원본 이미지를 사용한다
+    public String getListImage() {
+        if (this.thumbnailImage == null) {
+            return this.image;
+        }
+        return this.thumbnailImage;
     }
 }
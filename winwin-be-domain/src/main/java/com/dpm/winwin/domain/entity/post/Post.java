@@ -25,9 +25,11 @@ import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -36,6 +38,17 @@ import org.springframework.util.CollectionUtils;
 @Getter
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+    @Index(name = "idx_post_created_date_id", columnList = "created_date desc, id desc"),
+    @Index(name = "idx_post_is_share_created_date_id", columnList = "is_share, created_date desc, id desc"),
+    @Index(name = "idx_post_main_category_id_created_date_id",
+        columnList = "main_category_id, created_date desc, id desc, is_share"),
+    @Index(name = "idx_post_mid_category_id_created_date_id",
+        columnList = "mid_category_id, created_date desc, id desc, is_share"),
+    @Index(name = "idx_post_sub_category_id_created_date_id",
+        columnList = "sub_category_id, created_date desc, id desc, is_share"),
+    @Index(name = "idx_post_member_id_created_date_id", columnList = "member_id, created_date desc, id desc")
+})
 public class Post extends BaseEntity {
 
     @Id
@@ -111,8 +124,12 @@ public class Post extends BaseEntity {
     }
 
     public void setAllCategoriesBySubCategory(SubCategory subCategory) {
-        this.mainCategory = subCategory.getMidCategory().getMainCategory();
-        this.midCategory = subCategory.getMidCategory();
+        setAllCategories(subCategory.getMidCategory().getMainCategory(), subCategory.getMidCategory(), subCategory);
+    }
+
+    public void setAllCategories(MainCategory mainCategory, MidCategory midCategory, SubCategory subCategory) {
+        this.mainCategory = mainCategory;
+        this.midCategory = midCategory;
         this.subCategory = subCategory;
     }
 
@@ -179,7 +196,8 @@ public class Post extends BaseEntity {
         this.likes.remove(likes);
     }
 
-    public void update(PostUpdateDto updateDto, SubCategory subCategory, List<SubCategory> savedTalents) {
+    public void update(PostUpdateDto updateDto, MainCategory mainCategory, MidCategory midCategory,
+                       SubCategory subCategory, List<SubCategory> savedTalents) {
         this.title = updateDto.title();
         this.content = updateDto.content();
         this.isShare = updateDto.isShare();
@@ -188,7 +206,7 @@ public class Post extends BaseEntity {
         this.exchangeType = updateDto.exchangeType();
         this.exchangePeriod = updateDto.exchangePeriod();
         this.exchangeTime = updateDto.exchangeTime();
-        setAllCategoriesBySubCategory(subCategory);
+        setAllCategories(mainCategory, midCategory, subCategory);
         setTakenTalents(savedTalents);
         setLinks(updateDto.links());
     }
@@ -0,0 +1,9 @@
+package com.dpm.winwin.domain.repository.category;
+
+import com.dpm.winwin.domain.repository.category.dto.response.CategoryTreeRowResponse;
+import java.util.List;
+
+public interface CustomMainCategoryRepository {
+
+    List<CategoryTreeRowResponse> getCategoryTree();
+}
@@ -2,6 +2,25 @@ package com.dpm.winwin.domain.repository.category;
 
 import com.dpm.winwin.domain.entity.category.SubCategory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SubCategoryRepository extends JpaRepository<SubCategory, Long>, CustomSubCategoryRepository {
+
+    // 중분류, 대분류의 게시물 수는 소분류 합계로 계산하므로 게시물 하나당 소분류 한 행만 갱신한다
+    @Modifying
+    @Query("update SubCategory s set s.postCount = s.postCount + :count, "
+        + "s.sharePostCount = s.sharePostCount + :shareCount where s.id = :subCategoryId")
+    int increasePostCount(@Param("subCategoryId") Long subCategoryId,
+                          @Param("count") long count,
+                          @Param("shareCount") long shareCount);
+
+    // 증감 누락(회원 탈퇴에 의한 일괄 삭제 등)을 바로잡기 위해 post 테이블 기준으로 다시 계산한다
+    @Modifying
+    @Query(value = "update sub_category s set "
+        + "post_count = (select count(*) from post p where p.sub_category_id = s.id), "
+        + "share_post_count = (select count(*) from post p where p.sub_category_id = s.id and p.is_share = true)",
+        nativeQuery = true)
+    int reconcilePostCounts();
 }
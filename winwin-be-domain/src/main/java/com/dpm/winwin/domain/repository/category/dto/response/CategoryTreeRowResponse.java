@@ -0,0 +1,15 @@
+package com.dpm.winwin.domain.repository.category.dto.response;
+
+public record CategoryTreeRowResponse(Long mainCategoryId,
+                                      String mainCategoryName,
+                                      String mainCategoryImage,
+                                      String mainCategoryBackgroundImage,
+                                      Long midCategoryId,
+                                      String midCategoryName,
+                                      Long subCategoryId,
+                                      String subCategoryName,
+                                      Long subCategoryPostCount,
+                                      Long subCategorySharePostCount
+) {
+
+}
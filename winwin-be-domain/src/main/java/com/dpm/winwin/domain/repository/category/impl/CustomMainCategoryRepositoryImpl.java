@@ -0,0 +1,47 @@
+package com.dpm.winwin.domain.repository.category.impl;
+
+import static com.dpm.winwin.domain.entity.category.QMainCategory.mainCategory;
+import static com.dpm.winwin.domain.entity.category.QMidCategory.midCategory;
+import static com.dpm.winwin.domain.entity.category.QSubCategory.subCategory;
+
+import com.dpm.winwin.domain.repository.category.CustomMainCategoryRepository;
+import com.dpm.winwin.domain.repository.category.dto.response.CategoryTreeRowResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomMainCategoryRepositoryImpl implements CustomMainCategoryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 대분류 - 중분류 - 소분류 전체를 한 번의 쿼리로 조회한다.
+     * 하위 카테고리가 없는 대분류, 중분류도 포함되도록 left join 하고, id 순서로 정렬해 트리 순서를 고정한다.
+     */
+    @Override
+    public List<CategoryTreeRowResponse> getCategoryTree() {
+        return queryFactory
+            .select(Projections.constructor(
+                CategoryTreeRowResponse.class,
+                mainCategory.id,
+                mainCategory.name,
+                mainCategory.image,
+                mainCategory.backgroundImage,
+                midCategory.id,
+                midCategory.name,
+                subCategory.id,
+                subCategory.name,
+                subCategory.postCount,
+                subCategory.sharePostCount
+            ))
+            .from(mainCategory)
+            .leftJoin(mainCategory.midCategories, midCategory)
+            .leftJoin(midCategory.subCategories, subCategory)
+            .orderBy(mainCategory.id.asc(), midCategory.id.asc(), subCategory.id.asc())
+            .fetch();
+    }
+}
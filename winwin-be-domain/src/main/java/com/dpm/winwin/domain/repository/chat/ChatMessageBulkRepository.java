@@ -0,0 +1,127 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 채팅 메시지를 JDBC batch insert 로 저장한다.
+ * IDENTITY 전략을 쓰는 JPA 는 insert 를 묶어 보낼 수 없으므로 JdbcTemplate 을 사용한다.
+ * (MySQL 에서는 rewriteBatchedStatements=true 일 때 하나의 multi-row insert 로 전송된다)
+ * 같은 트랜잭션에서 채팅방별 마지막 메시지 정보와 검색용 bigram 역색인(chat_search_token)도 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBulkRepository {
+
+    private static final String INSERT_SQL = "insert into chat_message "
+        + "(room_id, sender_id, receiver_id, content, is_read, created_date, modified_date) "
+        + "values (?, ?, ?, ?, false, ?, ?)";
+    // 여러 노드가 동시에 저장할 때 먼저 끝난 batch 가 더 최근 메시지를 덮어쓰지 않도록 id 가 커지는 경우에만 갱신한다
+    private static final String UPDATE_LAST_MESSAGE_SQL = "update chat_room "
+        + "set last_message_id = ?, last_message_preview = ?, last_message_at = ? "
+        + "where id = ? and (last_message_id is null or last_message_id <= ?)";
+    private static final String INSERT_TOKEN_SQL = "insert into chat_search_token "
+        + "(room_id, token, message_id) values (?, ?, ?)";
+    private static final int PREVIEW_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void saveAll(List<ChatMessageSaveRequest> messages) {
+        List<Long> messageIds = insertMessages(messages);
+        updateLastMessages(messages, messageIds);
+        insertSearchTokens(messages, messageIds);
+    }
+
+    // 역색인에 message id 가 필요하므로 batch insert 의 생성 키를 함께 받아온다
+    private List<Long> insertMessages(List<ChatMessageSaveRequest> messages) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (ChatMessageSaveRequest message : messages) {
+                    Timestamp createdDate = Timestamp.valueOf(message.createdDate());
+                    ps.setLong(1, message.roomId());
+                    ps.setLong(2, message.senderId());
+                    ps.setLong(3, message.receiverId());
+                    ps.setString(4, message.content());
+                    ps.setTimestamp(5, createdDate);
+                    ps.setTimestamp(6, createdDate);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                return generatedKeys(ps, messages.size());
+            }
+        });
+    }
+
+    private List<Long> generatedKeys(PreparedStatement ps, int expectedSize) throws SQLException {
+        List<Long> ids = new ArrayList<>(expectedSize);
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                ids.add(keys.getLong(1));
+            }
+        }
+        if (ids.size() != expectedSize) {
+            throw new IllegalStateException("생성된 채팅 메시지 id 수가 일치하지 않습니다. : " + ids.size());
+        }
+        return ids;
+    }
+
+    private void insertSearchTokens(List<ChatMessageSaveRequest> messages, List<Long> messageIds) {
+        List<Object[]> tokens = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            ChatMessageSaveRequest message = messages.get(i);
+            Long messageId = messageIds.get(i);
+            ChatSearchTokenizer.tokenize(message.content())
+                .forEach(token -> tokens.add(new Object[]{message.roomId(), token, messageId}));
+        }
+        if (!tokens.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, tokens);
+        }
+    }
+
+    // 채팅방별로 batch 안에서 가장 큰 생성 id 를 가진 메시지로 세 컬럼을 함께 갱신한다
+    private void updateLastMessages(List<ChatMessageSaveRequest> messages, List<Long> messageIds) {
+        Map<Long, Integer> lastIndexes = new LinkedHashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            lastIndexes.merge(messages.get(i).roomId(), i,
+                (current, candidate) -> messageIds.get(candidate) > messageIds.get(current) ? candidate : current);
+        }
+        List<Integer> rooms = new ArrayList<>(lastIndexes.values());
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ChatMessageSaveRequest message = messages.get(rooms.get(i));
+                Long messageId = messageIds.get(rooms.get(i));
+                ps.setLong(1, messageId);
+                ps.setString(2, preview(message.content()));
+                ps.setTimestamp(3, Timestamp.valueOf(message.createdDate()));
+                ps.setLong(4, message.roomId());
+                ps.setLong(5, messageId);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rooms.size();
+            }
+        });
+    }
+
+    private String preview(String content) {
+        return content.length() <= PREVIEW_LENGTH ? content : content.substring(0, PREVIEW_LENGTH);
+    }
+}
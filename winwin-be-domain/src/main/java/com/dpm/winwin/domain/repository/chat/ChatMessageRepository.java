@@ -0,0 +1,18 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.entity.chat.ChatMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>, CustomChatMessageRepository {
+
+    // (room_id, id) 인덱스 범위 안에서 한 번의 UPDATE 로 읽음 처리한다
+    @Modifying(clearAutomatically = true)
+    @Query("update ChatMessage m set m.isRead = true "
+        + "where m.room.id = :roomId and m.receiverId = :memberId and m.id <= :messageId and m.isRead = false")
+    int updateReadUpTo(@Param("roomId") Long roomId,
+                       @Param("memberId") Long memberId,
+                       @Param("messageId") Long messageId);
+}
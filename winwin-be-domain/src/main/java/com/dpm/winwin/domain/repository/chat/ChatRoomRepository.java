@@ -0,0 +1,20 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.entity.chat.ChatRoom;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomParticipantResponse;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, CustomChatRoomRepository {
+
+    @Query("select new com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomParticipantResponse(c.id, c.host.id, c.guestId) "
+        + "from ChatRoom c where c.id = :roomId")
+    Optional<ChatRoomParticipantResponse> findParticipantsById(@Param("roomId") Long roomId);
+
+    @Query("select new com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomParticipantResponse(c.id, c.host.id, c.guestId) "
+        + "from ChatRoom c where c.host.id = :memberId or c.guestId = :memberId")
+    List<ChatRoomParticipantResponse> findParticipantsByMemberId(@Param("memberId") Long memberId);
+}
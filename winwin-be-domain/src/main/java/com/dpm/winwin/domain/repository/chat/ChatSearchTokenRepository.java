@@ -0,0 +1,17 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.entity.chat.ChatSearchToken;
+import com.dpm.winwin.domain.entity.chat.ChatSearchTokenId;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ChatSearchTokenRepository extends JpaRepository<ChatSearchToken, ChatSearchTokenId> {
+
+    // 복합 PK 는 (message_id, room_id, token) 순서로 만들어지므로 message id 만으로 PK 범위 삭제가 된다
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ChatSearchToken t where t.messageId in :messageIds")
+    int deleteAllByMessageIds(@Param("messageIds") List<Long> messageIds);
+}
@@ -0,0 +1,31 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 채팅 메시지를 공백 단위 단어로 나눈 뒤 단어마다 연속된 두 글자(bigram)를 token 으로 만든다.
+ * 형태소 분석 없이도 한글 부분 일치 검색이 가능하고, 한 글자 단어는 token 을 만들지 않는다.
+ */
+public final class ChatSearchTokenizer {
+
+    private static final int GRAM_SIZE = 2;
+
+    private ChatSearchTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, GRAM_SIZE));
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,18 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageArchiveResponse;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageReadResponse;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CustomChatMessageRepository {
+
+    List<ChatMessageReadResponse> getHistory(Long roomId, Long cursorId, int size);
+
+    List<ChatMessageArchiveResponse> getArchivable(LocalDateTime before, int size);
+
+    List<Long> searchMessageIds(Long roomId, List<String> tokens, Long cursorId, int size);
+
+    List<ChatMessageReadResponse> getMessagesByIds(Collection<Long> messageIds);
+}
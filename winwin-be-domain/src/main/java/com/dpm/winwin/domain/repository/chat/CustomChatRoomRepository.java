@@ -0,0 +1,9 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomSummaryResponse;
+import java.util.List;
+
+public interface CustomChatRoomRepository {
+
+    List<ChatRoomSummaryResponse> getRoomSummaries(Long memberId, Long cursorId, int size);
+}
@@ -0,0 +1,89 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.BitOperation;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 채팅 서버에 접속 중인 회원 bitmap 저장소. (offset 은 회원 id)
+ * 각 채팅 노드는 자신의 bitmap(chat:online:node:{nodeId}) 을 TTL 과 함께 갱신하고,
+ * 살아있는 노드의 bitmap 을 BITOP OR 로 합쳐 chat:online 에 저장한다.
+ * 노드가 비정상 종료되면 TTL 이 지나 해당 노드의 회원은 다음 병합에서 빠진다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PresenceRepository {
+
+    private static final String ONLINE_KEY = "chat:online";
+    private static final String NODES_KEY = "chat:online:nodes";
+    private static final String NODE_KEY_PREFIX = "chat:online:node:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 접속은 병합을 기다리지 않고 바로 보이도록 chat:online 에도 표시한다
+    public void online(String nodeId, Long memberId) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().setBit(toBytes(NODE_KEY_PREFIX + nodeId), memberId, true);
+            connection.stringCommands().setBit(toBytes(ONLINE_KEY), memberId, true);
+            return null;
+        });
+    }
+
+    // 같은 회원이 다른 노드에 접속해 있을 수 있으므로 노드 bitmap 에서만 지우고 다음 병합에 반영한다
+    public void offline(String nodeId, Long memberId) {
+        stringRedisTemplate.opsForValue().setBit(NODE_KEY_PREFIX + nodeId, memberId, false);
+    }
+
+    public void refresh(String nodeId, Duration ttl) {
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.expire(NODE_KEY_PREFIX + nodeId, ttl);
+        stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - ttl.toMillis());
+
+        Set<String> nodeIds = stringRedisTemplate.opsForZSet().range(NODES_KEY, 0, -1);
+        if (nodeIds == null || nodeIds.isEmpty()) {
+            stringRedisTemplate.delete(ONLINE_KEY);
+            return;
+        }
+        byte[][] nodeKeys = nodeIds.stream()
+            .map(id -> toBytes(NODE_KEY_PREFIX + id))
+            .toArray(byte[][]::new);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+            connection.stringCommands().bitOp(BitOperation.OR, toBytes(ONLINE_KEY), nodeKeys));
+    }
+
+    public void removeNode(String nodeId) {
+        stringRedisTemplate.delete(NODE_KEY_PREFIX + nodeId);
+        stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+    }
+
+    public Set<Long> findOnlineMemberIds(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long memberId : memberIds) {
+                connection.stringCommands().getBit(toBytes(ONLINE_KEY), memberId);
+            }
+            return null;
+        });
+        Set<Long> onlineMemberIds = new HashSet<>();
+        for (int i = 0; i < memberIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                onlineMemberIds.add(memberIds.get(i));
+            }
+        }
+        return onlineMemberIds;
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
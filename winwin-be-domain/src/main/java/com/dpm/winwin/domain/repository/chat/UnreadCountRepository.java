@@ -0,0 +1,57 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import com.dpm.winwin.domain.repository.chat.dto.request.UnreadCountIncrementRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원별 채팅방 안 읽은 메시지 수 저장소.
+ * (HASH chat:unread:{memberId} 의 field 는 채팅방 id, value 는 안 읽은 메시지 수)
+ */
+@Repository
+@RequiredArgsConstructor
+public class UnreadCountRepository {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 수신자별 증가분을 하나의 pipeline 으로 반영한다
+    public void incrementAll(List<UnreadCountIncrementRequest> increments) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (UnreadCountIncrementRequest increment : increments) {
+                connection.hashCommands().hIncrBy(
+                    toBytes(KEY_PREFIX + increment.memberId()), toBytes(increment.roomId().toString()), 1);
+            }
+            return null;
+        });
+    }
+
+    // 읽음 처리 이후 HINCRBY 로 늘어난 수는 field 를 지운 뒤부터 다시 쌓인다
+    public void delete(Long memberId, Long roomId) {
+        stringRedisTemplate.opsForHash().delete(KEY_PREFIX + memberId, roomId.toString());
+    }
+
+    public long findByMemberIdAndRoomId(Long memberId, Long roomId) {
+        String count = stringRedisTemplate.<String, String>opsForHash()
+            .get(KEY_PREFIX + memberId, roomId.toString());
+        return count == null ? 0 : Long.parseLong(count);
+    }
+
+    public Map<Long, Long> findAllByMemberId(Long memberId) {
+        Map<Long, Long> unreadCounts = new HashMap<>();
+        stringRedisTemplate.<String, String>opsForHash().entries(KEY_PREFIX + memberId)
+            .forEach((roomId, count) -> unreadCounts.put(Long.valueOf(roomId), Long.valueOf(count)));
+        return unreadCounts;
+    }
+
+    private byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,12 @@
+package com.dpm.winwin.domain.repository.chat.dto.request;
+
+import java.time.LocalDateTime;
+
+public record ChatMessageSaveRequest(Long roomId,
+                                     Long senderId,
+                                     Long receiverId,
+                                     String content,
+                                     LocalDateTime createdDate
+) {
+
+}
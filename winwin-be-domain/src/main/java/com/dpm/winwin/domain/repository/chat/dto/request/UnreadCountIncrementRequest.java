@@ -0,0 +1,7 @@
+package com.dpm.winwin.domain.repository.chat.dto.request;
+
+public record UnreadCountIncrementRequest(Long memberId,
+                                          Long roomId
+) {
+
+}
@@ -0,0 +1,13 @@
+package com.dpm.winwin.domain.repository.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ChatMessageArchiveResponse(Long messageId,
+                                         Long roomId,
+                                         Long senderId,
+                                         String content,
+                                         boolean isRead,
+                                         LocalDateTime createdDate
+) {
+
+}
@@ -0,0 +1,12 @@
+package com.dpm.winwin.domain.repository.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ChatMessageReadResponse(Long messageId,
+                                      Long senderId,
+                                      String content,
+                                      boolean isRead,
+                                      LocalDateTime createdDate
+) {
+
+}
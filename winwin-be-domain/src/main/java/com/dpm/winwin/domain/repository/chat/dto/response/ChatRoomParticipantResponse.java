@@ -0,0 +1,8 @@
+package com.dpm.winwin.domain.repository.chat.dto.response;
+
+public record ChatRoomParticipantResponse(Long roomId,
+                                          Long hostId,
+                                          Long guestId
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.dpm.winwin.domain.repository.chat.dto.response;
+
+import java.time.LocalDateTime;
+
+public record ChatRoomSummaryResponse(Long roomId,
+                                      Long partnerId,
+                                      String partnerNickname,
+                                      String partnerImage,
+                                      Long lastMessageId,
+                                      String lastMessagePreview,
+                                      LocalDateTime lastMessageAt
+) {
+
+}
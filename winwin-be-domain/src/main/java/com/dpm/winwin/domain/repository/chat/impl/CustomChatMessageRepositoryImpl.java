@@ -0,0 +1,122 @@
+package com.dpm.winwin.domain.repository.chat.impl;
+
+import static com.dpm.winwin.domain.entity.chat.QChatMessage.chatMessage;
+
+import com.dpm.winwin.domain.entity.chat.QChatSearchToken;
+import com.dpm.winwin.domain.repository.chat.CustomChatMessageRepository;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageArchiveResponse;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatMessageReadResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomChatMessageRepositoryImpl implements CustomChatMessageRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * cursorId 보다 이전 메시지를 최신순으로 size 개 조회한다.
+     * (room_id, id) 인덱스만 타도록 room 을 join 하지 않고 offset 도 사용하지 않는다.
+     */
+    @Override
+    public List<ChatMessageReadResponse> getHistory(Long roomId, Long cursorId, int size) {
+        return jpaQueryFactory
+            .select(Projections.constructor(
+                ChatMessageReadResponse.class,
+                chatMessage.id,
+                chatMessage.senderId,
+                chatMessage.content,
+                chatMessage.isRead,
+                chatMessage.createdDate
+            ))
+            .from(chatMessage)
+            .where(chatMessage.room.id.eq(roomId), ltCursorId(cursorId))
+            .orderBy(chatMessage.id.desc())
+            .limit(size)
+            .fetch();
+    }
+
+    /**
+     * before 이전에 작성된 메시지를 오래된 순서로 size 개 조회한다.
+     * id 는 작성 순서대로 증가하므로 PK 순서로 읽다가 size 개를 채우면 바로 멈춘다.
+     */
+    @Override
+    public List<ChatMessageArchiveResponse> getArchivable(LocalDateTime before, int size) {
+        return jpaQueryFactory
+            .select(Projections.constructor(
+                ChatMessageArchiveResponse.class,
+                chatMessage.id,
+                chatMessage.room.id,
+                chatMessage.senderId,
+                chatMessage.content,
+                chatMessage.isRead,
+                chatMessage.createdDate
+            ))
+            .from(chatMessage)
+            .where(chatMessage.createdDate.lt(before))
+            .orderBy(chatMessage.id.asc())
+            .limit(size)
+            .fetch();
+    }
+
+    /**
+     * 모든 token 을 포함하는 메시지 id 를 cursorId 이전부터 최신순으로 size 개 조회한다.
+     * 첫 token 의 posting list 를 message id 역순으로 읽으면서 나머지 token 은 인덱스로 존재 여부만 확인하므로
+     * 채팅방 전체 메시지 수가 아니라 일치하는 메시지 수만큼만 읽는다.
+     */
+    @Override
+    public List<Long> searchMessageIds(Long roomId, List<String> tokens, Long cursorId, int size) {
+        QChatSearchToken first = new QChatSearchToken("first");
+        JPAQuery<Long> query = jpaQueryFactory
+            .select(first.messageId)
+            .from(first);
+
+        for (int i = 1; i < tokens.size(); i++) {
+            QChatSearchToken other = new QChatSearchToken("token" + i);
+            query.join(other).on(
+                other.roomId.eq(first.roomId),
+                other.token.eq(tokens.get(i)),
+                other.messageId.eq(first.messageId)
+            );
+        }
+
+        return query
+            .where(
+                first.roomId.eq(roomId),
+                first.token.eq(tokens.get(0)),
+                cursorId == null ? null : first.messageId.lt(cursorId)
+            )
+            .orderBy(first.messageId.desc())
+            .limit(size)
+            .fetch();
+    }
+
+    @Override
+    public List<ChatMessageReadResponse> getMessagesByIds(Collection<Long> messageIds) {
+        return jpaQueryFactory
+            .select(Projections.constructor(
+                ChatMessageReadResponse.class,
+                chatMessage.id,
+                chatMessage.senderId,
+                chatMessage.content,
+                chatMessage.isRead,
+                chatMessage.createdDate
+            ))
+            .from(chatMessage)
+            .where(chatMessage.id.in(messageIds))
+            .orderBy(chatMessage.id.desc())
+            .fetch();
+    }
+
+    private BooleanExpression ltCursorId(Long cursorId) {
+        return cursorId == null ? null : chatMessage.id.lt(cursorId);
+    }
+}
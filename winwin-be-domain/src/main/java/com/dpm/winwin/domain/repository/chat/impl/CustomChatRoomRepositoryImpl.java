@@ -0,0 +1,72 @@
+package com.dpm.winwin.domain.repository.chat.impl;
+
+import com.dpm.winwin.domain.repository.chat.CustomChatRoomRepository;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomSummaryResponse;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CustomChatRoomRepositoryImpl implements CustomChatRoomRepository {
+
+    /**
+     * host 인 채팅방과 guest 인 채팅방을 각각 (member_id|guest_id, last_message_id) 인덱스 순서대로 읽어 합친다.
+     * OR 조건으로는 인덱스 순서를 쓸 수 없어 UNION ALL 을 사용하며, JPQL 은 UNION 을 지원하지 않으므로 native query 로 작성한다.
+     * 마지막 메시지 id 는 시간 순서와 같으므로 last_message_at 대신 last_message_id 를 정렬 및 cursor 로 사용한다.
+     * 아직 메시지가 없는 채팅방은 메시지가 있는 채팅방 뒤에 최근에 만든 순서로 이어서 조회하며,
+     * 이때는 음수로 바꾼 채팅방 id 를 cursor 로 사용한다.
+     */
+    private static final String ROOM_SUMMARY_SQL = ""
+        + "select * from ("
+        + roomQuery("member_id", "guest_id", "r.last_message_id < ?", "r.last_message_id desc")
+        + " union all"
+        + roomQuery("guest_id", "member_id", "r.last_message_id < ?", "r.last_message_id desc")
+        + " union all"
+        + roomQuery("member_id", "guest_id", "r.last_message_id is null and r.id < ?", "r.id desc")
+        + " union all"
+        + roomQuery("guest_id", "member_id", "r.last_message_id is null and r.id < ?", "r.id desc")
+        + ") rooms order by case when last_message_id is null then 1 else 0 end, last_message_id desc, room_id desc"
+        + " limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<ChatRoomSummaryResponse> getRoomSummaries(Long memberId, Long cursorId, int size) {
+        long messageCursor = cursorId == null ? Long.MAX_VALUE : Math.max(cursorId, 0);
+        long roomCursor = cursorId == null || cursorId > 0 ? Long.MAX_VALUE : -cursorId;
+        return jdbcTemplate.query(ROOM_SUMMARY_SQL, this::mapRow,
+            memberId, messageCursor, size, memberId, messageCursor, size,
+            memberId, roomCursor, size, memberId, roomCursor, size, size);
+    }
+
+    private static String roomQuery(String memberColumn, String partnerColumn, String condition, String order) {
+        return " (select r.id as room_id, p.id as partner_id, p.nickname,"
+            + " coalesce(p.thumbnail_image, p.image) as image,"
+            + " r.last_message_id, r.last_message_preview, r.last_message_at"
+            + " from chat_room r join member p on p.id = r." + partnerColumn
+            + " where r." + memberColumn + " = ? and " + condition
+            + " order by " + order + " limit ?)";
+    }
+
+    private ChatRoomSummaryResponse mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new ChatRoomSummaryResponse(
+            rs.getLong("room_id"),
+            rs.getLong("partner_id"),
+            rs.getString("nickname"),
+            rs.getString("image"),
+            rs.getObject("last_message_id", Long.class),
+            rs.getString("last_message_preview"),
+            toLocalDateTime(rs.getTimestamp("last_message_at"))
+        );
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -2,7 +2,28 @@ package com.dpm.winwin.domain.repository.member;
 
 import com.dpm.winwin.domain.entity.member.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface MemberRepository extends JpaRepository<Member, Long>, CustomMemberRepository {
 
+    // 썸네일 생성 중에 프로필 이미지가 다시 바뀐 경우에는 반영하지 않는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.thumbnailImage = :thumbnailImage where m.id = :memberId and m.image = :image")
+    int updateThumbnailImage(@Param("memberId") Long memberId,
+                             @Param("image") String image,
+                             @Param("thumbnailImage") String thumbnailImage);
+
+    @Modifying
+    @Query("update Member m set m.postCount = m.postCount + :count where m.id = :memberId")
+    int increasePostCount(@Param("memberId") Long memberId, @Param("count") long count);
+
+    // 증감 누락을 바로잡기 위해 post 테이블 기준으로 다시 계산한다
+    @Modifying
+    @Query(value = "update member m set post_count = (select count(*) from post p where p.member_id = m.id)",
+        nativeQuery = true)
+    int reconcilePostCounts();
 }
@@ -7,6 +7,7 @@ import com.dpm.winwin.domain.repository.post.dto.request.PostListConditionReques
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface CustomPostRepository {
 
@@ -14,12 +15,26 @@ public interface CustomPostRepository {
 
     Page<Post> getAllByIsShareAndCategory(Long memberId, PostListConditionRequest condition, Pageable pageable);
 
+    Slice<Post> getSliceByIsShareAndCategory(Long memberId, PostListConditionRequest condition, Pageable pageable);
+
+    long countByIsShareAndCategory(PostListConditionRequest condition);
+
     Page<Post> getAllByMemberTalents(Long memberId, PostCustomizedConditionRequest condition, Pageable pageable);
 
+    Slice<Post> getSliceByMemberTalents(Long memberId, PostCustomizedConditionRequest condition, Pageable pageable);
+
+    long countByMemberTalents(Long memberId, PostCustomizedConditionRequest condition);
+
     Optional<Post> getByIdFetchJoin(Long postId);
 
     Page<MyPagePostDto> getAllByMemberId(Long memberId, Pageable pageable);
 
+    Slice<MyPagePostDto> getSliceByMemberId(Long memberId, Pageable pageable);
+
+    long countByMemberId(Long memberId);
+
+    long getApproximateCountByMemberId(Long memberId);
+
     Optional<Integer> getMemberLikeByMemberId(Long memberId);
 
     Boolean hasLikeByMemberId(Long postId, Long memberId);
@@ -0,0 +1,29 @@
+package com.dpm.winwin.domain.repository.post;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시물 목록 필터별 근사 전체 개수 캐시.
+ * (SET post:count:{filter} {count} EX {ttl})
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCountCacheRepository {
+
+    private static final String KEY_PREFIX = "post:count:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public Optional<Long> findByFilter(String filter) {
+        return Optional.ofNullable(stringRedisTemplate.opsForValue().get(KEY_PREFIX + filter))
+            .map(Long::valueOf);
+    }
+
+    public void save(String filter, long count, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + filter, String.valueOf(count), ttl);
+    }
+}
@@ -8,26 +8,32 @@ import static com.dpm.winwin.domain.entity.member.QMember.member;
 import static com.dpm.winwin.domain.entity.member.QMemberTalent.memberTalent;
 import static com.dpm.winwin.domain.entity.post.QLikes.likes;
 import static com.dpm.winwin.domain.entity.post.QPost.post;
+import static com.dpm.winwin.domain.entity.post.QPostTalent.postTalent;
 import static com.dpm.winwin.domain.entity.report.QReport.report;
 
 import com.dpm.winwin.domain.dto.post.MyPagePostDto;
-import com.dpm.winwin.domain.entity.category.SubCategory;
-import com.dpm.winwin.domain.entity.member.MemberTalent;
 import com.dpm.winwin.domain.entity.member.enums.TalentType;
 import com.dpm.winwin.domain.entity.post.Post;
-import com.dpm.winwin.domain.entity.report.Report;
 import com.dpm.winwin.domain.entity.report.enums.ReportType;
 import com.dpm.winwin.domain.repository.post.CustomPostRepository;
 import com.dpm.winwin.domain.repository.post.dto.request.PostCustomizedConditionRequest;
 import com.dpm.winwin.domain.repository.post.dto.request.PostListConditionRequest;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.ObjectUtils;
@@ -72,37 +78,65 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
                                                  Pageable pageable
     ) {
         List<Long> reportedPostIds = getReportedPostIds(memberId);
-        List<Post> posts = queryFactory
-            .select(post)
+        List<Long> postIds = feedIdQuery(condition, reportedPostIds)
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory.select(post.count())
             .from(post)
-            .leftJoin(post.member, member)
-            .fetchJoin()
-            .leftJoin(post.likes, likes)
-            .fetchJoin()
             .where(
                 isShareEq(condition.isShare()),
                 mainCategoryEq(condition.mainCategory()),
                 midCategoryEq(condition.midCategory()),
                 subCategoryEq(condition.subCategory()),
                 post.id.in(reportedPostIds).not()
-            )
-            .orderBy(post.createdDate.desc())
+            );
+
+        return PageableExecutionUtils.getPage(hydrate(postIds), pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * count 쿼리 없이 size + 1 개를 조회해 다음 페이지 여부만 계산한다.
+     */
+    @Override
+    public Slice<Post> getSliceByIsShareAndCategory(Long memberId,
+                                                    PostListConditionRequest condition,
+                                                    Pageable pageable) {
+        List<Long> postIds = feedIdQuery(condition, getReportedPostIds(memberId))
             .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .limit(pageable.getPageSize() + 1L)
             .fetch();
+        return hydrate(toSlice(postIds, pageable));
+    }
 
-        JPAQuery<Long> countQuery = queryFactory.select(post.count())
+    // 회원별 신고 게시물 제외 없이 필터 조건만으로 센다 (여러 회원이 공유하는 근사값 용도)
+    @Override
+    public long countByIsShareAndCategory(PostListConditionRequest condition) {
+        Long count = queryFactory.select(post.count())
+            .from(post)
+            .where(
+                isShareEq(condition.isShare()),
+                mainCategoryEq(condition.mainCategory()),
+                midCategoryEq(condition.midCategory()),
+                subCategoryEq(condition.subCategory())
+            )
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private JPAQuery<Long> feedIdQuery(PostListConditionRequest condition, List<Long> reportedPostIds) {
+        return queryFactory
+            .select(post.id)
             .from(post)
-            .leftJoin(post.member, member)
             .where(
                 isShareEq(condition.isShare()),
                 mainCategoryEq(condition.mainCategory()),
                 midCategoryEq(condition.midCategory()),
                 subCategoryEq(condition.subCategory()),
                 post.id.in(reportedPostIds).not()
-            );
-
-        return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
+            )
+            .orderBy(post.createdDate.desc(), post.id.desc());
     }
 
     @Override
@@ -120,97 +154,202 @@ public class CustomPostRepositoryImpl implements CustomPostRepository {
         );
     }
 
+    /**
+     * Post 엔티티를 로딩하지 않고 (member_id, created_date) 인덱스 순서대로 필요한 컬럼만 조회한다.
+     * 전체 개수는 likes 를 조인하지 않고 (member_id, created_date) 인덱스만으로 센다.
+     */
     @Override
     public Page<MyPagePostDto> getAllByMemberId(Long memberId, Pageable pageable) {
-        List<Post> posts = queryFactory.selectFrom(post)
-            .leftJoin(post.likes, likes).fetchJoin()
-            .leftJoin(post.subCategory, subCategory).fetchJoin()
-            .leftJoin(post.member, member).fetchJoin()
+        List<MyPagePostDto> posts = getMyPagePosts(memberId, pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(posts, pageable, () -> countByMemberId(memberId));
+    }
+
+    @Override
+    public Slice<MyPagePostDto> getSliceByMemberId(Long memberId, Pageable pageable) {
+        List<MyPagePostDto> posts = getMyPagePosts(memberId, pageable.getOffset(), pageable.getPageSize() + 1L);
+        return toSlice(posts, pageable);
+    }
+
+    @Override
+    public long countByMemberId(Long memberId) {
+        Long count = queryFactory.select(post.count())
+            .from(post)
             .where(post.member.id.eq(memberId))
-            .orderBy(post.createdDate.desc())
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
 
-        List<MyPagePostDto> results = posts.stream().map(
-                post -> new MyPagePostDto(
-                    post.getId(),
-                    post.getTitle(),
-                    post.getSubCategory().getName(),
-                    post.isShare(),
-                    post.getTakenTalents().stream()
-                        .map(takenTalent -> takenTalent.getTalent().getName())
-                        .toList(),
-                    post.getLikes().size()))
-            .toList();
+    // 증감으로 관리하는 값이므로 재계산 전까지는 실제 게시물 수와 다를 수 있다
+    @Override
+    public long getApproximateCountByMemberId(Long memberId) {
+        Long count = queryFactory.select(member.postCount)
+            .from(member)
+            .where(member.id.eq(memberId))
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
 
-        JPAQuery<Long> countQuery = queryFactory.select(post.count())
+    private List<MyPagePostDto> getMyPagePosts(Long memberId, long offset, long limit) {
+        NumberExpression<Integer> likeCount = post.likes.size();
+        List<Tuple> rows = queryFactory
+            .select(post.id, post.title, subCategory.name, post.isShare, likeCount)
             .from(post)
-            .leftJoin(post.likes, likes)
             .leftJoin(post.subCategory, subCategory)
-            .leftJoin(post.member, member)
-            .where(post.member.id.eq(memberId));
+            .where(post.member.id.eq(memberId))
+            .orderBy(post.createdDate.desc(), post.id.desc())
+            .offset(offset)
+            .limit(limit)
+            .fetch();
+
+        Map<Long, List<String>> takenTalents = getTakenTalentNames(
+            rows.stream().map(row -> row.get(post.id)).toList());
 
-        return PageableExecutionUtils.getPage(results, pageable, countQuery::fetchOne);
+        return rows.stream()
+            .map(row -> new MyPagePostDto(
+                row.get(post.id),
+                row.get(post.title),
+                row.get(subCategory.name),
+                Boolean.TRUE.equals(row.get(post.isShare)),
+                takenTalents.getOrDefault(row.get(post.id), List.of()),
+                row.get(likeCount)))
+            .toList();
     }
-  
+
+    private Map<Long, List<String>> getTakenTalentNames(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        return queryFactory
+            .select(postTalent.post.id, subCategory.name)
+            .from(postTalent)
+            .join(postTalent.talent, subCategory)
+            .where(postTalent.post.id.in(postIds))
+            .orderBy(postTalent.id.asc())
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(row -> row.get(postTalent.post.id),
+                Collectors.mapping(row -> row.get(subCategory.name), Collectors.toList())));
+    }
+
     @Override
     public Page<Post> getAllByMemberTalents(Long memberId,
                                             PostCustomizedConditionRequest condition,
                                             Pageable pageable) {
-        List<SubCategory> subCategories = queryFactory.selectFrom(memberTalent)
-            .leftJoin(memberTalent.member, member).fetchJoin()
-            .where(
-                memberTalent.member.id.eq(memberId),
-                memberTalent.type.eq(TalentType.TAKE)
-            )
-            .fetch()
-            .stream().map(MemberTalent::getTalent)
-            .toList();
-
+        List<Long> takenTalentIds = getTakenTalentIds(memberId);
         List<Long> reportedPostIds = getReportedPostIds(memberId);
-        List<Post> posts = queryFactory.selectFrom(post)
-            .leftJoin(post.member, member).fetchJoin()
-            .leftJoin(post.likes, likes).fetchJoin()
-            .leftJoin(post.subCategory, subCategory).fetchJoin()
-            .where(
-                member.id.eq(memberId).not(),
-                post.subCategory.in(subCategories),
-                subCategoryEq(condition.subCategoryId()),
-                post.id.in(reportedPostIds).not()
-            )
-            .orderBy(post.createdDate.desc())
+        List<Long> postIds = memberTalentsIdQuery(memberId, condition, takenTalentIds, reportedPostIds)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
         JPAQuery<Long> countQuery = queryFactory.select(post.count())
             .from(post)
-            .leftJoin(post.member, member)
-            .leftJoin(post.likes, likes)
-            .leftJoin(post.subCategory, subCategory)
             .where(
-                member.id.eq(memberId).not(),
-                post.subCategory.in(subCategories),
+                post.member.id.ne(memberId),
+                post.subCategory.id.in(takenTalentIds),
                 subCategoryEq(condition.subCategoryId()),
                 post.id.in(reportedPostIds).not()
             );
 
-        return PageableExecutionUtils.getPage(posts, pageable, countQuery::fetchOne);
+        return PageableExecutionUtils.getPage(hydrate(postIds), pageable, countQuery::fetchOne);
     }
 
-    private List<Long> getReportedPostIds(Long memberId) {
-        return queryFactory
-            .selectFrom(report)
+    @Override
+    public Slice<Post> getSliceByMemberTalents(Long memberId,
+                                               PostCustomizedConditionRequest condition,
+                                               Pageable pageable) {
+        List<Long> postIds = memberTalentsIdQuery(memberId, condition, getTakenTalentIds(memberId),
+            getReportedPostIds(memberId))
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+        return hydrate(toSlice(postIds, pageable));
+    }
+
+    // 회원별 신고 게시물 제외 없이 센다 (근사값 용도)
+    @Override
+    public long countByMemberTalents(Long memberId, PostCustomizedConditionRequest condition) {
+        Long count = queryFactory.select(post.count())
+            .from(post)
+            .where(
+                post.member.id.ne(memberId),
+                post.subCategory.id.in(getTakenTalentIds(memberId)),
+                subCategoryEq(condition.subCategoryId())
+            )
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    // (member_id, type, talent_id) 인덱스만으로 조회되도록 id 만 가져온다
+    private List<Long> getTakenTalentIds(Long memberId) {
+        return queryFactory.select(memberTalent.talent.id)
+            .from(memberTalent)
             .where(
-                report.type.eq(ReportType.POST),
-                report.reporterId.eq(memberId)
+                memberTalent.member.id.eq(memberId),
+                memberTalent.type.eq(TalentType.TAKE)
             )
+            .fetch();
+    }
+
+    private JPAQuery<Long> memberTalentsIdQuery(Long memberId,
+                                                PostCustomizedConditionRequest condition,
+                                                List<Long> takenTalentIds,
+                                                List<Long> reportedPostIds) {
+        return queryFactory.select(post.id)
+            .from(post)
+            .where(
+                post.member.id.ne(memberId),
+                post.subCategory.id.in(takenTalentIds),
+                subCategoryEq(condition.subCategoryId()),
+                post.id.in(reportedPostIds).not()
+            )
+            .orderBy(post.createdDate.desc(), post.id.desc());
+    }
+
+    /**
+     * 컬렉션을 fetch join 한 채로 offset/limit 을 적용하면 Hibernate 가 전체 결과를 메모리에서 자르므로(HHH000104)
+     * 먼저 페이지에 해당하는 id 만 조회한 뒤, 그 id 의 게시물을 작성자, 소분류와 함께 조회해 id 순서대로 정렬한다.
+     * likes, takenTalents 는 default_batch_fetch_size 로 한 번에 초기화된다.
+     */
+    private List<Post> hydrate(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = queryFactory.selectFrom(post)
+            .join(post.member, member).fetchJoin()
+            .leftJoin(post.subCategory, subCategory).fetchJoin()
+            .where(post.id.in(postIds))
             .fetch()
-            .stream().map(Report::getTypeId)
+            .stream()
+            .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        return postIds.stream()
+            .map(posts::get)
+            .filter(Objects::nonNull)
             .toList();
     }
 
+    private Slice<Post> hydrate(Slice<Long> postIds) {
+        return new SliceImpl<>(hydrate(postIds.getContent()), postIds.getPageable(), postIds.hasNext());
+    }
+
+    private <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    // (reporter_id, type, type_id) 인덱스만으로 조회되도록 type_id 만 가져온다
+    private List<Long> getReportedPostIds(Long memberId) {
+        return queryFactory
+            .select(report.typeId)
+            .from(report)
+            .where(
+                report.reporterId.eq(memberId),
+                report.type.eq(ReportType.POST)
+            )
+            .fetch();
+    }
+
     private BooleanExpression isShareEq(Boolean isShare) {
         if (isShare != null && isShare) {
             return post.isShare.eq(true);
@@ -1,8 +1,102 @@
 package com.dpm.winwin.domain.repository.token;
 
-import com.dpm.winwin.domain.entity.token.ExpiredToken;
-import org.springframework.data.repository.CrudRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
 
-public interface ExpiredTokenRepository extends CrudRepository<ExpiredToken, String> {
+/**
+ * 로그아웃된 access token 저장소.
+ * 토큰 원문 대신 16바이트 digest 를 key 로 하고, 토큰의 남은 유효기간만큼만 보관한다.
+ * (SET token:expired:{digest} 1 EX {남은 유효기간}, 별도의 index set 없음)
+ * 예전 @RedisHash("expiredToken") 형식으로 저장된 토큰은 새 형식으로 옮길 수 있도록 따로 조회하고 지운다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExpiredTokenRepository {
 
+    private static final String KEY_PREFIX = "token:expired:";
+    private static final String VALUE = "1";
+    private static final long SCAN_COUNT = 1000;
+    private static final String LEGACY_KEYSPACE = "expiredToken";
+    private static final String LEGACY_KEY_PREFIX = LEGACY_KEYSPACE + ":";
+    private static final String LEGACY_PHANTOM_SUFFIX = ":phantom";
+    private static final Duration LEGACY_TIME_TO_LIVE = Duration.ofSeconds(86400);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void save(String digest, Duration remainingLifetime) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + digest, VALUE, remainingLifetime);
+    }
+
+    public boolean existsByDigest(String digest) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + digest));
+    }
+
+    public List<String> findAllDigests() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(KEY_PREFIX + "*")
+            .count(SCAN_COUNT)
+            .build();
+
+        return stringRedisTemplate.execute((RedisCallback<List<String>>) connection ->
+            scan(connection, options, KEY_PREFIX));
+    }
+
+    /**
+     * 예전 형식으로 저장된 로그아웃 토큰 원문과 남은 유효기간.
+     * TTL 이 없는 key 는 예전 엔티티의 timeToLive 만큼 남은 것으로 본다.
+     */
+    public Map<String, Duration> findAllLegacyTokens() {
+        ScanOptions options = ScanOptions.scanOptions()
+            .match(LEGACY_KEY_PREFIX + "*")
+            .count(SCAN_COUNT)
+            .build();
+        List<String> accessTokens = stringRedisTemplate.execute((RedisCallback<List<String>>) connection ->
+            scan(connection, options, LEGACY_KEY_PREFIX));
+
+        Map<String, Duration> legacyTokens = new HashMap<>();
+        for (String accessToken : accessTokens) {
+            if (accessToken.endsWith(LEGACY_PHANTOM_SUFFIX)) {
+                continue;
+            }
+            Long remainingMillis = stringRedisTemplate.getExpire(
+                LEGACY_KEY_PREFIX + accessToken, TimeUnit.MILLISECONDS);
+            if (remainingMillis == null || remainingMillis == -2) {
+                continue;
+            }
+            legacyTokens.put(accessToken,
+                remainingMillis > 0 ? Duration.ofMillis(remainingMillis) : LEGACY_TIME_TO_LIVE);
+        }
+        return legacyTokens;
+    }
+
+    // hash 와 함께 Spring Data Redis 가 만든 phantom key, index set 의 항목도 지운다
+    public void deleteLegacyToken(String accessToken) {
+        stringRedisTemplate.delete(List.of(
+            LEGACY_KEY_PREFIX + accessToken,
+            LEGACY_KEY_PREFIX + accessToken + LEGACY_PHANTOM_SUFFIX));
+        stringRedisTemplate.opsForSet().remove(LEGACY_KEYSPACE, accessToken);
+    }
+
+    private List<String> scan(RedisConnection connection, ScanOptions options, String keyPrefix) {
+        List<String> values = new ArrayList<>();
+        try (Cursor<byte[]> cursor = connection.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = new String(cursor.next(), StandardCharsets.UTF_8);
+                values.add(key.substring(keyPrefix.length()));
+            }
+        }
+        return values;
+    }
 }
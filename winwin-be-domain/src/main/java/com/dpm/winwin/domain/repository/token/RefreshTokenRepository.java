@@ -0,0 +1,24 @@
+package com.dpm.winwin.domain.repository.token;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 회원별 refresh token 저장소.
+ * 토큰 원문 대신 16바이트 digest 만 저장하고, 토큰의 남은 유효기간만큼만 보관한다.
+ * (SET token:refresh:{memberId} {digest} EX {남은 유효기간}, 별도의 index set 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    private static final String KEY_PREFIX = "token:refresh:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void save(Long memberId, String digest, Duration remainingLifetime) {
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + memberId, digest, remainingLifetime);
+    }
+}
@@ -0,0 +1,36 @@
+package com.dpm.winwin.domain.repository.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * JWT 원문 대신 사용하는 16바이트 토큰 식별자 (SHA-256 앞 16바이트)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenDigest {
+
+    public static final int DIGEST_LENGTH = 16;
+
+    public static byte[] digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Arrays.copyOf(hash, DIGEST_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public static String encode(byte[] digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    public static byte[] decode(String encodedDigest) {
+        return Base64.getUrlDecoder().decode(encodedDigest);
+    }
+}
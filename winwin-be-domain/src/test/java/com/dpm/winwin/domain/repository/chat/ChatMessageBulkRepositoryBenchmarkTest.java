@@ -0,0 +1,111 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 건별 insert 와 batch insert 의 처리량을 비교한다. (H2 기준이므로 절대값보다 비율을 참고한다)
+ * 실제 서버처럼 저장할 때마다 커밋하도록 테스트 트랜잭션 없이 REQUIRES_NEW 트랜잭션으로 저장한다.
+ * 시간이 오래 걸리므로 기본 test 에서는 제외하고 ./gradlew :winwin-be-domain:benchmark 로 실행한다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Import({QuerydslConfiguration.class, ChatMessageBulkRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatMessageBulkRepositoryBenchmarkTest {
+
+    private static final int MESSAGE_COUNT = 5_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private ChatMessageBulkRepository chatMessageBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        jdbcTemplate.update("insert into chat_room (guest_id) values (2)");
+        roomId = jdbcTemplate.queryForObject("select max(id) from chat_room", Long.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from chat_search_token");
+        jdbcTemplate.update("update chat_room set last_message_id = null");
+        jdbcTemplate.update("delete from chat_message");
+        jdbcTemplate.update("delete from chat_room");
+    }
+
+    @Test
+    void 건별_insert_와_batch_insert_의_처리량을_비교한다() {
+        // given
+        List<ChatMessageSaveRequest> messages = createMessages();
+
+        // when
+        long singleStart = System.nanoTime();
+        for (ChatMessageSaveRequest message : messages) {
+            save(List.of(message));
+        }
+        long singleElapsed = System.nanoTime() - singleStart;
+
+        long batchStart = System.nanoTime();
+        for (int from = 0; from < MESSAGE_COUNT; from += BATCH_SIZE) {
+            save(messages.subList(from, Math.min(from + BATCH_SIZE, MESSAGE_COUNT)));
+        }
+        long batchElapsed = System.nanoTime() - batchStart;
+
+        // then
+        log.info("건별 insert : {} msg/s, batch insert({}) : {} msg/s",
+            throughput(singleElapsed), BATCH_SIZE, throughput(batchElapsed));
+        assertThat(jdbcTemplate.queryForObject("select count(*) from chat_message", Integer.class))
+            .isEqualTo(MESSAGE_COUNT * 2);
+    }
+
+    // 저장할 때마다 새 트랜잭션을 열고 커밋한다
+    private void save(List<ChatMessageSaveRequest> messages) {
+        transactionTemplate.executeWithoutResult(status -> chatMessageBulkRepository.saveAll(messages));
+    }
+
+    private List<ChatMessageSaveRequest> createMessages() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ChatMessageSaveRequest> messages = new ArrayList<>(MESSAGE_COUNT);
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            messages.add(new ChatMessageSaveRequest(roomId, 1L, 2L, "message " + i, now));
+        }
+        return messages;
+    }
+
+    private long throughput(long elapsedNanos) {
+        return MESSAGE_COUNT * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+    }
+}
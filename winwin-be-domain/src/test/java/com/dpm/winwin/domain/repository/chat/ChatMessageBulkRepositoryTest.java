@@ -0,0 +1,95 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import({QuerydslConfiguration.class, ChatMessageBulkRepository.class})
+class ChatMessageBulkRepositoryTest {
+
+    @Autowired
+    private ChatMessageBulkRepository chatMessageBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long roomId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into chat_room (guest_id) values (2)");
+        roomId = jdbcTemplate.queryForObject("select max(id) from chat_room", Long.class);
+    }
+
+    @Test
+    void 메시지를_batch_insert_로_저장한다() {
+        // given
+        List<ChatMessageSaveRequest> messages = createMessages(3);
+
+        // when
+        chatMessageBulkRepository.saveAll(messages);
+
+        // then
+        assertThat(countMessages()).isEqualTo(3);
+    }
+
+    @Test
+    void 채팅방의_마지막_메시지를_batch_에서_가장_큰_id_의_메시지로_갱신한다() {
+        // given
+        List<ChatMessageSaveRequest> messages = createMessages(3);
+
+        // when
+        chatMessageBulkRepository.saveAll(messages);
+
+        // then
+        Map<String, Object> room = findRoom();
+        assertThat(room.get("last_message_id"))
+            .isEqualTo(jdbcTemplate.queryForObject("select max(id) from chat_message", Long.class));
+        assertThat(room.get("last_message_preview")).isEqualTo("message 2");
+    }
+
+    @Test
+    void 더_최근_메시지로_갱신된_채팅방은_다시_덮어쓰지_않는다() {
+        // given
+        jdbcTemplate.update("update chat_room set last_message_id = ?, last_message_preview = ? where id = ?",
+            Long.MAX_VALUE, "newer", roomId);
+
+        // when
+        chatMessageBulkRepository.saveAll(createMessages(2));
+
+        // then
+        Map<String, Object> room = findRoom();
+        assertThat(room.get("last_message_id")).isEqualTo(Long.MAX_VALUE);
+        assertThat(room.get("last_message_preview")).isEqualTo("newer");
+    }
+
+    private List<ChatMessageSaveRequest> createMessages(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ChatMessageSaveRequest> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(new ChatMessageSaveRequest(roomId, 1L, 2L, "message " + i, now));
+        }
+        return messages;
+    }
+
+    private Map<String, Object> findRoom() {
+        return jdbcTemplate.queryForMap(
+            "select last_message_id, last_message_preview from chat_room where id = ?", roomId);
+    }
+
+    private Integer countMessages() {
+        return jdbcTemplate.queryForObject("select count(*) from chat_message", Integer.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import({QuerydslConfiguration.class, ChatMessageBulkRepository.class})
+class ChatMessageSearchTest {
+
+    @Autowired
+    private ChatMessageBulkRepository chatMessageBulkRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatSearchTokenRepository chatSearchTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long roomId;
+    private Long otherRoomId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("insert into chat_room (guest_id) values (2)");
+        jdbcTemplate.update("insert into chat_room (guest_id) values (3)");
+        roomId = jdbcTemplate.queryForObject("select min(id) from chat_room", Long.class);
+        otherRoomId = jdbcTemplate.queryForObject("select max(id) from chat_room", Long.class);
+    }
+
+    @Test
+    void 메시지를_단어별_bigram_token_으로_나눈다() {
+        assertThat(ChatSearchTokenizer.tokenize("기타 연습"))
+            .containsExactly("기타", "연습");
+        assertThat(ChatSearchTokenizer.tokenize("Guitar"))
+            .containsExactly("gu", "ui", "it", "ta", "ar");
+        assertThat(ChatSearchTokenizer.tokenize("나 가")).isEmpty();
+    }
+
+    @Test
+    void 메시지를_저장하면_검색_token_도_함께_저장된다() {
+        // when
+        chatMessageBulkRepository.saveAll(List.of(message(roomId, "주말에 기타 연습")));
+
+        // then
+        assertThat(chatSearchTokenRepository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void 모든_token_을_포함하는_메시지를_최신순으로_조회한다() {
+        // given
+        chatMessageBulkRepository.saveAll(List.of(
+            message(roomId, "주말에 기타 연습할까요?"),
+            message(roomId, "기타는 어디서 배우셨어요?"),
+            message(roomId, "주말 연습 좋아요"),
+            message(otherRoomId, "주말에 기타 연습해요")
+        ));
+        List<Long> ids = roomMessageIds(roomId);
+
+        // when
+        List<Long> result = chatMessageRepository.searchMessageIds(
+            roomId, new ArrayList<>(ChatSearchTokenizer.tokenize("기타 연습")), null, 10);
+
+        // then
+        assertThat(result).containsExactly(ids.get(0));
+    }
+
+    @Test
+    void cursor_이전의_검색_결과를_size_개씩_조회한다() {
+        // given
+        List<ChatMessageSaveRequest> messages = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            messages.add(message(roomId, "기타 " + i));
+        }
+        chatMessageBulkRepository.saveAll(messages);
+        List<Long> ids = roomMessageIds(roomId);
+        List<String> tokens = new ArrayList<>(ChatSearchTokenizer.tokenize("기타"));
+
+        // when
+        List<Long> firstPage = chatMessageRepository.searchMessageIds(roomId, tokens, null, 2);
+        List<Long> secondPage = chatMessageRepository.searchMessageIds(roomId, tokens, firstPage.get(1), 2);
+
+        // then
+        assertThat(firstPage).containsExactly(ids.get(4), ids.get(3));
+        assertThat(secondPage).containsExactly(ids.get(2), ids.get(1));
+    }
+
+    @Test
+    void 메시지_id_로_검색_token_을_삭제한다() {
+        // given
+        chatMessageBulkRepository.saveAll(List.of(message(roomId, "기타 연습"), message(roomId, "기타")));
+        List<Long> ids = roomMessageIds(roomId);
+
+        // when
+        chatSearchTokenRepository.deleteAllByMessageIds(List.of(ids.get(0)));
+
+        // then
+        assertThat(chatSearchTokenRepository.count()).isEqualTo(1);
+    }
+
+    private ChatMessageSaveRequest message(Long roomId, String content) {
+        return new ChatMessageSaveRequest(roomId, 1L, 2L, content, LocalDateTime.now());
+    }
+
+    private List<Long> roomMessageIds(Long roomId) {
+        return jdbcTemplate.queryForList("select id from chat_message where room_id = ? order by id", Long.class, roomId);
+    }
+}
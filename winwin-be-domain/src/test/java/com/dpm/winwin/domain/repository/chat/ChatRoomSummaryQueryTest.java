@@ -0,0 +1,88 @@
+package com.dpm.winwin.domain.repository.chat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.repository.chat.dto.request.ChatMessageSaveRequest;
+import com.dpm.winwin.domain.repository.chat.dto.response.ChatRoomSummaryResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import({QuerydslConfiguration.class, ChatMessageBulkRepository.class})
+class ChatRoomSummaryQueryTest {
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageBulkRepository chatMessageBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long memberId;
+    private Long partnerId;
+
+    @BeforeEach
+    void setUp() {
+        memberId = insertMember("회원");
+        partnerId = insertMember("상대방");
+    }
+
+    @Test
+    void 메시지가_없는_채팅방은_메시지가_있는_채팅방_뒤에_조회한다() {
+        // given
+        Long emptyHostRoomId = insertRoom(memberId, partnerId);
+        Long messagedRoomId = insertRoom(partnerId, memberId);
+        Long emptyGuestRoomId = insertRoom(partnerId, memberId);
+        chatMessageBulkRepository.saveAll(List.of(
+            new ChatMessageSaveRequest(messagedRoomId, partnerId, memberId, "안녕하세요", LocalDateTime.now())));
+
+        // when
+        List<ChatRoomSummaryResponse> rooms = chatRoomRepository.getRoomSummaries(memberId, null, 10);
+
+        // then
+        assertThat(rooms).extracting(ChatRoomSummaryResponse::roomId)
+            .containsExactly(messagedRoomId, emptyGuestRoomId, emptyHostRoomId);
+        assertThat(rooms.get(1).lastMessageId()).isNull();
+        assertThat(rooms.get(1).lastMessageAt()).isNull();
+        assertThat(rooms.get(1).partnerNickname()).isEqualTo("상대방");
+    }
+
+    @Test
+    void 메시지가_없는_채팅방도_음수의_채팅방_id_cursor_로_이어서_조회한다() {
+        // given
+        Long firstRoomId = insertRoom(memberId, partnerId);
+        Long secondRoomId = insertRoom(partnerId, memberId);
+        Long messagedRoomId = insertRoom(memberId, partnerId);
+        chatMessageBulkRepository.saveAll(List.of(
+            new ChatMessageSaveRequest(messagedRoomId, memberId, partnerId, "안녕하세요", LocalDateTime.now())));
+        Long lastMessageId = chatRoomRepository.getRoomSummaries(memberId, null, 1).get(0).lastMessageId();
+
+        // when
+        List<ChatRoomSummaryResponse> afterMessage = chatRoomRepository.getRoomSummaries(memberId, lastMessageId, 1);
+        List<ChatRoomSummaryResponse> afterEmpty = chatRoomRepository.getRoomSummaries(memberId, -secondRoomId, 10);
+
+        // then
+        assertThat(afterMessage).extracting(ChatRoomSummaryResponse::roomId).containsExactly(secondRoomId);
+        assertThat(afterEmpty).extracting(ChatRoomSummaryResponse::roomId).containsExactly(firstRoomId);
+    }
+
+    private Long insertMember(String nickname) {
+        jdbcTemplate.update("insert into member (nickname, ranks, like_count, post_count) values (?, 'BEGINNER', 0, 0)",
+            nickname);
+        return jdbcTemplate.queryForObject("select max(id) from member", Long.class);
+    }
+
+    private Long insertRoom(Long hostId, Long guestId) {
+        jdbcTemplate.update("insert into chat_room (member_id, guest_id) values (?, ?)", hostId, guestId);
+        return jdbcTemplate.queryForObject("select max(id) from chat_room", Long.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.dpm.winwin.domain.repository.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.dto.post.MyPagePostDto;
+import com.dpm.winwin.domain.repository.member.MemberRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(QuerydslConfiguration.class)
+class MemberPostQueryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PostFixture postFixture;
+    private Long memberId;
+    private Long otherMemberId;
+    private Long subCategoryId;
+    private Long talentId;
+
+    @BeforeEach
+    void setUp() {
+        postFixture = new PostFixture(jdbcTemplate);
+        memberId = postFixture.insertMember("작성자");
+        otherMemberId = postFixture.insertMember("다른 회원");
+        subCategoryId = postFixture.insertSubCategory("기타");
+        talentId = postFixture.insertSubCategory("피아노");
+    }
+
+    @Test
+    void 회원의_게시물을_최신순으로_좋아요_수와_받고_싶은_재능과_함께_조회한다() {
+        // given
+        Long oldPostId = postFixture.insertPost(memberId, subCategoryId, "오래된 게시물",
+            LocalDateTime.now().minusDays(1));
+        Long newPostId = postFixture.insertPost(memberId, subCategoryId, "새 게시물", LocalDateTime.now());
+        postFixture.insertPost(otherMemberId, subCategoryId, "다른 회원의 게시물", LocalDateTime.now());
+        postFixture.insertLike(oldPostId, memberId);
+        postFixture.insertLike(oldPostId, otherMemberId);
+        postFixture.insertPostTalent(newPostId, talentId);
+
+        // when
+        Page<MyPagePostDto> result = postRepository.getAllByMemberId(memberId, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).containsExactly(
+            new MyPagePostDto(newPostId, "새 게시물", "기타", false, List.of("피아노"), 0),
+            new MyPagePostDto(oldPostId, "오래된 게시물", "기타", false, List.of(), 2)
+        );
+    }
+
+    @Test
+    void 전체_개수는_회원의_게시물_수_컬럼이_아닌_post_테이블_기준으로_센다() {
+        // given
+        Long postId = postFixture.insertPost(memberId, subCategoryId, "게시물", LocalDateTime.now());
+        postFixture.insertPost(memberId, subCategoryId, "게시물", LocalDateTime.now());
+        postFixture.insertLike(postId, memberId);
+        postFixture.insertLike(postId, otherMemberId);
+
+        // when
+        Page<MyPagePostDto> result = postRepository.getAllByMemberId(memberId, PageRequest.of(1, 1));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(postRepository.getApproximateCountByMemberId(memberId)).isZero();
+    }
+
+    @Test
+    void 대략적인_개수는_회원의_게시물_수_컬럼을_사용한다() {
+        // given
+        postFixture.insertPost(memberId, subCategoryId, "게시물", LocalDateTime.now());
+        memberRepository.increasePostCount(memberId, 1);
+
+        // when
+        long count = postRepository.getApproximateCountByMemberId(memberId);
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    void 다음_페이지가_있으면_slice_의_hasNext_가_true_이다() {
+        // given
+        postFixture.insertPost(memberId, subCategoryId, "첫 번째", LocalDateTime.now().minusMinutes(2));
+        postFixture.insertPost(memberId, subCategoryId, "두 번째", LocalDateTime.now().minusMinutes(1));
+        postFixture.insertPost(memberId, subCategoryId, "세 번째", LocalDateTime.now());
+
+        // when
+        Slice<MyPagePostDto> result = postRepository.getSliceByMemberId(memberId, PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).extracting(MyPagePostDto::title)
+            .containsExactly("세 번째", "두 번째");
+    }
+
+    @Test
+    void 게시물_수를_post_테이블_기준으로_다시_계산한다() {
+        // given
+        postFixture.insertPost(memberId, subCategoryId, "게시물", LocalDateTime.now());
+        memberRepository.increasePostCount(memberId, 5);
+
+        // when
+        memberRepository.reconcilePostCounts();
+
+        // then
+        assertThat(postRepository.getApproximateCountByMemberId(memberId)).isEqualTo(1);
+        assertThat(postRepository.getApproximateCountByMemberId(otherMemberId)).isZero();
+    }
+}
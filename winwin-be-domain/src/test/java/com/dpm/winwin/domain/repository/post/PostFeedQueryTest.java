@@ -0,0 +1,103 @@
+package com.dpm.winwin.domain.repository.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.entity.post.Post;
+import com.dpm.winwin.domain.repository.post.dto.request.PostCustomizedConditionRequest;
+import com.dpm.winwin.domain.repository.post.dto.request.PostListConditionRequest;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(QuerydslConfiguration.class)
+class PostFeedQueryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private PostFixture postFixture;
+    private Long memberId;
+    private Long writerId;
+    private Long subCategoryId;
+
+    @BeforeEach
+    void setUp() {
+        postFixture = new PostFixture(jdbcTemplate);
+        memberId = postFixture.insertMember("조회하는 회원");
+        writerId = postFixture.insertMember("작성자");
+        subCategoryId = postFixture.insertSubCategory("기타");
+    }
+
+    @Test
+    void 게시물_id_를_먼저_조회한_뒤_같은_순서로_게시물을_조회한다() {
+        // given
+        Long firstId = postFixture.insertPost(writerId, subCategoryId, "첫 번째",
+            LocalDateTime.now().minusMinutes(3));
+        Long secondId = postFixture.insertPost(writerId, subCategoryId, "두 번째",
+            LocalDateTime.now().minusMinutes(2));
+        Long thirdId = postFixture.insertPost(writerId, subCategoryId, "세 번째",
+            LocalDateTime.now().minusMinutes(1));
+        postFixture.insertLike(secondId, memberId);
+        postFixture.insertLike(secondId, writerId);
+
+        // when
+        Page<Post> result = postRepository.getAllByIsShareAndCategory(
+            memberId, new PostListConditionRequest(null, null, null, null), PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(3);
+        assertThat(result.getContent()).extracting(Post::getId).containsExactly(thirdId, secondId);
+        assertThat(result.getContent().get(1).getLikes()).hasSize(2);
+        assertThat(result.getContent().get(0).getMember().getNickname()).isEqualTo("작성자");
+        assertThat(postRepository.getAllByIsShareAndCategory(
+                memberId, new PostListConditionRequest(null, null, null, null), PageRequest.of(1, 2))
+            .getContent()).extracting(Post::getId).containsExactly(firstId);
+    }
+
+    @Test
+    void 신고한_게시물은_제외하고_다음_페이지_여부를_계산한다() {
+        // given
+        Long reportedId = postFixture.insertPost(writerId, subCategoryId, "신고한 게시물", LocalDateTime.now());
+        postFixture.insertPost(writerId, subCategoryId, "첫 번째", LocalDateTime.now().minusMinutes(2));
+        postFixture.insertPost(writerId, subCategoryId, "두 번째", LocalDateTime.now().minusMinutes(1));
+        postFixture.insertReport(memberId, writerId, reportedId);
+
+        // when
+        Slice<Post> result = postRepository.getSliceByIsShareAndCategory(
+            memberId, new PostListConditionRequest(null, null, null, null), PageRequest.of(0, 2));
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getContent()).extracting(Post::getTitle).containsExactly("두 번째", "첫 번째");
+    }
+
+    @Test
+    void 받고_싶은_재능의_게시물을_최신순으로_조회한다() {
+        // given
+        postFixture.insertTakenTalent(memberId, subCategoryId);
+        postFixture.insertPost(memberId, subCategoryId, "내 게시물", LocalDateTime.now());
+        Long oldId = postFixture.insertPost(writerId, subCategoryId, "오래된 게시물", LocalDateTime.now().minusDays(1));
+        Long newId = postFixture.insertPost(writerId, subCategoryId, "새 게시물", LocalDateTime.now().minusMinutes(1));
+        postFixture.insertLike(oldId, memberId);
+
+        // when
+        Page<Post> result = postRepository.getAllByMemberTalents(
+            memberId, new PostCustomizedConditionRequest(null), PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(2);
+        assertThat(result.getContent()).extracting(Post::getId).containsExactly(newId, oldId);
+    }
+}
@@ -0,0 +1,134 @@
+package com.dpm.winwin.domain.repository.post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 게시물 조회 테스트가 공유하는 데이터 입력 helper.
+ * 엔티티 생성 규칙과 관계없이 조회에 필요한 컬럼만 JdbcTemplate 으로 넣는다.
+ * 한 건씩 넣는 메서드는 생성된 id 를 돌려주고, 목록을 받는 메서드는 id 를 직접 지정해 batch insert 한다.
+ */
+class PostFixture {
+
+    private static final String MEMBER_SQL = "insert into member (id, nickname, ranks, like_count, post_count) "
+        + "values (?, ?, 'BEGINNER', 0, 0)";
+    private static final String MAIN_CATEGORY_SQL = "insert into main_category (id, name, image, background_image) "
+        + "values (?, ?, 'image', 'background')";
+    private static final String MID_CATEGORY_SQL = "insert into mid_category (id, name, main_category_id) "
+        + "values (?, ?, ?)";
+    private static final String SUB_CATEGORY_SQL = "insert into sub_category "
+        + "(id, name, mid_category_id, post_count, share_post_count) values (?, ?, ?, 0, 0)";
+    private static final String POST_SQL = "insert into post (id, member_id, main_category_id, mid_category_id, "
+        + "sub_category_id, title, chat_link, is_share, exchange_type, exchange_period, exchange_time, "
+        + "created_date) values (?, ?, ?, ?, ?, ?, 'chat', ?, 'ONLINE', 'A_WEEK', 'NOON', ?)";
+    private static final String LIKE_SQL = "insert into likes (post_id, member_id) values (?, ?)";
+    private static final String POST_TALENT_SQL = "insert into post_talent (post_id, talent_id) values (?, ?)";
+    private static final String MEMBER_TALENT_SQL = "insert into member_talent (member_id, talent_id, type) "
+        + "values (?, ?, ?)";
+    private static final String REPORT_SQL = "insert into report (reporter_id, reported_id, content, type, type_id) "
+        + "values (?, ?, '신고', 'POST', ?)";
+
+    private static final String NEW_MEMBER_SQL = "insert into member (nickname, ranks, like_count, post_count) "
+        + "values (?, 'BEGINNER', 0, 0)";
+    private static final String NEW_SUB_CATEGORY_SQL = "insert into sub_category "
+        + "(name, mid_category_id, post_count, share_post_count) values (?, ?, 0, 0)";
+    private static final String NEW_POST_SQL = "insert into post (member_id, sub_category_id, title, chat_link, "
+        + "is_share, exchange_type, exchange_period, exchange_time, created_date) "
+        + "values (?, ?, ?, 'chat', false, 'ONLINE', 'A_WEEK', 'NOON', ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    PostFixture(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Long insertMember(String nickname) {
+        jdbcTemplate.update(NEW_MEMBER_SQL, nickname);
+        return maxId("member");
+    }
+
+    // 대분류 - 중분류 - 소분류를 하나씩 만들고 소분류 id 를 돌려준다
+    Long insertSubCategory(String name) {
+        jdbcTemplate.update("insert into main_category (name, image, background_image) "
+            + "values ('음악', 'image', 'background')");
+        jdbcTemplate.update("insert into mid_category (name, main_category_id) values ('악기', ?)",
+            maxId("main_category"));
+        return insertSubCategory(name, maxId("mid_category"));
+    }
+
+    Long insertSubCategory(String name, Long midCategoryId) {
+        jdbcTemplate.update(NEW_SUB_CATEGORY_SQL, name, midCategoryId);
+        return maxId("sub_category");
+    }
+
+    Long insertPost(Long writerId, Long subCategoryId, String title, LocalDateTime createdDate) {
+        jdbcTemplate.update(NEW_POST_SQL, writerId, subCategoryId, title, createdDate);
+        return maxId("post");
+    }
+
+    void insertLike(Long postId, Long memberId) {
+        jdbcTemplate.update(LIKE_SQL, postId, memberId);
+    }
+
+    void insertPostTalent(Long postId, Long talentId) {
+        jdbcTemplate.update(POST_TALENT_SQL, postId, talentId);
+    }
+
+    void insertTakenTalent(Long memberId, Long talentId) {
+        jdbcTemplate.update(MEMBER_TALENT_SQL, memberId, talentId, "TAKE");
+    }
+
+    void insertReport(Long reporterId, Long reportedId, Long postId) {
+        jdbcTemplate.update(REPORT_SQL, reporterId, reportedId, postId);
+    }
+
+    // (id, nickname)
+    void insertMembers(List<Object[]> members) {
+        jdbcTemplate.batchUpdate(MEMBER_SQL, members);
+    }
+
+    // (id, name)
+    void insertMainCategories(List<Object[]> mainCategories) {
+        jdbcTemplate.batchUpdate(MAIN_CATEGORY_SQL, mainCategories);
+    }
+
+    // (id, name, main_category_id)
+    void insertMidCategories(List<Object[]> midCategories) {
+        jdbcTemplate.batchUpdate(MID_CATEGORY_SQL, midCategories);
+    }
+
+    // (id, name, mid_category_id)
+    void insertSubCategories(List<Object[]> subCategories) {
+        jdbcTemplate.batchUpdate(SUB_CATEGORY_SQL, subCategories);
+    }
+
+    // (id, member_id, main_category_id, mid_category_id, sub_category_id, title, is_share, created_date)
+    void insertPosts(List<Object[]> posts) {
+        jdbcTemplate.batchUpdate(POST_SQL, posts);
+    }
+
+    // (post_id, member_id)
+    void insertLikes(List<Object[]> likes) {
+        jdbcTemplate.batchUpdate(LIKE_SQL, likes);
+    }
+
+    // (post_id, talent_id)
+    void insertPostTalents(List<Object[]> postTalents) {
+        jdbcTemplate.batchUpdate(POST_TALENT_SQL, postTalents);
+    }
+
+    // (member_id, talent_id, type)
+    void insertMemberTalents(List<Object[]> memberTalents) {
+        jdbcTemplate.batchUpdate(MEMBER_TALENT_SQL, memberTalents);
+    }
+
+    // (reporter_id, reported_id, type_id)
+    void insertReports(List<Object[]> reports) {
+        jdbcTemplate.batchUpdate(REPORT_SQL, reports);
+    }
+
+    private Long maxId(String table) {
+        return jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+    }
+}
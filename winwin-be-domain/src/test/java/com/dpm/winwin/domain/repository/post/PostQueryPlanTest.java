@@ -0,0 +1,312 @@
+package com.dpm.winwin.domain.repository.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.dpm.winwin.domain.configuration.QuerydslConfiguration;
+import com.dpm.winwin.domain.dto.post.MyPagePostDto;
+import com.dpm.winwin.domain.entity.post.Post;
+import com.dpm.winwin.domain.repository.post.dto.request.PostCustomizedConditionRequest;
+import com.dpm.winwin.domain.repository.post.dto.request.PostListConditionRequest;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.StringUtils;
+
+/**
+ * PostRepository 의 조회 메서드를 실제로 실행해 Hibernate 가 만든 SQL 을 {@link SqlStatementCollector} 로 받고,
+ * 바인딩한 값 그대로 EXPLAIN 해서 엔티티에 선언한 인덱스로 range scan 하는지 확인한다.
+ * H2 는 조건이 없는 피드처럼 인덱스 첫 컬럼부터 정렬 순서와 같을 때만 plan 에 index sorted 를 표시하고,
+ * (category_id, created_date, id) 인덱스를 등호 조건으로 읽는 필터 피드는 정렬을 생략하더라도 표시하지 않는다.
+ * 그래서 필터 피드는 인덱스 사용만 확인하고, filesort 가 없는지는 MySQL 의 EXPLAIN 으로 따로 확인해야 한다.
+ * 데이터는 다른 테스트와 섞이지 않도록 별도의 MySQL 모드 H2 에 한 번만 넣는다.
+ */
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:post-query-plan;MODE=MySQL",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dpm.winwin.domain.repository.post.SqlStatementCollector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfiguration.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostQueryPlanTest {
+
+    private static final int MEMBER_COUNT = 200;
+    private static final int MAIN_CATEGORY_COUNT = 4;
+    private static final int MID_CATEGORY_COUNT = 8;
+    private static final int SUB_CATEGORY_COUNT = 40;
+    private static final int POST_COUNT = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, PAGE_SIZE);
+
+    // 1번 회원은 10번 게시물을 신고했고 3, 4번 소분류를 받고 싶은 재능으로 등록했다 (seed 참고)
+    private static final Long MEMBER_ID = 1L;
+    private static final Long REPORTED_POST_ID = 10L;
+    private static final Long[] TAKEN_TALENT_IDS = {3L, 4L};
+
+    // 페이지의 id 만 정렬해서 읽는 쿼리 (신고 게시물, 개수, 게시물 본문 조회와 구분한다)
+    private static final Predicate<String> ID_QUERY = sql -> sql.contains(" from post ")
+        && sql.contains(" order by ") && !sql.contains(" join ");
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        PostFixture postFixture = new PostFixture(jdbcTemplate);
+
+        List<Object[]> members = new ArrayList<>();
+        for (long id = 1; id <= MEMBER_COUNT; id++) {
+            members.add(new Object[]{id, "member" + id});
+        }
+        postFixture.insertMembers(members);
+
+        List<Object[]> mainCategories = new ArrayList<>();
+        for (long id = 1; id <= MAIN_CATEGORY_COUNT; id++) {
+            mainCategories.add(new Object[]{id, "main" + id});
+        }
+        postFixture.insertMainCategories(mainCategories);
+
+        List<Object[]> midCategories = new ArrayList<>();
+        for (long id = 1; id <= MID_CATEGORY_COUNT; id++) {
+            midCategories.add(new Object[]{id, "mid" + id, mainCategoryId(id)});
+        }
+        postFixture.insertMidCategories(midCategories);
+
+        List<Object[]> subCategories = new ArrayList<>();
+        for (long id = 1; id <= SUB_CATEGORY_COUNT; id++) {
+            subCategories.add(new Object[]{id, "sub" + id, midCategoryId(id)});
+        }
+        postFixture.insertSubCategories(subCategories);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> posts = new ArrayList<>();
+        List<Object[]> likes = new ArrayList<>();
+        List<Object[]> postTalents = new ArrayList<>();
+        for (long id = 1; id <= POST_COUNT; id++) {
+            long subCategoryId = id % SUB_CATEGORY_COUNT + 1;
+            long midCategoryId = midCategoryId(subCategoryId);
+            boolean isShare = id % 2 == 0;
+            posts.add(new Object[]{id, id % MEMBER_COUNT + 1, mainCategoryId(midCategoryId), midCategoryId,
+                subCategoryId, "title" + id, isShare, now.minusMinutes(id)});
+            likes.add(new Object[]{id, (id * 7) % MEMBER_COUNT + 1});
+            if (!isShare) {
+                postTalents.add(new Object[]{id, (id + 1) % SUB_CATEGORY_COUNT + 1});
+            }
+        }
+        postFixture.insertPosts(posts);
+        postFixture.insertLikes(likes);
+        postFixture.insertPostTalents(postTalents);
+
+        List<Object[]> memberTalents = new ArrayList<>();
+        List<Object[]> reports = new ArrayList<>();
+        for (long memberId = 1; memberId <= MEMBER_COUNT; memberId++) {
+            memberTalents.add(new Object[]{memberId, memberId % SUB_CATEGORY_COUNT + 1, "GIVE"});
+            memberTalents.add(new Object[]{memberId, (memberId + 1) % SUB_CATEGORY_COUNT + 1, "TAKE"});
+            memberTalents.add(new Object[]{memberId, (memberId + 2) % SUB_CATEGORY_COUNT + 1, "TAKE"});
+            reports.add(new Object[]{memberId, memberId % MEMBER_COUNT + 1, memberId * 10});
+        }
+        postFixture.insertMemberTalents(memberTalents);
+        postFixture.insertReports(reports);
+
+        // 옵티마이저가 실제 분포를 기준으로 인덱스를 고르도록 통계를 갱신한다
+        jdbcTemplate.execute("analyze");
+    }
+
+    @BeforeEach
+    void clearStatements() {
+        SqlStatementCollector.clear();
+    }
+
+    @Test
+    void 조건이_없는_피드는_created_date_인덱스_순서로_읽어_정렬하지_않는다() {
+        postRepository.getAllByIsShareAndCategory(MEMBER_ID, new PostListConditionRequest(false, null, null, null),
+            FIRST_PAGE);
+
+        String plan = explain(capturedSql(ID_QUERY), REPORTED_POST_ID, PAGE_SIZE);
+
+        assertThat(plan).contains("idx_post_created_date_id").contains("/* index sorted */");
+        assertNoTableScan(plan);
+    }
+
+    @Test
+    void 재능_나눔_피드는_is_share_인덱스로_range_scan_한다() {
+        postRepository.getSliceByIsShareAndCategory(MEMBER_ID, new PostListConditionRequest(true, null, null, null),
+            FIRST_PAGE);
+
+        String plan = explain(capturedSql(ID_QUERY), true, REPORTED_POST_ID, PAGE_SIZE + 1);
+
+        assertThat(plan).contains("idx_post_is_share_created_date_id");
+        assertRangeScan(plan, "is_share");
+    }
+
+    // H2 가 정렬 생략을 표시하지 않으므로 (클래스 주석 참고) 인덱스로 범위를 좁히는지만 확인한다
+    @ParameterizedTest
+    @ValueSource(strings = {"main_category_id", "mid_category_id", "sub_category_id"})
+    void 카테고리별_피드는_카테고리_인덱스로_range_scan_한다(String column) {
+        postRepository.getAllByIsShareAndCategory(MEMBER_ID, categoryCondition(false, column, 1L), FIRST_PAGE);
+        String plan = explain(capturedSql(ID_QUERY), 1L, REPORTED_POST_ID, PAGE_SIZE);
+
+        SqlStatementCollector.clear();
+        postRepository.getAllByIsShareAndCategory(MEMBER_ID, categoryCondition(true, column, 1L), FIRST_PAGE);
+        String shareOnlyPlan = explain(capturedSql(ID_QUERY), true, 1L, REPORTED_POST_ID, PAGE_SIZE);
+
+        String index = "idx_post_" + column + "_created_date_id";
+        assertThat(plan).contains(index);
+        assertRangeScan(plan, column);
+        assertThat(shareOnlyPlan).contains(index);
+        assertRangeScan(shareOnlyPlan, column);
+    }
+
+    @Test
+    void 카테고리별_게시물_수는_카테고리_인덱스만으로_센다() {
+        postRepository.countByIsShareAndCategory(categoryCondition(false, "sub_category_id", 1L));
+
+        String plan = explain(capturedSql(sql -> sql.startsWith("select count(")), 1L);
+
+        assertThat(plan).contains("idx_post_sub_category_id_created_date_id");
+        assertRangeScan(plan, "sub_category_id");
+    }
+
+    @Test
+    void 페이지의_게시물은_id_로_작성자와_소분류와_함께_조회한다() {
+        Page<Post> posts = postRepository.getAllByIsShareAndCategory(MEMBER_ID,
+            new PostListConditionRequest(false, null, null, null), FIRST_PAGE);
+
+        String plan = explain(capturedSql(sql -> sql.contains(" inner join member ")),
+            posts.getContent().stream().map(Post::getId).toArray());
+
+        assertRangeScan(plan, "id");
+    }
+
+    @Test
+    void 회원별_게시물은_member_id_인덱스로_range_scan_하고_좋아요_수는_post_id_로_센다() {
+        postRepository.getAllByMemberId(MEMBER_ID, FIRST_PAGE);
+
+        String plan = explain(capturedSql(sql -> sql.contains(" left outer join sub_category ")),
+            MEMBER_ID, PAGE_SIZE);
+
+        assertRangeScan(plan, "member_id");
+        assertRangeScan(plan, "post_id");
+    }
+
+    @Test
+    void 회원별_게시물의_받고_싶은_재능은_post_id_로_조회한다() {
+        Page<MyPagePostDto> posts = postRepository.getAllByMemberId(MEMBER_ID, FIRST_PAGE);
+
+        String plan = explain(capturedSql(sql -> sql.contains(" from post_talent ")),
+            posts.getContent().stream().map(MyPagePostDto::id).toArray());
+
+        assertRangeScan(plan, "post_id");
+    }
+
+    @Test
+    void 회원별_게시물_수는_member_id_인덱스만으로_센다() {
+        postRepository.countByMemberId(MEMBER_ID);
+
+        String plan = explain(capturedSql(sql -> sql.startsWith("select count(")), MEMBER_ID);
+
+        assertThat(plan).contains("idx_post_member_id_created_date_id");
+        assertRangeScan(plan, "member_id");
+    }
+
+    @Test
+    void 받고_싶은_재능은_member_talent_인덱스만으로_조회한다() {
+        postRepository.getAllByMemberTalents(MEMBER_ID, new PostCustomizedConditionRequest(null), FIRST_PAGE);
+
+        String plan = explain(capturedSql(sql -> sql.contains(" from member_talent ")), MEMBER_ID, "TAKE");
+
+        assertThat(plan).contains("idx_member_talent_member_id_type_talent_id");
+        assertRangeScan(plan, "member_id");
+    }
+
+    @Test
+    void 받고_싶은_재능_피드는_소분류_인덱스로_range_scan_한다() {
+        postRepository.getAllByMemberTalents(MEMBER_ID, new PostCustomizedConditionRequest(null), FIRST_PAGE);
+
+        String plan = explain(capturedSql(ID_QUERY),
+            MEMBER_ID, TAKEN_TALENT_IDS[0], TAKEN_TALENT_IDS[1], REPORTED_POST_ID, PAGE_SIZE);
+
+        assertRangeScan(plan, "sub_category_id");
+    }
+
+    @Test
+    void 신고한_게시물_id_는_report_인덱스만으로_조회한다() {
+        postRepository.getAllByIsShareAndCategory(MEMBER_ID, new PostListConditionRequest(false, null, null, null),
+            FIRST_PAGE);
+
+        String plan = explain(capturedSql(sql -> sql.contains(" from report ")), MEMBER_ID, "POST");
+
+        assertThat(plan).contains("idx_report_reporter_id_type_type_id");
+        assertRangeScan(plan, "reporter_id");
+    }
+
+    @Test
+    void 좋아요_여부는_likes_인덱스로_조회한다() {
+        postRepository.hasLikeByMemberId(1L, MEMBER_ID);
+
+        String plan = explain(capturedSql(sql -> sql.contains(" from likes ")), MEMBER_ID, 1L);
+
+        assertThat(plan).contains("idx_likes_post_id_member_id");
+        assertRangeScan(plan, "post_id");
+    }
+
+    // repository 메서드를 실행하는 동안 Hibernate 가 만든 SQL 중 조건에 맞는 하나를 찾는다
+    private String capturedSql(Predicate<String> filter) {
+        List<String> statements = SqlStatementCollector.statements().stream()
+            .filter(filter)
+            .toList();
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    // H2 는 식별자를 따옴표로 감싸 출력하므로 비교하기 쉽도록 따옴표를 지우고 소문자로 바꾼다
+    private String explain(String sql, Object... args) {
+        assertThat(StringUtils.countOccurrencesOf(sql, "?")).as(sql).isEqualTo(args.length);
+        String plan = jdbcTemplate.queryForObject("explain " + sql, String.class, args);
+        return plan.replace("\"", "").toLowerCase(Locale.ROOT);
+    }
+
+    // 인덱스 조건은 /* public.{index}: {column} = ?1 */ 형태로 출력된다
+    private void assertRangeScan(String plan, String column) {
+        assertThat(plan).containsPattern("/\\* public\\.[a-z0-9_]+: [^*]*\\b" + column + " (=|in\\()");
+        assertNoTableScan(plan);
+    }
+
+    private void assertNoTableScan(String plan) {
+        assertThat(plan).doesNotContain("tablescan");
+    }
+
+    private PostListConditionRequest categoryCondition(boolean isShare, String column, Long categoryId) {
+        return switch (column) {
+            case "main_category_id" -> new PostListConditionRequest(isShare, categoryId, null, null);
+            case "mid_category_id" -> new PostListConditionRequest(isShare, null, categoryId, null);
+            default -> new PostListConditionRequest(isShare, null, null, categoryId);
+        };
+    }
+
+    private long mainCategoryId(long midCategoryId) {
+        return (midCategoryId - 1) % MAIN_CATEGORY_COUNT + 1;
+    }
+
+    private long midCategoryId(long subCategoryId) {
+        return (subCategoryId - 1) % MID_CATEGORY_COUNT + 1;
+    }
+}
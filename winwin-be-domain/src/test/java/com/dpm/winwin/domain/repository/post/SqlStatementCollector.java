@@ -0,0 +1,28 @@
+package com.dpm.winwin.domain.repository.post;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 그대로 모아 두는 StatementInspector.
+ * hibernate.session_factory.statement_inspector 에 클래스 이름으로 등록하면 Hibernate 가 직접 생성하므로 public 이어야 한다.
+ */
+public class SqlStatementCollector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,33 @@
+package com.dpm.winwin.loadtest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.util.Date;
+
+/**
+ * API 서버의 TokenProvider 와 같은 형식으로 부하 테스트용 access token 을 만든다.
+ */
+public class AccessTokenFactory {
+
+    private static final long VALIDITY_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final Key key;
+
+    public AccessTokenFactory(String secret) {
+        this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+
+    public String create(long memberId) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+            .setIssuedAt(new Date(now))
+            .setSubject("loadtest-" + memberId)
+            .claim("memberId", memberId)
+            .signWith(key, SignatureAlgorithm.HS512)
+            .setExpiration(new Date(now + VALIDITY_MILLIS))
+            .compact();
+    }
+}
@@ -0,0 +1,138 @@
+package com.dpm.winwin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 서버에 접속한 하나의 세션.
+ * 보낸 메시지의 content 에 전송 시각(nanoTime)을 담고, 다른 회원의 메시지를 받으면 전송-수신 지연을 기록한다.
+ * 송신자와 수신자가 같은 JVM 에 있으므로 nanoTime 을 그대로 비교할 수 있다.
+ */
+public class ChatLoadClient implements WebSocket.Listener {
+
+    private static final String LATENCY_PREFIX = "lt:";
+    private static final String HEARTBEAT = "{\"type\":\"HEARTBEAT\"}";
+
+    private final long memberId;
+    private final LoadReport report;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+    private final StringBuilder partial = new StringBuilder();
+
+    private WebSocket webSocket;
+    private CompletableFuture<WebSocket> lastSend;
+
+    public ChatLoadClient(long memberId, LoadReport report, ObjectMapper objectMapper) {
+        this.memberId = memberId;
+        this.report = report;
+        this.objectMapper = objectMapper;
+    }
+
+    public CompletableFuture<WebSocket> connect(HttpClient httpClient, URI uri, String accessToken) {
+        long start = System.nanoTime();
+        return httpClient.newWebSocketBuilder()
+            .header("Cookie", "access_token=" + accessToken)
+            .buildAsync(uri, this)
+            .whenComplete((connected, e) -> {
+                if (e != null) {
+                    report.recordConnectFailure();
+                    return;
+                }
+                report.recordConnect(System.nanoTime() - start);
+            });
+    }
+
+    @Override
+    public void onOpen(WebSocket webSocket) {
+        synchronized (this) {
+            this.webSocket = webSocket;
+            this.lastSend = CompletableFuture.completedFuture(webSocket);
+        }
+        webSocket.request(1);
+    }
+
+    public void sendMessage(long roomId) {
+        String frame = "{\"type\":\"MESSAGE\",\"clientMessageId\":\"" + sequence.incrementAndGet()
+            + "\",\"roomId\":" + roomId + ",\"content\":\"" + LATENCY_PREFIX + System.nanoTime() + "\"}";
+        if (send(frame)) {
+            report.recordSent();
+        }
+    }
+
+    public void sendHeartbeat() {
+        send(HEARTBEAT);
+    }
+
+    // JDK WebSocket 은 이전 전송이 끝나기 전에 다시 보낼 수 없으므로 전송을 이어 붙인다
+    private synchronized boolean send(String frame) {
+        if (webSocket == null || webSocket.isOutputClosed()) {
+            return false;
+        }
+        lastSend = lastSend
+            .thenCompose(ws -> ws.sendText(frame, true))
+            .exceptionally(e -> {
+                report.recordSendFailure();
+                return webSocket;
+            });
+        return true;
+    }
+
+    @Override
+    public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+        partial.append(data);
+        if (last) {
+            handle(partial.toString());
+            partial.setLength(0);
+        }
+        webSocket.request(1);
+        return null;
+    }
+
+    @Override
+    public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+        report.recordClose(statusCode);
+        return null;
+    }
+
+    @Override
+    public void onError(WebSocket webSocket, Throwable error) {
+        report.recordClose(-1);
+    }
+
+    public void close() {
+        WebSocket current;
+        synchronized (this) {
+            current = webSocket;
+        }
+        if (current != null && !current.isOutputClosed()) {
+            current.sendClose(WebSocket.NORMAL_CLOSURE, "");
+        }
+    }
+
+    private void handle(String frame) {
+        long receivedAt = System.nanoTime();
+        try {
+            JsonNode node = objectMapper.readTree(frame);
+            String type = node.path("type").asText();
+            if ("ACK".equals(type)) {
+                report.recordAck();
+            } else if ("MESSAGE".equals(type)) {
+                String content = node.path("content").asText();
+                if (node.path("senderId").asLong() != memberId && content.startsWith(LATENCY_PREFIX)) {
+                    long sentAt = Long.parseLong(content.substring(LATENCY_PREFIX.length()));
+                    report.recordLatency(receivedAt - sentAt);
+                }
+            } else if (node.has("code")) {
+                report.recordError();
+            }
+        } catch (Exception e) {
+            report.recordError();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.dpm.winwin.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메시지 라우팅은 실제 chat_room 의 참여자를 검증하므로 이미 존재하는 채팅방을 부하 대상으로 사용한다.
+ */
+public class ChatRoomLoader {
+
+    private static final String SELECT_ROOMS = """
+        select id, member_id, guest_id
+        from chat_room
+        where member_id is not null and guest_id is not null
+        order by id
+        limit ?
+        """;
+
+    public List<ChatRoom> load(LoadTestConfig config) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(
+                config.jdbcUrl(), config.jdbcUsername(), config.jdbcPassword());
+             PreparedStatement statement = connection.prepareStatement(SELECT_ROOMS)) {
+            statement.setInt(1, config.rooms());
+            List<ChatRoom> rooms = new ArrayList<>();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rooms.add(new ChatRoom(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3)));
+                }
+            }
+            return rooms;
+        }
+    }
+
+    public record ChatRoom(long roomId, long hostId, long guestId) {
+
+    }
+}
@@ -0,0 +1,147 @@
+package com.dpm.winwin.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * 전송-수신 지연과 연결 수립 시간을 HdrHistogram 으로 기록하고,
+ * 서버 actuator 에서 전송 대기열과 저장 대기열 크기를 함께 조회해 출력한다.
+ */
+public class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final String[] SERVER_METRICS = {
+        "chat.sessions", "chat.outbound.buffer.max", "chat.outbound.buffer.total", "chat.persistence.queue"
+    };
+
+    private final Recorder latencyRecorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram totalLatency = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final Histogram connectLatency = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder acked = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final double[] serverMetricMax = new double[SERVER_METRICS.length];
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String actuatorUrl;
+    private final PrintStream out;
+
+    public LoadReport(HttpClient httpClient, ObjectMapper objectMapper, String actuatorUrl, PrintStream out) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.actuatorUrl = actuatorUrl;
+        this.out = out;
+    }
+
+    public void recordLatency(long nanos) {
+        latencyRecorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+        received.increment();
+    }
+
+    public synchronized void recordConnect(long nanos) {
+        connectLatency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void recordConnectFailure() {
+        connectFailures.increment();
+    }
+
+    public void recordSent() {
+        sent.increment();
+    }
+
+    public void recordAck() {
+        acked.increment();
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public void recordSendFailure() {
+        sendFailures.increment();
+    }
+
+    public void recordClose(int statusCode) {
+        closed.increment();
+    }
+
+    public synchronized void printConnectSummary(int sessions, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        out.printf("연결 %d 개 / 실패 %d 개, %.1f 초 (%.1f conn/s)%n",
+            connectLatency.getTotalCount(), connectFailures.sum(), seconds, sessions / seconds);
+        printPercentiles("connect", connectLatency);
+    }
+
+    // 1초마다 호출되어 구간 지연과 서버 대기열 크기를 출력한다
+    public void printInterval(long elapsedSeconds) {
+        Histogram interval = latencyRecorder.getIntervalHistogram();
+        totalLatency.add(interval);
+        out.printf("[%3ds] sent %d, received %d, ack %d, error %d, closed %d | p50 %.2fms p99 %.2fms max %.2fms | %s%n",
+            elapsedSeconds, sent.sum(), received.sum(), acked.sum(), errors.sum(), closed.sum(),
+            millis(interval.getValueAtPercentile(50)), millis(interval.getValueAtPercentile(99)),
+            millis(interval.getMaxValue()), pollServerMetrics());
+    }
+
+    public void printSummary(long durationSeconds) {
+        totalLatency.add(latencyRecorder.getIntervalHistogram());
+        out.printf("%n전송 %d 건 (%.1f msg/s), 수신 %d 건, ack %d 건, 오류 %d 건, 전송 실패 %d 건%n",
+            sent.sum(), (double) sent.sum() / durationSeconds, received.sum(), acked.sum(), errors.sum(),
+            sendFailures.sum());
+        printPercentiles("send-to-receive", totalLatency);
+        StringBuilder server = new StringBuilder("server max :");
+        for (int i = 0; i < SERVER_METRICS.length; i++) {
+            server.append(' ').append(SERVER_METRICS[i]).append('=').append((long) serverMetricMax[i]);
+        }
+        out.println(server);
+    }
+
+    private void printPercentiles(String name, Histogram histogram) {
+        out.printf("%s (ms) p50 %.2f, p90 %.2f, p99 %.2f, p99.9 %.2f, max %.2f%n", name,
+            millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+            millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()));
+    }
+
+    private String pollServerMetrics() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < SERVER_METRICS.length; i++) {
+            double value = fetchMetric(SERVER_METRICS[i]);
+            serverMetricMax[i] = Math.max(serverMetricMax[i], value);
+            result.append(SERVER_METRICS[i]).append('=').append((long) value).append(' ');
+        }
+        return result.toString().trim();
+    }
+
+    private double fetchMetric(String name) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(actuatorUrl + "/metrics/" + name))
+                .timeout(Duration.ofSeconds(1))
+                .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode measurements = objectMapper.readTree(response.body()).path("measurements");
+            return measurements.isEmpty() ? 0 : measurements.get(0).path("value").asDouble();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,128 @@
+package com.dpm.winwin.loadtest;
+
+import com.dpm.winwin.loadtest.ChatRoomLoader.ChatRoom;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * winwin-chat 서버 부하 테스트.
+ * 기존 채팅방의 두 참여자마다 sessions-per-member 개의 세션을 연결하고,
+ * 채팅방마다 messages-per-second 속도로 참여자가 번갈아 메시지를 보낸다.
+ */
+public class LoadTestApplication {
+
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 20;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient httpClient = HttpClient.newHttpClient();
+        LoadReport report = new LoadReport(httpClient, objectMapper, config.actuatorUrl(), System.out);
+        AccessTokenFactory accessTokenFactory = new AccessTokenFactory(config.jwtSecret());
+
+        List<ChatRoom> rooms = new ChatRoomLoader().load(config);
+        System.out.printf("채팅방 %d 개, 회원당 세션 %d 개, 채팅방당 %.1f msg/s, %d 초%n",
+            rooms.size(), config.sessionsPerMember(), config.messagesPerSecond(), config.durationSeconds());
+
+        List<RoomClients> roomClients = connect(config, rooms, httpClient, accessTokenFactory, report, objectMapper);
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()));
+        long periodMicros = (long) (1_000_000 / config.messagesPerSecond());
+        for (RoomClients room : roomClients) {
+            // 모든 채팅방이 같은 시점에 보내지 않도록 시작 시각을 분산한다
+            long initialDelay = (long) (Math.random() * periodMicros);
+            scheduler.scheduleAtFixedRate(room::sendNext, initialDelay, periodMicros, TimeUnit.MICROSECONDS);
+            scheduler.scheduleAtFixedRate(room::sendHeartbeat,
+                HEARTBEAT_INTERVAL_SECONDS, HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        }
+
+        for (long second = 1; second <= config.durationSeconds(); second++) {
+            TimeUnit.SECONDS.sleep(1);
+            report.printInterval(second);
+        }
+        scheduler.shutdownNow();
+        // 전송 중인 메시지가 도착할 때까지 잠시 기다린다
+        TimeUnit.SECONDS.sleep(2);
+        report.printSummary(config.durationSeconds());
+
+        roomClients.forEach(RoomClients::close);
+        System.exit(0);
+    }
+
+    private static List<RoomClients> connect(LoadTestConfig config, List<ChatRoom> rooms, HttpClient httpClient,
+                                             AccessTokenFactory accessTokenFactory, LoadReport report,
+                                             ObjectMapper objectMapper) {
+        URI uri = URI.create(config.chatUrl());
+        long intervalNanos = 1_000_000_000L / config.connectionsPerSecond();
+        List<CompletableFuture<?>> connections = new ArrayList<>();
+        List<RoomClients> roomClients = new ArrayList<>(rooms.size());
+
+        long start = System.nanoTime();
+        long next = start;
+        for (ChatRoom room : rooms) {
+            RoomClients clients = new RoomClients(room.roomId());
+            for (long memberId : new long[]{room.hostId(), room.guestId()}) {
+                String accessToken = accessTokenFactory.create(memberId);
+                for (int i = 0; i < config.sessionsPerMember(); i++) {
+                    LockSupport.parkNanos(next - System.nanoTime());
+                    next += intervalNanos;
+                    ChatLoadClient client = new ChatLoadClient(memberId, report, objectMapper);
+                    clients.add(memberId, client);
+                    connections.add(client.connect(httpClient, uri, accessToken));
+                }
+            }
+            roomClients.add(clients);
+        }
+        CompletableFuture.allOf(connections.toArray(CompletableFuture[]::new))
+            .exceptionally(e -> null)
+            .join();
+        report.printConnectSummary(connections.size(), System.nanoTime() - start);
+        return roomClients;
+    }
+
+    private static class RoomClients {
+
+        private final long roomId;
+        private final List<ChatLoadClient> hostClients = new ArrayList<>();
+        private final List<ChatLoadClient> guestClients = new ArrayList<>();
+        private Long hostId;
+        private int turn;
+
+        private RoomClients(long roomId) {
+            this.roomId = roomId;
+        }
+
+        private void add(long memberId, ChatLoadClient client) {
+            if (hostId == null) {
+                hostId = memberId;
+            }
+            (hostId == memberId ? hostClients : guestClients).add(client);
+        }
+
+        private void sendNext() {
+            List<ChatLoadClient> senders = (turn++ & 1) == 0 ? hostClients : guestClients;
+            if (!senders.isEmpty()) {
+                senders.get(0).sendMessage(roomId);
+            }
+        }
+
+        private void sendHeartbeat() {
+            hostClients.forEach(ChatLoadClient::sendHeartbeat);
+            guestClients.forEach(ChatLoadClient::sendHeartbeat);
+        }
+
+        private void close() {
+            hostClients.forEach(ChatLoadClient::close);
+            guestClients.forEach(ChatLoadClient::close);
+        }
+    }
+}
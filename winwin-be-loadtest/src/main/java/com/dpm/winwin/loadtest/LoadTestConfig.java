@@ -0,0 +1,45 @@
+package com.dpm.winwin.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * --key=value 형식의 실행 인자로 부하 조건을 지정한다.
+ */
+public record LoadTestConfig(
+    String chatUrl,
+    String actuatorUrl,
+    String jwtSecret,
+    String jdbcUrl,
+    String jdbcUsername,
+    String jdbcPassword,
+    int rooms,
+    int sessionsPerMember,
+    double messagesPerSecond,
+    int connectionsPerSecond,
+    int durationSeconds
+) {
+
+    public static LoadTestConfig from(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int separator = arg.indexOf('=');
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return new LoadTestConfig(
+            options.getOrDefault("chat-url", "ws://localhost:8081/api/v1/chat"),
+            options.getOrDefault("actuator-url", "http://localhost:8091/actuator"),
+            options.getOrDefault("jwt-secret", System.getenv("JWT_SECRET")),
+            options.getOrDefault("jdbc-url", System.getenv("DB_URL")),
+            options.getOrDefault("jdbc-username", System.getenv("DB_USERNAME")),
+            options.getOrDefault("jdbc-password", System.getenv("DB_PASSWORD")),
+            Integer.parseInt(options.getOrDefault("rooms", "100")),
+            Integer.parseInt(options.getOrDefault("sessions-per-member", "1")),
+            Double.parseDouble(options.getOrDefault("messages-per-second", "1")),
+            Integer.parseInt(options.getOrDefault("connections-per-second", "200")),
+            Integer.parseInt(options.getOrDefault("duration-seconds", "60"))
+        );
+    }
+}